@@ -1,17 +1,22 @@
 package numble.team4.shortformserver.aws.application;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.amazonaws.util.IOUtils;
-import java.io.ByteArrayInputStream;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.aws.dto.S3StagedFile;
 import numble.team4.shortformserver.aws.dto.S3UploadDto;
 import numble.team4.shortformserver.aws.exception.AmazonClientException;
 import numble.team4.shortformserver.aws.exception.NotExistFileException;
@@ -24,7 +29,11 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class AmazonS3Uploader {
 
+    private static final String SPILL_FILE_PREFIX = "s3-upload-";
+
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
+    private final S3UploadMetrics s3UploadMetrics;
 
     @Value("${cloudfront.url}")
     private String cloudfrontUrl;
@@ -32,6 +41,9 @@ public class AmazonS3Uploader {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.aws.s3.upload.spill-threshold:33554432}")
+    private long spillThreshold;
+
     public void deleteToS3(String url) {
         if (!url.contains(cloudfrontUrl)) {
             return;
@@ -44,39 +56,107 @@ public class AmazonS3Uploader {
     public S3UploadDto saveToS3(MultipartFile file, String dirName) {
         validateFileExist(file);
 
-        String key = dirName + "/" + UUID.randomUUID() + "_" + file.getName();
-        return convertFile(file, key);
+        if (file.getSize() >= spillThreshold) {
+            S3StagedFile stagedFile = stage(file, dirName);
+            try {
+                saveToS3(stagedFile);
+            } finally {
+                discard(stagedFile);
+            }
+            return new S3UploadDto(stagedFile.getKey(), stagedFile.getFileUrl());
+        }
+
+        String key = createKey(file, dirName);
+        uploadFromStream(file, key);
+        return new S3UploadDto(key, cloudfrontUrl + key);
     }
 
-    private S3UploadDto convertFile(MultipartFile file, String key) {
+    // 요청이 끝나도 업로드를 이어갈 수 있도록 파일을 디스크로 옮기고 저장될 위치를 미리 정한다
+    public S3StagedFile stage(MultipartFile file, String dirName) {
+        validateFileExist(file);
+
+        String key = createKey(file, dirName);
+        Path spillFile = stagedPath(key);
         try {
-            InputStream inputStream = file.getInputStream();
+            file.transferTo(spillFile);
+            return new S3StagedFile(key, cloudfrontUrl + key, spillFile, file.getContentType(), file.getSize());
+        } catch (IOException e) {
+            deleteSpillFile(spillFile);
+            throw new NotExistFileException();
+        }
+    }
+
+    // 큰 파일은 파트 단위로 병렬 업로드된다
+    public void saveToS3(S3StagedFile stagedFile) {
+        ObjectMetadata objectMetadata = createMetadata(stagedFile.getSize(), stagedFile.getContentType());
+        putS3(new PutObjectRequest(bucket, stagedFile.getKey(), stagedFile.getPath().toFile())
+            .withMetadata(objectMetadata), stagedFile.getSize());
+    }
+
+    public void discard(S3StagedFile stagedFile) {
+        deleteSpillFile(stagedFile.getPath());
+    }
+
+    // 서버가 업로드 도중 종료되면 임시 파일이 남는다. 임시 파일 이름은 저장될 위치에서 정해지므로 url 만으로 찾아 지울 수 있다
+    public void discardStaged(String url) {
+        if (!url.contains(cloudfrontUrl)) {
+            return;
+        }
+        String key = url.substring(cloudfrontUrl.length());
 
-            byte[] bytes = IOUtils.toByteArray(inputStream);
+        deleteSpillFile(stagedPath(key));
+    }
 
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(bytes.length);
-            objectMetadata.setContentType(file.getContentType());
+    private String createKey(MultipartFile file, String dirName) {
+        return dirName + "/" + UUID.randomUUID() + "_" + file.getName();
+    }
 
-            ByteArrayInputStream uploadFile = new ByteArrayInputStream(bytes);
+    private Path stagedPath(String key) {
+        String fileName = SPILL_FILE_PREFIX + UUID.nameUUIDFromBytes(key.getBytes(UTF_8));
+        return Paths.get(System.getProperty("java.io.tmpdir")).resolve(fileName);
+    }
 
-            putS3(key, objectMetadata, uploadFile);
+    private ObjectMetadata createMetadata(long size, String contentType) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(size);
+        objectMetadata.setContentType(contentType);
+        return objectMetadata;
+    }
 
-            return new S3UploadDto(key, cloudfrontUrl + key);
-        } catch (IOException e){
+    private void uploadFromStream(MultipartFile file, String key) {
+        ObjectMetadata objectMetadata = createMetadata(file.getSize(), file.getContentType());
+        try (InputStream inputStream = file.getInputStream()) {
+            putS3(new PutObjectRequest(bucket, key, inputStream, objectMetadata), file.getSize());
+        } catch (IOException e) {
             throw new NotExistFileException();
         }
     }
 
-    private void putS3(String key, ObjectMetadata objectMetadata,
-        ByteArrayInputStream uploadFile) {
+    private void putS3(PutObjectRequest putObjectRequest, long size) {
+        s3UploadMetrics.start(size);
+        boolean succeeded = false;
         try {
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, uploadFile,
-                objectMetadata);
-            amazonS3Client.putObject(
-                putObjectRequest.withCannedAcl(CannedAccessControlList.PublicRead));
+            transferManager.upload(putObjectRequest.withCannedAcl(CannedAccessControlList.PublicRead))
+                .waitForUploadResult();
+            succeeded = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException();
         } catch (RuntimeException e) {
             throw new AmazonClientException();
+        } finally {
+            s3UploadMetrics.finish(size, succeeded);
+        }
+    }
+
+    private void deleteSpillFile(Path spillFile) {
+        if (Objects.isNull(spillFile)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spillFile);
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일을 삭제하지 못했습니다. path={}", spillFile, e);
         }
     }
 
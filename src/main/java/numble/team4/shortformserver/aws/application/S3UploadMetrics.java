@@ -0,0 +1,52 @@
+package numble.team4.shortformserver.aws.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class S3UploadMetrics implements MeterBinder {
+
+    private final AtomicLong bytesInFlight = new AtomicLong();
+    private final AtomicInteger uploadsInFlight = new AtomicInteger();
+    private final LongAdder uploadedBytes = new LongAdder();
+    private final LongAdder failedUploads = new LongAdder();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("s3.upload.bytes.in-flight", bytesInFlight, AtomicLong::get)
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("s3.upload.in-flight", uploadsInFlight, AtomicInteger::get)
+            .register(registry);
+        FunctionCounter.builder("s3.upload.bytes", uploadedBytes, LongAdder::sum)
+            .baseUnit("bytes")
+            .register(registry);
+        FunctionCounter.builder("s3.upload.failures", failedUploads, LongAdder::sum)
+            .register(registry);
+    }
+
+    public void start(long bytes) {
+        uploadsInFlight.incrementAndGet();
+        bytesInFlight.addAndGet(bytes);
+    }
+
+    public void finish(long bytes, boolean succeeded) {
+        uploadsInFlight.decrementAndGet();
+        bytesInFlight.addAndGet(-bytes);
+        if (succeeded) {
+            uploadedBytes.add(bytes);
+        } else {
+            failedUploads.increment();
+        }
+    }
+
+    public long getBytesInFlight() {
+        return bytesInFlight.get();
+    }
+}
@@ -4,6 +4,9 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +23,15 @@ public class AmazonS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${cloud.aws.s3.upload.part-size:16777216}")
+    private long partSize;
+
+    @Value("${cloud.aws.s3.upload.multipart-threshold:33554432}")
+    private long multipartThreshold;
+
+    @Value("${cloud.aws.s3.upload.part-concurrency:4}")
+    private int partConcurrency;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
@@ -29,4 +41,15 @@ public class AmazonS3Config {
             .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
             .build();
     }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+        return TransferManagerBuilder
+            .standard()
+            .withS3Client(amazonS3Client)
+            .withMinimumUploadPartSize(partSize)
+            .withMultipartUploadThreshold(multipartThreshold)
+            .withExecutorFactory(() -> Executors.newFixedThreadPool(partConcurrency))
+            .build();
+    }
 }
@@ -0,0 +1,16 @@
+package numble.team4.shortformserver.aws.dto;
+
+import java.nio.file.Path;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class S3StagedFile {
+
+    private String key;
+    private String fileUrl;
+    private Path path;
+    private String contentType;
+    private long size;
+}
@@ -0,0 +1,67 @@
+package numble.team4.shortformserver.chat.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChatMessageMetrics implements MeterBinder {
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder persisted = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("chat.message.queued", queued, AtomicInteger::get)
+            .register(registry);
+        FunctionCounter.builder("chat.message.received", received, LongAdder::sum)
+            .register(registry);
+        FunctionCounter.builder("chat.message.persisted", persisted, LongAdder::sum)
+            .register(registry);
+        FunctionCounter.builder("chat.message.batches", batches, LongAdder::sum)
+            .register(registry);
+        FunctionCounter.builder("chat.message.spilled", spilled, LongAdder::sum)
+            .register(registry);
+        FunctionCounter.builder("chat.message.dropped", dropped, LongAdder::sum)
+            .register(registry);
+    }
+
+    public void received(int queueSize) {
+        received.increment();
+        queued.set(queueSize);
+    }
+
+    public void persisted(int count, int queueSize) {
+        persisted.add(count);
+        batches.increment();
+        queued.set(queueSize);
+    }
+
+    public void spilled(int count) {
+        spilled.add(count);
+    }
+
+    public void dropped(int count) {
+        dropped.add(count);
+    }
+
+    public long getPersisted() {
+        return persisted.sum();
+    }
+
+    public long getSpilled() {
+        return spilled.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
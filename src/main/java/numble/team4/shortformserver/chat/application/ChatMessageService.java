@@ -2,22 +2,20 @@ package numble.team4.shortformserver.chat.application;
 
 import lombok.RequiredArgsConstructor;
 import numble.team4.shortformserver.chat.application.dto.ChatMessageResponse;
-import numble.team4.shortformserver.chat.domain.message.ChatMessage;
 import numble.team4.shortformserver.chat.domain.message.ChatMessageRepository;
-import numble.team4.shortformserver.chat.domain.room.ChatRoom;
-import numble.team4.shortformserver.chat.domain.room.ChatRoomRepository;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomMembers;
 import numble.team4.shortformserver.chat.exception.NotExistChatRoomException;
 import numble.team4.shortformserver.chat.ui.dto.ChatMessageRequest;
 import numble.team4.shortformserver.chat.ui.dto.FindChatMessageRequest;
 import numble.team4.shortformserver.member.member.domain.Member;
-import numble.team4.shortformserver.member.member.domain.MemberRepository;
-import numble.team4.shortformserver.member.member.exception.NotExistMemberException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Service
 @Transactional(readOnly = true)
@@ -25,26 +23,33 @@ import java.util.stream.Collectors;
 public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
-    private final ChatRoomRepository chatRoomRepository;
-    private final MemberRepository memberRepository;
-
-    @Transactional
-    public void saveMessage(Long roomId, ChatMessageRequest request) {
-        Member member = memberRepository.findById(request.getUserId())
-                .orElseThrow(NotExistMemberException::new);
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(NotExistChatRoomException::new);
-
-        chatMessageRepository.save(ChatMessage.of(member, chatRoom, request.getMessage()));
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatBrokerRelay chatBrokerRelay;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+
+    // 방 권한은 STOMP 인터셉터가 확인한다. 구독자에게 먼저 전달하고, 엔티티를 읽지 않고 id 만으로 저장을 맡기므로 커넥션을 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void sendMessage(Long roomId, Long memberId, ChatMessageRequest request) {
+        PendingChatMessage message = PendingChatMessage.of(roomId, memberId, request.getMessage());
+        chatBrokerRelay.publish(message);
+        chatRecentMessageCache.append(message);
+        chatMessageWriter.write(message);
     }
 
     public List<ChatMessageResponse> findAllChatMessages(Member member, Long roomId, FindChatMessageRequest request) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
+        ChatRoomMembers members = chatRoomMembershipCache.get(roomId)
                 .orElseThrow(NotExistChatRoomException::new);
-        chatRoom.validateAuthorization(member);
+        members.validateAuthorization(member.getId());
+
+        if (Objects.isNull(request.getMessageId())) {
+            return chatRecentMessageCache.getLatest(roomId, request.getSize())
+                    .orElseGet(() -> searchLastMessages(roomId, request));
+        }
+        return searchLastMessages(roomId, request);
+    }
 
-        return chatMessageRepository.searchLastMessages(request.getMessageId(), chatRoom, Pageable.ofSize(request.getSize())).stream()
-                .map(ChatMessageResponse::from)
-                .collect(Collectors.toList());
+    private List<ChatMessageResponse> searchLastMessages(Long roomId, FindChatMessageRequest request) {
+        return chatMessageRepository.searchLastMessages(request.getMessageId(), roomId, Pageable.ofSize(request.getSize()));
     }
 }
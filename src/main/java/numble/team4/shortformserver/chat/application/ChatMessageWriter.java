@@ -0,0 +1,8 @@
+package numble.team4.shortformserver.chat.application;
+
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+
+public interface ChatMessageWriter {
+
+    void write(PendingChatMessage message);
+}
@@ -0,0 +1,70 @@
+package numble.team4.shortformserver.chat.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import numble.team4.shortformserver.chat.application.dto.ChatMessageResponse;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import numble.team4.shortformserver.member.auth.application.MemberPrincipalCache;
+import numble.team4.shortformserver.member.auth.application.dto.MemberPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 메시지를 보낼 때 작성자 이름까지 채워 방별 링 버퍼에 넣는다.
+// 한동안 메시지를 주고받지 않은 방과, 전체 추정 메모리가 max-memory-bytes 를 넘을 때 오래 쓰지 않은 방부터 비운다.
+// 비워진 방을 DB 에서 다시 채우지 않는 것은 아직 저장되지 않은 메시지가 빠질 수 있기 때문이다
+@Component
+public class ChatRecentMessageCache {
+
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final int capacity;
+    private final Cache<Long, RecentMessageBuffer> rooms;
+
+    public ChatRecentMessageCache(
+        MemberPrincipalCache memberPrincipalCache,
+        @Value("${chat.recent-messages.size:100}") int capacity,
+        @Value("${chat.recent-messages.expire-after-access-ms:600000}") long expireAfterAccessMs,
+        @Value("${chat.recent-messages.max-memory-bytes:67108864}") long maxMemoryBytes) {
+        this.memberPrincipalCache = memberPrincipalCache;
+        this.capacity = capacity;
+        this.rooms = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMillis(expireAfterAccessMs))
+            .maximumWeight(maxMemoryBytes)
+            .weigher((Long roomId, RecentMessageBuffer buffer) -> buffer.weight())
+            .build();
+    }
+
+    // 없는 회원의 메시지는 DB 에도 저장되지 않으므로 캐시에 넣지 않는다
+    public void append(PendingChatMessage message) {
+        Optional<String> userName = memberPrincipalCache.get(message.getMemberId()).map(MemberPrincipal::getName);
+        if (userName.isEmpty()) {
+            return;
+        }
+
+        ChatMessageResponse response = ChatMessageResponse.of(message, userName.get());
+        // compute 로 추가해야 버퍼의 무게가 다시 계산된다
+        rooms.asMap().compute(message.getRoomId(), (roomId, buffer) ->
+            (Objects.isNull(buffer) ? new RecentMessageBuffer(capacity) : buffer).append(response));
+    }
+
+    // 다른 노드에서 온 메시지가 섞인 방은 버퍼가 DB 와 같다고 볼 수 없으므로 한동안 DB 에서 읽게 한다
+    public void markRelayed(Long roomId) {
+        rooms.put(roomId, RecentMessageBuffer.untrusted());
+    }
+
+    // relay 연결이 다시 맺어지면 그 사이 빠진 메시지가 어느 방의 것인지 알 수 없으므로 모든 방을 비운다
+    public void invalidateAll() {
+        rooms.invalidateAll();
+    }
+
+    public Optional<List<ChatMessageResponse>> getLatest(Long roomId, int size) {
+        RecentMessageBuffer buffer = rooms.getIfPresent(roomId);
+        if (Objects.isNull(buffer)) {
+            return Optional.empty();
+        }
+        return buffer.latest(size);
+    }
+}
@@ -0,0 +1,89 @@
+package numble.team4.shortformserver.chat.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomMembers;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomRepository;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 채팅방의 구매자와 판매자는 바뀌지 않으므로 있는 방은 용량에서 밀려날 때까지 두고,
+// 없는 방은 잠깐만 기억해 존재하지 않는 방으로 오는 프레임이 매번 DB 를 조회하지 않게 한다.
+// 방을 만들 때의 evict 는 그 노드에만 닿으므로, 아직 발급되지 않은 id(현재 최대 id 보다 큰 id)는 없는 방으로 기억하지 않는다
+@Component
+public class ChatRoomMembershipCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Cache<Long, Optional<ChatRoomMembers>> rooms;
+    private final AtomicLong maxRoomId = new AtomicLong();
+
+    public ChatRoomMembershipCache(
+        ChatRoomRepository chatRoomRepository,
+        @Value("${chat.room-membership.max-size:100000}") long maxSize,
+        @Value("${chat.room-membership.missing-expire-after-write-ms:10000}") long missingExpireAfterWriteMs) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.rooms = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new MissingRoomExpiry(TimeUnit.MILLISECONDS.toNanos(missingExpireAfterWriteMs)))
+            .build();
+    }
+
+    public Optional<ChatRoomMembers> get(Long roomId) {
+        Optional<ChatRoomMembers> cached = rooms.getIfPresent(roomId);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        // 최대 id 를 방보다 먼저 읽어야 그 사이 다른 노드에서 만들어진 방을 없는 방으로 기억하지 않는다
+        boolean issued = roomId <= maxRoomId.get() || roomId <= refreshMaxRoomId();
+        Optional<ChatRoomMembers> members = chatRoomRepository.findMembersById(roomId);
+        if (members.isPresent() || issued) {
+            rooms.put(roomId, members);
+        }
+        return members;
+    }
+
+    public boolean isMember(Long roomId, Long memberId) {
+        return get(roomId)
+            .map(members -> members.contains(memberId))
+            .orElse(false);
+    }
+
+    public void evict(Long roomId) {
+        AfterCommit.runNowAndAfterCommit(() -> rooms.invalidate(roomId));
+    }
+
+    private long refreshMaxRoomId() {
+        return maxRoomId.accumulateAndGet(chatRoomRepository.findMaxId(), Math::max);
+    }
+
+    private static class MissingRoomExpiry implements Expiry<Long, Optional<ChatRoomMembers>> {
+
+        private final long missingExpireNanos;
+
+        MissingRoomExpiry(long missingExpireNanos) {
+            this.missingExpireNanos = missingExpireNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Long roomId, Optional<ChatRoomMembers> members, long currentTime) {
+            return members.isPresent() ? Long.MAX_VALUE : missingExpireNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long roomId, Optional<ChatRoomMembers> members, long currentTime, long currentDuration) {
+            return expireAfterCreate(roomId, members, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long roomId, Optional<ChatRoomMembers> members, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -25,13 +25,16 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final MemberRepository memberRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     @Transactional
     public void createChatRoom(Member buyer, Long sellerId) {
         Member seller = memberRepository.findById(sellerId)
                 .orElseThrow(NotExistMemberException::new);
-        chatRoomRepository.findExactlyMatchRoom(buyer, seller)
+        ChatRoom chatRoom = chatRoomRepository.findExactlyMatchRoom(buyer, seller)
                         .orElseGet(() -> chatRoomRepository.save(ChatRoom.of(buyer, seller)));
+        // 생성 전에 조회되어 없는 방으로 기억된 id 를 지운다
+        chatRoomMembershipCache.evict(chatRoom.getId());
     }
 
     public CommonResponse<List<ChatRoomResponse>> findChatRooms(Member member, Pageable pageable) {
@@ -0,0 +1,43 @@
+package numble.team4.shortformserver.chat.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChatSessionMetrics implements MeterBinder {
+
+    private final AtomicInteger open = new AtomicInteger();
+    private final LongAdder evicted = new LongAdder();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("chat.session.open", open, AtomicInteger::get)
+            .register(registry);
+        FunctionCounter.builder("chat.session.evicted", evicted, LongAdder::sum)
+            .register(registry);
+    }
+
+    public void opened() {
+        open.incrementAndGet();
+    }
+
+    public void closed(boolean slowConsumer) {
+        open.decrementAndGet();
+        if (slowConsumer) {
+            evicted.increment();
+        }
+    }
+
+    public int getOpen() {
+        return open.get();
+    }
+
+    public long getEvicted() {
+        return evicted.sum();
+    }
+}
@@ -0,0 +1,76 @@
+package numble.team4.shortformserver.chat.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import numble.team4.shortformserver.chat.application.dto.ChatMessageResponse;
+
+// 방마다 최근 메시지를 capacity 개까지 보관하는 링 버퍼.
+// 이 노드에서 보낸 메시지만 오가는 방이라면 버퍼가 만들어진 뒤의 메시지를 빠짐없이 담으므로 가진 개수 안의 최신 페이지는 DB 와 같다.
+// 다른 노드의 메시지는 relay 에서 빠지거나 DB 의 id 와 다른 순서로 도착할 수 있으므로 그런 방은 untrusted 로 두고 DB 에서 읽는다
+class RecentMessageBuffer {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ChatMessageResponse[] messages;
+    private final boolean trusted;
+    private int head;
+    private int count;
+    private int weight;
+
+    RecentMessageBuffer(int capacity) {
+        this(capacity, true);
+    }
+
+    private RecentMessageBuffer(int capacity, boolean trusted) {
+        this.messages = new ChatMessageResponse[capacity];
+        this.trusted = trusted;
+        this.weight = trusted ? 0 : ENTRY_OVERHEAD_BYTES;
+    }
+
+    static RecentMessageBuffer untrusted() {
+        return new RecentMessageBuffer(0, false);
+    }
+
+    synchronized RecentMessageBuffer append(ChatMessageResponse message) {
+        if (!trusted) {
+            return this;
+        }
+
+        ChatMessageResponse overwritten = messages[head];
+        if (Objects.nonNull(overwritten)) {
+            weight -= weightOf(overwritten);
+        }
+        messages[head] = message;
+        weight += weightOf(message);
+        head = (head + 1) % messages.length;
+        count = Math.min(count + 1, messages.length);
+        return this;
+    }
+
+    // 요청한 개수를 모두 갖고 있을 때만 최신순으로 돌려준다
+    synchronized Optional<List<ChatMessageResponse>> latest(int size) {
+        if (!trusted || size > count) {
+            return Optional.empty();
+        }
+
+        List<ChatMessageResponse> latest = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            latest.add(messages[Math.floorMod(head - i, messages.length)]);
+        }
+        return Optional.of(latest);
+    }
+
+    synchronized int weight() {
+        return weight;
+    }
+
+    private static int weightOf(ChatMessageResponse message) {
+        return ENTRY_OVERHEAD_BYTES + 2 * (length(message.getContent()) + length(message.getUserName()));
+    }
+
+    private static int length(String value) {
+        return Objects.isNull(value) ? 0 : value.length();
+    }
+}
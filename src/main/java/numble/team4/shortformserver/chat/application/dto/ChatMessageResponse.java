@@ -3,7 +3,7 @@ package numble.team4.shortformserver.chat.application.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import numble.team4.shortformserver.chat.domain.message.ChatMessage;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
 
 import java.time.LocalDateTime;
 
@@ -17,12 +17,12 @@ public class ChatMessageResponse {
     private String content;
     private LocalDateTime createAt;
 
-    public static ChatMessageResponse from(ChatMessage chatMessage) {
+    public static ChatMessageResponse of(PendingChatMessage message, String userName) {
         return new ChatMessageResponse(
-                chatMessage.getMember().getId(),
-                chatMessage.getMember().getName(),
-                chatMessage.getMessage(),
-                chatMessage.getCreateAt()
+                message.getMemberId(),
+                userName,
+                message.getMessage(),
+                message.getCreatedAt()
         );
     }
 }
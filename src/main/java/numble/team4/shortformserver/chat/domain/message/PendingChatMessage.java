@@ -0,0 +1,24 @@
+package numble.team4.shortformserver.chat.domain.message;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 아직 DB 에 저장되지 않은 채팅 메시지. 엔티티를 읽지 않고 id 로만 참조한다
+@Getter
+@NoArgsConstructor(access = PRIVATE)
+@AllArgsConstructor(access = PRIVATE)
+public class PendingChatMessage {
+
+    private Long roomId;
+    private Long memberId;
+    private String message;
+    private LocalDateTime createdAt;
+
+    public static PendingChatMessage of(Long roomId, Long memberId, String message) {
+        return new PendingChatMessage(roomId, memberId, message, LocalDateTime.now());
+    }
+}
@@ -4,7 +4,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import numble.team4.shortformserver.common.domain.BaseTimeEntity;
 import numble.team4.shortformserver.member.member.domain.Member;
-import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
 
 import javax.persistence.*;
 
@@ -34,12 +33,6 @@ public class ChatRoom extends BaseTimeEntity {
         this.seller = seller;
     }
 
-    public void validateAuthorization(Member member) {
-        if (!(buyer.equals(member) || seller.equals(member))) {
-            throw new NoAccessPermissionException();
-        }
-    }
-
     public static ChatRoom of(Member buyer, Member seller) {
         return new ChatRoom(buyer, seller);
     }
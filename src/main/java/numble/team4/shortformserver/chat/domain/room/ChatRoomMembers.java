@@ -0,0 +1,27 @@
+package numble.team4.shortformserver.chat.domain.room;
+
+import java.util.Objects;
+import lombok.Getter;
+import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
+
+@Getter
+public class ChatRoomMembers {
+
+    private final Long buyerId;
+    private final Long sellerId;
+
+    public ChatRoomMembers(Long buyerId, Long sellerId) {
+        this.buyerId = buyerId;
+        this.sellerId = sellerId;
+    }
+
+    public boolean contains(Long memberId) {
+        return Objects.equals(buyerId, memberId) || Objects.equals(sellerId, memberId);
+    }
+
+    public void validateAuthorization(Long memberId) {
+        if (!contains(memberId)) {
+            throw new NoAccessPermissionException();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package numble.team4.shortformserver.chat.infrastructure.message;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.chat.application.ChatMessageMetrics;
+import numble.team4.shortformserver.chat.application.ChatMessageWriter;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 메시지를 메모리 큐에 모았다가 batch-size 개가 쌓이거나 flush-interval-ms 가 지나면 JDBC batch 로 저장한다.
+// 큐가 가득 차거나 DB 에 쓰지 못한 메시지는 파일에 남기고 DB 가 살아나면 다시 저장한다
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "chat.write-behind.enabled", havingValue = "true", matchIfMissing = true)
+public class BufferedChatMessageWriter implements ChatMessageWriter {
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatMessageSpillFile chatMessageSpillFile;
+    private final ChatMessageMetrics chatMessageMetrics;
+    private final Executor chatMessageFlushExecutor;
+    private final BlockingQueue<PendingChatMessage> queue;
+    private final int batchSize;
+    private final long offerTimeoutMs;
+    private final long replayIntervalMs;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private long nextReplayAt;
+
+    public BufferedChatMessageWriter(
+        ChatMessageJdbcRepository chatMessageJdbcRepository,
+        ChatMessageSpillFile chatMessageSpillFile,
+        ChatMessageMetrics chatMessageMetrics,
+        @Qualifier("chatMessageFlushExecutor") Executor chatMessageFlushExecutor,
+        @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+        @Value("${chat.write-behind.batch-size:500}") int batchSize,
+        @Value("${chat.write-behind.offer-timeout-ms:50}") long offerTimeoutMs,
+        @Value("${chat.write-behind.replay-interval-ms:10000}") long replayIntervalMs) {
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatMessageSpillFile = chatMessageSpillFile;
+        this.chatMessageMetrics = chatMessageMetrics;
+        this.chatMessageFlushExecutor = chatMessageFlushExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.replayIntervalMs = replayIntervalMs;
+    }
+
+    @Override
+    public void write(PendingChatMessage message) {
+        boolean queued = offer(message);
+        chatMessageMetrics.received(queue.size());
+        if (!queued) {
+            spill(List.of(message));
+            return;
+        }
+
+        if (queue.size() >= batchSize) {
+            chatMessageFlushExecutor.execute(this::flush);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushQueue();
+            replaySpilled();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flushLock.lock();
+        try {
+            flushQueue();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 큐가 가득 차면 인바운드 스레드를 잠시 붙잡아 보내는 속도를 늦춘다
+    private boolean offer(PendingChatMessage message) {
+        try {
+            return queue.offer(message, offerTimeoutMs, MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void flushQueue() {
+        List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            persist(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void replaySpilled() {
+        long now = System.currentTimeMillis();
+        if (now < nextReplayAt) {
+            return;
+        }
+        nextReplayAt = now + replayIntervalMs;
+
+        List<PendingChatMessage> spilled;
+        try {
+            spilled = chatMessageSpillFile.beginReplay();
+        } catch (UncheckedIOException e) {
+            log.error("파일에 남은 채팅 메시지를 읽지 못했습니다.", e);
+            return;
+        }
+
+        // 다시 실패한 메시지는 persist 에서 새 파일에 남기므로 읽은 파일은 지운다
+        for (int from = 0; from < spilled.size(); from += batchSize) {
+            persist(new ArrayList<>(spilled.subList(from, Math.min(from + batchSize, spilled.size()))));
+        }
+        chatMessageSpillFile.completeReplay();
+        if (!spilled.isEmpty()) {
+            log.info("파일에 남은 채팅 메시지를 다시 저장했습니다. count={}", spilled.size());
+        }
+    }
+
+    private void persist(List<PendingChatMessage> batch) {
+        try {
+            chatMessageJdbcRepository.insertAll(batch);
+            chatMessageMetrics.persisted(batch.size(), queue.size());
+        } catch (DataIntegrityViolationException e) {
+            // 존재하지 않는 방이나 회원을 가리키는 메시지만 골라 버리기 위해 한 건씩 다시 저장한다
+            batch.forEach(this::persistOne);
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지를 저장하지 못해 파일에 남깁니다. count={}", batch.size(), e);
+            spill(batch);
+            nextReplayAt = System.currentTimeMillis() + replayIntervalMs;
+        }
+    }
+
+    private void persistOne(PendingChatMessage message) {
+        try {
+            chatMessageJdbcRepository.insertAll(List.of(message));
+            chatMessageMetrics.persisted(1, queue.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("저장할 수 없는 채팅 메시지를 버립니다. roomId={}, memberId={}",
+                message.getRoomId(), message.getMemberId(), e);
+            chatMessageMetrics.dropped(1);
+        } catch (DataAccessException e) {
+            spill(List.of(message));
+        }
+    }
+
+    private void spill(List<PendingChatMessage> messages) {
+        try {
+            chatMessageSpillFile.append(messages);
+            chatMessageMetrics.spilled(messages.size());
+        } catch (UncheckedIOException e) {
+            log.error("채팅 메시지를 파일에 남기지 못했습니다. count={}", messages.size(), e);
+            chatMessageMetrics.dropped(messages.size());
+        }
+    }
+}
@@ -1,26 +1,34 @@
 package numble.team4.shortformserver.chat.infrastructure.message;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import numble.team4.shortformserver.chat.domain.message.ChatMessage;
-import numble.team4.shortformserver.chat.domain.room.ChatRoom;
+import numble.team4.shortformserver.chat.application.dto.ChatMessageResponse;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Objects;
 
 import static numble.team4.shortformserver.chat.domain.message.QChatMessage.chatMessage;
+import static numble.team4.shortformserver.member.member.domain.QMember.member;
 
 @RequiredArgsConstructor
 public class ChatMessageCustomRepositoryImpl implements ChatMessageCustomRepository {
 
     private final JPAQueryFactory factory;
 
+    // 작성자 이름을 join 으로 함께 읽어 메시지마다 회원을 다시 조회하지 않는다
     @Override
-    public List<ChatMessage> searchLastMessages(Long id, ChatRoom chatRoom, Pageable pageable) {
-        return factory.selectFrom(chatMessage)
-                .where(lessThan(id), chatMessage.chatRoom.eq(chatRoom))
+    public List<ChatMessageResponse> searchLastMessages(Long id, Long roomId, Pageable pageable) {
+        return factory.select(Projections.constructor(ChatMessageResponse.class,
+                        member.id,
+                        member.name,
+                        chatMessage.message,
+                        chatMessage.createAt))
+                .from(chatMessage)
+                .join(chatMessage.member, member)
+                .where(lessThan(id), chatMessage.chatRoom.id.eq(roomId))
                 .orderBy(chatMessage.id.desc())
                 .limit(pageable.getPageSize())
                 .fetch();
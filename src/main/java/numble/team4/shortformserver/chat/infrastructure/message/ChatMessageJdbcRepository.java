@@ -0,0 +1,31 @@
+package numble.team4.shortformserver.chat.infrastructure.message;
+
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private static final String INSERT_MESSAGE =
+        "INSERT INTO chat_message (chat_room_id, member_id, message, create_at, modified_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<PendingChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE, messages, messages.size(), (ps, message) -> {
+            Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+            ps.setLong(1, message.getRoomId());
+            ps.setLong(2, message.getMemberId());
+            ps.setString(3, message.getMessage());
+            ps.setTimestamp(4, createdAt);
+            ps.setTimestamp(5, createdAt);
+        });
+    }
+}
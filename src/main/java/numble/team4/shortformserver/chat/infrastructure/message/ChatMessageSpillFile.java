@@ -0,0 +1,104 @@
+package numble.team4.shortformserver.chat.infrastructure.message;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// DB 에 쓰지 못한 메시지를 한 줄에 하나씩 JSON 으로 남긴다.
+// 다시 저장할 때는 파일을 옮겨 두고 읽으므로, 그 사이에 쌓이는 메시지는 새 파일에 이어서 쓴다
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "chat.write-behind.enabled", havingValue = "true", matchIfMissing = true)
+public class ChatMessageSpillFile {
+
+    private static final String SPILL_FILE = "chat-message.spill";
+    private static final String REPLAY_FILE = "chat-message.replay";
+
+    private final ObjectMapper objectMapper;
+    private final Path spillFile;
+    private final Path replayFile;
+
+    public ChatMessageSpillFile(
+        ObjectMapper objectMapper,
+        @Value("${chat.write-behind.spill-dir:${java.io.tmpdir}/shortform-chat}") String spillDir) {
+        this.objectMapper = objectMapper;
+        this.spillFile = Path.of(spillDir, SPILL_FILE);
+        this.replayFile = Path.of(spillDir, REPLAY_FILE);
+    }
+
+    public synchronized void append(List<PendingChatMessage> messages) {
+        try {
+            Files.createDirectories(spillFile.getParent());
+            StringBuilder lines = new StringBuilder();
+            for (PendingChatMessage message : messages) {
+                lines.append(objectMapper.writeValueAsString(message)).append('\n');
+            }
+            try (FileChannel channel = FileChannel.open(spillFile, CREATE, WRITE, APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 이전에 끝내지 못한 재저장 파일이 있으면 그 파일부터 돌려준다
+    public synchronized List<PendingChatMessage> beginReplay() {
+        try {
+            if (Files.notExists(replayFile)) {
+                if (Files.notExists(spillFile)) {
+                    return List.of();
+                }
+                Files.move(spillFile, replayFile, ATOMIC_MOVE);
+            }
+
+            List<PendingChatMessage> messages = new ArrayList<>();
+            for (String line : Files.readAllLines(replayFile, UTF_8)) {
+                if (!line.isBlank()) {
+                    read(line, messages);
+                }
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void completeReplay() {
+        try {
+            Files.deleteIfExists(replayFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 쓰는 도중에 프로세스가 죽으면 마지막 줄이 잘려 있을 수 있다
+    private void read(String line, List<PendingChatMessage> messages) {
+        try {
+            messages.add(objectMapper.readValue(line, PendingChatMessage.class));
+        } catch (JsonProcessingException e) {
+            log.warn("읽을 수 없는 채팅 메시지를 건너뜁니다. line={}", line, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package numble.team4.shortformserver.chat.infrastructure.message;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.chat.application.ChatMessageWriter;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "chat.write-behind.enabled", havingValue = "false")
+public class DirectChatMessageWriter implements ChatMessageWriter {
+
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    @Override
+    public void write(PendingChatMessage message) {
+        chatMessageJdbcRepository.insertAll(List.of(message));
+    }
+}
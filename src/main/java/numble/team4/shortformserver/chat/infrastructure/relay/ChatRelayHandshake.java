@@ -0,0 +1,54 @@
+package numble.team4.shortformserver.chat.infrastructure.relay;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+// 연결마다 서버가 임의의 challenge 를 보내고, 접속한 노드는 공유 secret 으로 만든 HMAC 을 돌려준다.
+// secret 을 선로에 그대로 보내지 않으므로 엿본 응답을 다른 연결에 다시 쓸 수 없다
+final class ChatRelayHandshake {
+
+    static final String ACCEPTED = "OK";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int CHALLENGE_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+
+    ChatRelayHandshake(String secret) {
+        if (Objects.isNull(secret) || secret.isBlank()) {
+            throw new IllegalArgumentException("chat.relay.cluster.secret 을 설정해야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(UTF_8), ALGORITHM);
+    }
+
+    String challenge() {
+        byte[] nonce = new byte[CHALLENGE_BYTES];
+        random.nextBytes(nonce);
+        return Base64.getEncoder().encodeToString(nonce);
+    }
+
+    String respond(String challenge) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Base64.getEncoder().encodeToString(mac.doFinal(challenge.getBytes(UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    boolean verify(String challenge, String response) {
+        if (Objects.isNull(response)) {
+            return false;
+        }
+        return MessageDigest.isEqual(respond(challenge).getBytes(UTF_8), response.getBytes(UTF_8));
+    }
+}
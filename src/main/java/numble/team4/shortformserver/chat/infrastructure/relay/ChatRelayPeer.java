@@ -0,0 +1,183 @@
+package numble.team4.shortformserver.chat.infrastructure.relay;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+
+// 방 id 로 샤드를 골라 샤드마다 연결과 전송 스레드를 하나씩 둔다.
+// 같은 방의 메시지는 항상 같은 연결로 나가 순서가 유지되고, 메시지가 몰리는 방이 다른 방의 전송을 막지 않는다
+@Slf4j
+class ChatRelayPeer {
+
+    private static final int CONNECT_TIMEOUT_MS = 1000;
+    private static final int MAX_FRAMES_PER_FLUSH = 256;
+
+    private final String host;
+    private final int port;
+    private final long reconnectIntervalMs;
+    private final ChatRelayHandshake handshake;
+    private final ThreadFactory threadFactory;
+    private final List<Shard> shards;
+
+    private volatile boolean running;
+
+    ChatRelayPeer(String address, int shardCount, int queueCapacity, long reconnectIntervalMs, ChatRelayHandshake handshake,
+        ThreadFactory threadFactory) {
+        int separator = address.lastIndexOf(':');
+        this.host = address.substring(0, separator).trim();
+        this.port = Integer.parseInt(address.substring(separator + 1).trim());
+        this.reconnectIntervalMs = reconnectIntervalMs;
+        this.handshake = handshake;
+        this.threadFactory = threadFactory;
+        this.shards = IntStream.range(0, shardCount)
+            .mapToObj(index -> new Shard(index, queueCapacity))
+            .collect(Collectors.toList());
+    }
+
+    void send(Long roomId, String frame) {
+        shards.get(Math.floorMod(Long.hashCode(roomId), shards.size())).offer(frame);
+    }
+
+    void start() {
+        running = true;
+        shards.forEach(shard -> threadFactory.newThread(shard).start());
+    }
+
+    void stop() {
+        running = false;
+        shards.forEach(Shard::stop);
+    }
+
+    private class Shard implements Runnable {
+
+        private final int index;
+        private final BlockingQueue<String> queue;
+        private final AtomicLong dropped = new AtomicLong();
+
+        private volatile Thread worker;
+        private volatile Socket socket;
+
+        Shard(int index, int queueCapacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        // 상대 노드가 오래 내려가거나 느려 큐가 가득 차면 새 프레임은 버린다. 메시지 저장은 relay 와 별개로 이뤄진다
+        void offer(String frame) {
+            if (!queue.offer(frame)) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void run() {
+            worker = Thread.currentThread();
+            while (running) {
+                // 연결을 맺기 전에 비워야 handshake 도중 버린 프레임이 다음 재연결에서 다시 캐시를 비우게 한다
+                long droppedFrames = dropped.getAndSet(0);
+                try (Socket connected = connect();
+                     BufferedReader reader = new BufferedReader(new InputStreamReader(connected.getInputStream(), UTF_8));
+                     Writer writer = new BufferedWriter(new OutputStreamWriter(connected.getOutputStream(), UTF_8))) {
+                    authenticate(connected, reader, writer);
+                    log.info("채팅 relay 노드에 연결했습니다. peer={}:{}, shard={}, dropped={}",
+                        host, port, index, droppedFrames);
+                    transfer(writer);
+                } catch (IOException e) {
+                    if (running) {
+                        log.debug("채팅 relay 노드에 연결하지 못했습니다. peer={}:{}, shard={}", host, port, index);
+                        pause();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        void stop() {
+            Thread current = worker;
+            if (Objects.nonNull(current)) {
+                current.interrupt();
+            }
+            Socket connected = socket;
+            if (Objects.nonNull(connected)) {
+                try {
+                    connected.close();
+                } catch (IOException ignored) {
+                    // 종료 중이므로 무시한다
+                }
+            }
+        }
+
+        private Socket connect() throws IOException {
+            Socket connecting = new Socket();
+            try {
+                connecting.setTcpNoDelay(true);
+                connecting.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_MS);
+            } catch (IOException e) {
+                connecting.close();
+                throw e;
+            }
+            socket = connecting;
+            return connecting;
+        }
+
+        // 서버가 보낸 challenge 에 응답하고, 받아들였다는 답을 받은 뒤에야 프레임을 보낸다
+        private void authenticate(Socket connected, BufferedReader reader, Writer writer) throws IOException {
+            connected.setSoTimeout(CONNECT_TIMEOUT_MS);
+            String challenge = reader.readLine();
+            if (Objects.isNull(challenge)) {
+                throw new IOException("채팅 relay 서버가 challenge 를 보내지 않았습니다.");
+            }
+            writer.write(handshake.respond(challenge));
+            writer.write('\n');
+            writer.flush();
+            if (!ChatRelayHandshake.ACCEPTED.equals(reader.readLine())) {
+                log.warn("채팅 relay 인증에 실패했습니다. peer={}:{}, shard={}", host, port, index);
+                throw new IOException("채팅 relay 인증에 실패했습니다.");
+            }
+            connected.setSoTimeout(0);
+        }
+
+        // 쌓여 있는 프레임을 한 번에 쓰고 flush 해 메시지마다 시스템 콜을 하지 않는다.
+        // 연결된 동안 버린 프레임이 생기면 연결을 다시 맺어 받는 노드가 최근 메시지 캐시를 비우게 한다
+        private void transfer(Writer writer) throws IOException, InterruptedException {
+            List<String> frames = new ArrayList<>(MAX_FRAMES_PER_FLUSH);
+            while (running && dropped.get() == 0) {
+                frames.add(queue.take());
+                queue.drainTo(frames, MAX_FRAMES_PER_FLUSH - 1);
+                for (String frame : frames) {
+                    writer.write(frame);
+                    writer.write('\n');
+                }
+                writer.flush();
+                frames.clear();
+            }
+        }
+
+        private void pause() {
+            try {
+                Thread.sleep(reconnectIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package numble.team4.shortformserver.chat.infrastructure.relay;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+// 다른 노드가 보낸 프레임을 한 줄씩 읽어 넘긴다. 연결마다 읽는 스레드가 하나라서 연결 안의 순서가 유지된다.
+// 연결마다 handshake 를 통과해야 프레임을 읽고, 통과하지 못한 연결은 바로 닫는다
+@Slf4j
+class ChatRelayServer {
+
+    private static final int HANDSHAKE_TIMEOUT_MS = 1000;
+
+    private final String bindAddress;
+    private final int port;
+    private final ChatRelayHandshake handshake;
+    private final Runnable connectionHandler;
+    private final Consumer<String> frameHandler;
+    private final ThreadFactory threadFactory;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private volatile ServerSocket serverSocket;
+
+    ChatRelayServer(String bindAddress, int port, ChatRelayHandshake handshake, Runnable connectionHandler,
+        Consumer<String> frameHandler, ThreadFactory threadFactory) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.handshake = handshake;
+        this.connectionHandler = connectionHandler;
+        this.frameHandler = frameHandler;
+        this.threadFactory = threadFactory;
+    }
+
+    void start() {
+        try {
+            ServerSocket socket = new ServerSocket();
+            socket.setReuseAddress(true);
+            socket.bind(new InetSocketAddress(bindAddress, port));
+            serverSocket = socket;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        threadFactory.newThread(this::accept).start();
+        log.info("채팅 relay 서버를 시작했습니다. address={}:{}", bindAddress, port);
+    }
+
+    void stop() {
+        closeQuietly(serverSocket);
+        connections.forEach(ChatRelayServer::closeQuietly);
+    }
+
+    private void accept() {
+        ServerSocket server = serverSocket;
+        while (!server.isClosed()) {
+            try {
+                Socket connection = server.accept();
+                connection.setTcpNoDelay(true);
+                connections.add(connection);
+                threadFactory.newThread(() -> read(connection)).start();
+            } catch (IOException e) {
+                if (!server.isClosed()) {
+                    log.warn("채팅 relay 연결을 받지 못했습니다.", e);
+                }
+            }
+        }
+    }
+
+    private void read(Socket connection) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), UTF_8));
+             Writer writer = new BufferedWriter(new OutputStreamWriter(connection.getOutputStream(), UTF_8))) {
+            if (!authenticate(connection, reader, writer)) {
+                log.warn("채팅 relay 인증에 실패한 연결을 닫습니다. remote={}", connection.getRemoteSocketAddress());
+                return;
+            }
+            connectionHandler.run();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                handle(line);
+            }
+        } catch (IOException e) {
+            log.debug("채팅 relay 연결이 끊겼습니다. remote={}", connection.getRemoteSocketAddress());
+        } finally {
+            connections.remove(connection);
+            closeQuietly(connection);
+        }
+    }
+
+    private boolean authenticate(Socket connection, BufferedReader reader, Writer writer) throws IOException {
+        String challenge = handshake.challenge();
+        connection.setSoTimeout(HANDSHAKE_TIMEOUT_MS);
+        writer.write(challenge);
+        writer.write('\n');
+        writer.flush();
+        if (!handshake.verify(challenge, reader.readLine())) {
+            return false;
+        }
+        writer.write(ChatRelayHandshake.ACCEPTED);
+        writer.write('\n');
+        writer.flush();
+        connection.setSoTimeout(0);
+        return true;
+    }
+
+    private void handle(String line) {
+        try {
+            frameHandler.accept(line);
+        } catch (RuntimeException e) {
+            log.warn("채팅 relay 프레임을 처리하지 못했습니다.", e);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (Objects.isNull(closeable)) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception ignored) {
+            // 종료 중이므로 무시한다
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package numble.team4.shortformserver.chat.infrastructure.relay;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.chat.application.ChatBrokerRelay;
+import numble.team4.shortformserver.chat.application.ChatRecentMessageCache;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+// 이 서버의 구독자에게 전달하고, 같은 프레임을 TCP 로 다른 노드들에 보낸다.
+// 다른 노드에서 받은 프레임은 이 서버의 구독자에게만 전달하므로 다시 퍼지지 않는다.
+// 받은 프레임은 빠지거나 DB 와 다른 순서로 올 수 있으므로 그 방의 최근 메시지는 DB 에서 읽게 하고,
+// relay 연결이 다시 맺어지면 그 사이 빠진 프레임이 있을 수 있어 최근 메시지 캐시를 모두 비운다.
+// relay 포트는 내부망 주소에만 열고, 연결마다 공유 secret 으로 handshake 를 통과한 노드의 프레임만 받는다
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "chat.relay.cluster.enabled", havingValue = "true")
+public class ClusterChatBrokerRelay implements ChatBrokerRelay {
+
+    private final InMemoryChatBrokerRelay localRelay;
+    private final ChatRecentMessageCache chatRecentMessageCache;
+    private final ObjectMapper objectMapper;
+    private final ChatRelayServer server;
+    private final List<ChatRelayPeer> peers;
+
+    public ClusterChatBrokerRelay(
+        SimpMessageSendingOperations messagingTemplate,
+        ChatRecentMessageCache chatRecentMessageCache,
+        ObjectMapper objectMapper,
+        @Value("${chat.relay.cluster.bind-address:127.0.0.1}") String bindAddress,
+        @Value("${chat.relay.cluster.port:61700}") int port,
+        @Value("${chat.relay.cluster.secret:}") String secret,
+        @Value("${chat.relay.cluster.peers:}") String[] peerAddresses,
+        @Value("${chat.relay.cluster.shards:4}") int shards,
+        @Value("${chat.relay.cluster.queue-capacity:10000}") int queueCapacity,
+        @Value("${chat.relay.cluster.reconnect-interval-ms:1000}") long reconnectIntervalMs) {
+        this.localRelay = new InMemoryChatBrokerRelay(messagingTemplate);
+        this.chatRecentMessageCache = chatRecentMessageCache;
+        this.objectMapper = objectMapper;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("chat-relay-");
+        threadFactory.setDaemon(true);
+        ChatRelayHandshake handshake = new ChatRelayHandshake(secret);
+        this.server = new ChatRelayServer(bindAddress, port, handshake, chatRecentMessageCache::invalidateAll,
+            this::receive, threadFactory);
+        this.peers = Arrays.stream(peerAddresses)
+            .filter(address -> !address.isBlank())
+            .map(address -> new ChatRelayPeer(address, shards, queueCapacity, reconnectIntervalMs, handshake, threadFactory))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void publish(PendingChatMessage message) {
+        localRelay.publish(message);
+        if (peers.isEmpty()) {
+            return;
+        }
+
+        String frame = encode(message);
+        peers.forEach(peer -> peer.send(message.getRoomId(), frame));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        server.start();
+        peers.forEach(ChatRelayPeer::start);
+    }
+
+    @PreDestroy
+    public void stop() {
+        peers.forEach(ChatRelayPeer::stop);
+        server.stop();
+    }
+
+    private void receive(String frame) {
+        PendingChatMessage message = decode(frame);
+        localRelay.publish(message);
+        chatRecentMessageCache.markRelayed(message.getRoomId());
+    }
+
+    private String encode(PendingChatMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PendingChatMessage decode(String frame) {
+        try {
+            return objectMapper.readValue(frame, PendingChatMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package numble.team4.shortformserver.chat.infrastructure.relay;
+
+import numble.team4.shortformserver.chat.application.ChatBrokerRelay;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+// 이 서버의 SimpleBroker 에 연결된 구독자에게만 전달한다
+@Component
+@ConditionalOnProperty(value = "chat.relay.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class InMemoryChatBrokerRelay implements ChatBrokerRelay {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/sub/rooms/";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    public InMemoryChatBrokerRelay(SimpMessageSendingOperations messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void publish(PendingChatMessage message) {
+        messagingTemplate.convertAndSend(ROOM_DESTINATION_PREFIX + message.getRoomId(), message.getMessage());
+    }
+}
@@ -1,6 +1,7 @@
 package numble.team4.shortformserver.chat.infrastructure.room;
 
 import numble.team4.shortformserver.chat.domain.room.ChatRoom;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomMembers;
 import numble.team4.shortformserver.member.member.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,4 +11,6 @@ import java.util.Optional;
 public interface ChatRoomCustomRepository {
     Page<ChatRoom> findMyRooms(Member member, Pageable pageable);
     Optional<ChatRoom> findExactlyMatchRoom(Member buyer, Member seller);
+    Optional<ChatRoomMembers> findMembersById(Long roomId);
+    long findMaxId();
 }
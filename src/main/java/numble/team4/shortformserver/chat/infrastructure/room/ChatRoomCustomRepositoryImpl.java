@@ -1,9 +1,12 @@
 package numble.team4.shortformserver.chat.infrastructure.room;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import numble.team4.shortformserver.chat.domain.room.ChatRoom;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomMembers;
 import numble.team4.shortformserver.member.member.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,7 +30,11 @@ public class ChatRoomCustomRepositoryImpl implements ChatRoomCustomRepository {
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-        return PageableExecutionUtils.getPage(chatRooms, pageable, chatRooms::size);
+
+        JPAQuery<Long> countQuery = factory.select(chatRoom.count())
+                .from(chatRoom)
+                .where(containsMember(findMember));
+        return PageableExecutionUtils.getPage(chatRooms, pageable, countQuery::fetchOne);
     }
 
     @Override
@@ -37,6 +44,25 @@ public class ChatRoomCustomRepositoryImpl implements ChatRoomCustomRepository {
                 .fetchOne());
     }
 
+    // 외래 키만 읽으므로 회원 테이블을 join 하지 않는다
+    @Override
+    public Optional<ChatRoomMembers> findMembersById(Long roomId) {
+        return Optional.ofNullable(factory.select(Projections.constructor(ChatRoomMembers.class,
+                        chatRoom.buyer.id,
+                        chatRoom.seller.id))
+                .from(chatRoom)
+                .where(chatRoom.id.eq(roomId))
+                .fetchOne());
+    }
+
+    @Override
+    public long findMaxId() {
+        Long maxId = factory.select(chatRoom.id.max())
+                .from(chatRoom)
+                .fetchOne();
+        return (maxId == null) ? 0L : maxId;
+    }
+
     private BooleanExpression matchAllMember(Member buyer, Member seller) {
         return (chatRoom.buyer.eq(buyer).and(chatRoom.seller.eq(seller)))
                 .or(chatRoom.buyer.eq(seller).and(chatRoom.seller.eq(buyer)));
@@ -0,0 +1,20 @@
+package numble.team4.shortformserver.chat.infrastructure.session;
+
+import java.security.Principal;
+import lombok.Getter;
+
+// CONNECT 때 검증한 토큰의 회원 id. 이후 프레임은 이 값으로 권한을 확인한다
+@Getter
+public class ChatPrincipal implements Principal {
+
+    private final Long memberId;
+
+    public ChatPrincipal(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    @Override
+    public String getName() {
+        return String.valueOf(memberId);
+    }
+}
@@ -0,0 +1,81 @@
+package numble.team4.shortformserver.chat.infrastructure.session;
+
+import java.security.Principal;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.chat.application.ChatRoomMembershipCache;
+import numble.team4.shortformserver.member.auth.exception.NotLoggedInException;
+import numble.team4.shortformserver.member.auth.util.JwtTokenProvider;
+import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// CONNECT 프레임의 Authorization 헤더로 세션의 회원을 정하고,
+// SUBSCRIBE 와 SEND 는 그 회원이 대상 채팅방의 구매자나 판매자일 때만 통과시킨다
+@Component
+@RequiredArgsConstructor
+public class ChatRoomAuthorizationInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/(?:sub|pub)/rooms/(\\d{1,18})$");
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (Objects.isNull(accessor)) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor));
+        } else if (command == StompCommand.SUBSCRIBE || command == StompCommand.SEND) {
+            authorize(accessor);
+        }
+        return message;
+    }
+
+    private ChatPrincipal authenticate(StompHeaderAccessor accessor) {
+        String token = extractToken(accessor.getFirstNativeHeader(AUTHORIZATION));
+        if (!StringUtils.hasText(token) || !jwtTokenProvider.validateTokenSecretToken(token)) {
+            throw new NotLoggedInException();
+        }
+        return new ChatPrincipal(jwtTokenProvider.getUserIdFromAccessToken(token));
+    }
+
+    private void authorize(StompHeaderAccessor accessor) {
+        Principal user = accessor.getUser();
+        if (!(user instanceof ChatPrincipal)) {
+            throw new NotLoggedInException();
+        }
+
+        Matcher matcher = ROOM_DESTINATION.matcher(String.valueOf(accessor.getDestination()));
+        if (!matcher.matches()) {
+            throw new NoAccessPermissionException();
+        }
+
+        Long roomId = Long.valueOf(matcher.group(1));
+        if (!chatRoomMembershipCache.isMember(roomId, ((ChatPrincipal) user).getMemberId())) {
+            throw new NoAccessPermissionException();
+        }
+    }
+
+    private static String extractToken(String header) {
+        if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length()).trim();
+        }
+        return header;
+    }
+}
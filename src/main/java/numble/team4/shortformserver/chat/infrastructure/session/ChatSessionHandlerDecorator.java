@@ -0,0 +1,36 @@
+package numble.team4.shortformserver.chat.infrastructure.session;
+
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.chat.application.ChatSessionMetrics;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+// 전송 버퍼나 전송 시간 제한을 넘겨 끊긴 세션은 SESSION_NOT_RELIABLE 로 닫힌다
+@Slf4j
+public class ChatSessionHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private final ChatSessionMetrics chatSessionMetrics;
+
+    public ChatSessionHandlerDecorator(WebSocketHandler delegate, ChatSessionMetrics chatSessionMetrics) {
+        super(delegate);
+        this.chatSessionMetrics = chatSessionMetrics;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        chatSessionMetrics.opened();
+        super.afterConnectionEstablished(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        boolean slowConsumer = CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus);
+        chatSessionMetrics.closed(slowConsumer);
+        if (slowConsumer) {
+            log.warn("메시지를 제때 받지 못한 세션을 끊었습니다. session={}", session.getId());
+        }
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
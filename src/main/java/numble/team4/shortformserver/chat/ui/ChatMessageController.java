@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import numble.team4.shortformserver.chat.application.ChatMessageService;
 import numble.team4.shortformserver.chat.application.dto.ChatMessageResponse;
+import numble.team4.shortformserver.chat.infrastructure.session.ChatPrincipal;
 import numble.team4.shortformserver.chat.ui.dto.ChatMessageRequest;
 import numble.team4.shortformserver.chat.ui.dto.FindChatMessageRequest;
 import numble.team4.shortformserver.common.dto.CommonResponse;
@@ -11,7 +12,6 @@ import numble.team4.shortformserver.member.auth.util.LoginUser;
 import numble.team4.shortformserver.member.member.domain.Member;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -27,13 +27,14 @@ import static numble.team4.shortformserver.chat.ui.ChatRoomResponseMessage.FIND_
 @RequiredArgsConstructor
 public class ChatMessageController {
 
-    private final SimpMessagingTemplate simpMessagingTemplate;
     private final ChatMessageService chatMessageService;
 
     @MessageMapping("/rooms/{roomId}")
-    public void sendMessage(@DestinationVariable Long roomId, @Valid @RequestBody ChatMessageRequest request) {
-        chatMessageService.saveMessage(roomId, request);
-        simpMessagingTemplate.convertAndSend("/sub/rooms/" + roomId, request.getMessage());
+    public void sendMessage(
+            ChatPrincipal principal,
+            @DestinationVariable Long roomId,
+            @Valid @RequestBody ChatMessageRequest request) {
+        chatMessageService.sendMessage(roomId, principal.getMemberId(), request);
     }
 
     @GetMapping("/rooms/{roomId}/messages")
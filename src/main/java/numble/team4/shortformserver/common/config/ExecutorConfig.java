@@ -0,0 +1,76 @@
+package numble.team4.shortformserver.common.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 다른 실행기 빈이 있으면 부트가 기본 실행기를 만들지 않아 MVC 비동기 요청이 요청마다 스레드를 만들므로 직접 등록한다.
+    // spring.task.execution.* 설정을 그대로 따른다
+    @Primary
+    @Bean(name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder taskExecutorBuilder) {
+        return taskExecutorBuilder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor videoUploadExecutor(
+        @Value("${video.upload.pool-size:4}") int poolSize,
+        @Value("${video.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("video-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor homeFeedFanoutExecutor(
+        @Value("${video.home-feed.fanout.pool-size:2}") int poolSize,
+        @Value("${video.home-feed.fanout.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("home-feed-fanout-");
+        return executor;
+    }
+
+    // 이미 flush 중이면 추가 요청은 버리고, 남은 증가분은 주기적인 flush 가 처리한다
+    @Bean
+    public ThreadPoolTaskExecutor viewCountFlushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("view-count-flush-");
+        return executor;
+    }
+
+    // 이미 flush 중이면 추가 요청은 버리고, 남은 메시지는 주기적인 flush 가 처리한다
+    @Bean
+    public ThreadPoolTaskExecutor chatMessageFlushExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("chat-message-flush-");
+        return executor;
+    }
+}
@@ -0,0 +1,32 @@
+package numble.team4.shortformserver.common.config;
+
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+// WebSocket 의 messageBrokerTaskScheduler 가 있으면 부트가 @Scheduled 용 스케줄러를 만들지 않아 단일 스레드로 돌므로 직접 등록한다.
+// 새벽의 재집계 작업이 도는 동안에도 짧은 주기의 flush 가 밀리지 않도록 spring.task.scheduling.pool.size 만큼 스레드를 둔다
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final TaskSchedulerBuilder taskSchedulerBuilder;
+
+    public SchedulingConfig(TaskSchedulerBuilder taskSchedulerBuilder) {
+        this.taskSchedulerBuilder = taskSchedulerBuilder;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler schedulingTaskScheduler() {
+        return taskSchedulerBuilder.build();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(schedulingTaskScheduler());
+    }
+}
@@ -69,8 +69,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 "/ws-connection/**",
                 "/renew",
                 "/v1/users/email/auth").permitAll()
-            .antMatchers("/v1/admin/videos").hasAnyRole(ADMIN.name())
+            .antMatchers("/v1/admin/videos", "/v1/admin/videos/search-index").hasAnyRole(ADMIN.name())
             .antMatchers(HttpMethod.GET, "/v1/users").hasRole(ADMIN.name())
+            .antMatchers(HttpMethod.POST, "/v1/users/search-index").hasRole(ADMIN.name())
             .antMatchers(HttpMethod.DELETE, "/v1/users/**").hasRole(ADMIN.name())
             .anyRequest().authenticated()
             .and()
@@ -1,23 +1,97 @@
 package numble.team4.shortformserver.common.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import numble.team4.shortformserver.chat.application.ChatSessionMetrics;
+import numble.team4.shortformserver.chat.infrastructure.session.ChatRoomAuthorizationInterceptor;
+import numble.team4.shortformserver.chat.infrastructure.session.ChatSessionHandlerDecorator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.*;
 
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ChatSessionMetrics chatSessionMetrics;
+    private final ChatRoomAuthorizationInterceptor chatRoomAuthorizationInterceptor;
+    private final int inboundPoolSize;
+    private final int inboundQueueCapacity;
+    private final int outboundPoolSize;
+    private final int outboundQueueCapacity;
+    private final int messageSizeLimit;
+    private final int sendBufferSizeLimit;
+    private final int sendTimeLimitMs;
+    private final int sockJsHttpMessageCacheSize;
+
+    public WebSocketConfig(
+        ChatSessionMetrics chatSessionMetrics,
+        ChatRoomAuthorizationInterceptor chatRoomAuthorizationInterceptor,
+        @Value("${chat.websocket.inbound.pool-size:8}") int inboundPoolSize,
+        @Value("${chat.websocket.inbound.queue-capacity:10000}") int inboundQueueCapacity,
+        @Value("${chat.websocket.outbound.pool-size:8}") int outboundPoolSize,
+        @Value("${chat.websocket.outbound.queue-capacity:10000}") int outboundQueueCapacity,
+        @Value("${chat.websocket.message-size-limit:16384}") int messageSizeLimit,
+        @Value("${chat.websocket.send-buffer-size-limit:262144}") int sendBufferSizeLimit,
+        @Value("${chat.websocket.send-time-limit-ms:5000}") int sendTimeLimitMs,
+        @Value("${chat.websocket.sockjs.http-message-cache-size:100}") int sockJsHttpMessageCacheSize) {
+        this.chatSessionMetrics = chatSessionMetrics;
+        this.chatRoomAuthorizationInterceptor = chatRoomAuthorizationInterceptor;
+        this.inboundPoolSize = inboundPoolSize;
+        this.inboundQueueCapacity = inboundQueueCapacity;
+        this.outboundPoolSize = outboundPoolSize;
+        this.outboundQueueCapacity = outboundQueueCapacity;
+        this.messageSizeLimit = messageSizeLimit;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sockJsHttpMessageCacheSize = sockJsHttpMessageCacheSize;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws-connection")
                 .setAllowedOriginPatterns("*")
-                .withSockJS();
+                .withSockJS()
+                .setHttpMessageCacheSize(sockJsHttpMessageCacheSize);
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
+        // 이 서버에 연결된 세션에만 전달하고, 다른 노드로의 전달은 ChatBrokerRelay 가 맡는다
         registry.enableSimpleBroker("/sub");
         registry.setApplicationDestinationPrefixes("/pub");
     }
+
+    // 큐가 가득 차면 메시지를 보낸 쪽 스레드에서 처리해 받는 속도를 늦춘다
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor(inboundPoolSize, inboundQueueCapacity))
+                .interceptors(chatRoomAuthorizationInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(channelExecutor(outboundPoolSize, outboundQueueCapacity));
+    }
+
+    // 세션마다 보내지 못한 메시지가 send-buffer-size-limit 를 넘거나 한 번의 전송이 send-time-limit-ms 를 넘기면
+    // 그 세션을 끊어, 느린 클라이언트 하나가 outbound 스레드를 붙잡지 않도록 한다
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .addDecoratorFactory(handler -> new ChatSessionHandlerDecorator(handler, chatSessionMetrics));
+    }
+
+    private static ThreadPoolTaskExecutor channelExecutor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
 }
@@ -0,0 +1,25 @@
+package numble.team4.shortformserver.common.domain;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CountStrategy {
+    // 매 요청마다 같은 조건으로 count 쿼리를 실행한다
+    EXACT("exact"),
+    // 마지막 페이지처럼 전체 개수를 알 수 있으면 count 쿼리를 생략한다
+    LAZY("lazy"),
+    // 조건이 없는 목록은 주기적으로 갱신되는 캐시 값을 사용한다
+    APPROXIMATE("approximate");
+
+    private final String name;
+
+    public static CountStrategy from(String strategy, CountStrategy defaultStrategy) {
+        return Arrays.stream(values())
+            .filter(value -> value.name.equalsIgnoreCase(strategy))
+            .findFirst()
+            .orElse(defaultStrategy);
+    }
+}
@@ -0,0 +1,9 @@
+package numble.team4.shortformserver.common.domain;
+
+// 좋아요, 팔로우처럼 회원과 대상 사이의 관계 id 를 대상 id 와 함께 조회하기 위한 projection
+public interface RelationId {
+
+    Long getTargetId();
+
+    Long getId();
+}
@@ -0,0 +1,32 @@
+package numble.team4.shortformserver.common.domain;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+public final class SearchTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+    private static final String WHITESPACE = "\\s+";
+
+    private SearchTokenizer() {
+    }
+
+    public static Set<String> tokenize(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        Arrays.stream(texts)
+            .filter(Objects::nonNull)
+            .flatMap(text -> Arrays.stream(text.toLowerCase(Locale.ROOT).split(WHITESPACE)))
+            .forEach(word -> addGrams(word, tokens));
+        return tokens;
+    }
+
+    // 검색어의 각 단어는 본문의 한 단어 안에 포함되므로, 검색어의 2-gram은 모두 본문의 2-gram에 포함된다
+    private static void addGrams(String word, Set<String> tokens) {
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            tokens.add(word.substring(i, i + GRAM_SIZE));
+        }
+    }
+}
@@ -15,17 +15,22 @@ public class CommonResponse<T> {
 
     private T data;
     private PageInfo pageInfo;
+    private String nextCursor;
     private String message;
 
     public static <T> CommonResponse<T> of(T data, PageInfo pageInfo, String message) {
-        return new CommonResponse<>(data, pageInfo, message);
+        return new CommonResponse<>(data, pageInfo, null, message);
+    }
+
+    public static <T> CommonResponse<T> of(T data, String nextCursor, String message) {
+        return new CommonResponse<>(data, null, nextCursor, message);
     }
 
     public static <T> CommonResponse<T> of(T data, String message) {
-        return new CommonResponse<>(data, null, message);
+        return new CommonResponse<>(data, null, null, message);
     }
 
     public static <T> CommonResponse<T> from(String message) {
-        return new CommonResponse<>(null, null, message);
+        return new CommonResponse<>(null, null, null, message);
     }
 }
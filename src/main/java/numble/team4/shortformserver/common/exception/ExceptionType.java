@@ -23,6 +23,7 @@ import numble.team4.shortformserver.member.member.exception.FailMailAuthNumberIs
 import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
 import numble.team4.shortformserver.member.member.exception.NotExistMemberException;
 import numble.team4.shortformserver.video.category.exception.NotFoundCategoryException;
+import numble.team4.shortformserver.video.exception.InvalidVideoCursorException;
 import numble.team4.shortformserver.video.exception.NotExistVideoException;
 import numble.team4.shortformserver.video.exception.NotLoggedInException;
 import org.springframework.http.HttpStatus;
@@ -34,6 +35,8 @@ import static org.springframework.http.HttpStatus.*;
 public enum ExceptionType {
     NOT_EXIST_MEMBER("존재하지 않는 회원입니다.", BAD_REQUEST, NotExistMemberException.class),
     NOT_EXIST_VIDEO("존재하지 않는 영상입니다.", BAD_REQUEST, NotExistVideoException.class),
+    TOO_MANY_IDS("한 번에 조회할 수 있는 개수를 초과했습니다.", BAD_REQUEST, TooManyIdsException.class),
+    INVALID_VIDEO_CURSOR("올바르지 않은 커서입니다.", BAD_REQUEST, InvalidVideoCursorException.class),
     WRONG_PASSWORD("비밀번호가 틀렸습니다.", BAD_REQUEST, WrongPasswordException.class),
     KAKAO_LOGIN_FAIL("카카오 로그인 실패했습니다.", BAD_REQUEST, KakaoLoginFailException.class),
     JSON_PARSE_FAIL("유저 정보를 파싱하는 과정에서 예외가 발생했습니다.", INTERNAL_SERVER_ERROR, JsonParsingException.class),
@@ -0,0 +1,4 @@
+package numble.team4.shortformserver.common.exception;
+
+public class TooManyIdsException extends BaseException {
+}
@@ -0,0 +1,45 @@
+package numble.team4.shortformserver.common.infrastructure;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 트랜잭션 안에서 호출되면 커밋된 뒤에, 트랜잭션 밖에서 호출되면 바로 실행한다
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        run(action, () -> { });
+    }
+
+    // 커밋되지 않고 끝나면 action 대신 onRollback 을 실행한다
+    public static void run(Runnable action, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    // 캐시를 비울 때처럼 바로 반영하되, 커밋 전에 다른 요청이 이전 상태를 다시 채울 수 있으므로 커밋 후에 한 번 더 실행한다
+    public static void runNowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(action);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package numble.team4.shortformserver.common.infrastructure;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+import numble.team4.shortformserver.common.domain.RelationId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+// 회원별로 (대상 id -> 관계 id) 전체를 캐시한다. 관계가 maxRelations 를 넘는 회원은 캐시하지 않는다.
+// evict 는 이 노드의 캐시만 비우므로 다른 노드는 TTL 동안 이전 상태를 돌려준다. 노드가 하나일 때만 켠다
+public class RelationStateCache {
+
+    private final LoadingCache<Long, Optional<Map<Long, Long>>> relations;
+
+    public RelationStateCache(
+        BiFunction<Long, Pageable, List<RelationId>> loader,
+        int maxRelations,
+        long maxMembers,
+        long ttlSeconds) {
+        this.relations = Caffeine.newBuilder()
+            .maximumSize(maxMembers)
+            .expireAfterWrite(ttlSeconds, SECONDS)
+            .build(memberId -> load(loader.apply(memberId, PageRequest.of(0, maxRelations + 1)), maxRelations));
+    }
+
+    // 캐시할 수 없는 회원이면 비어 있는 Optional 을 반환하므로 호출한 쪽에서 DB 를 조회한다
+    public Optional<Map<Long, Long>> find(Long memberId, Collection<Long> targetIds) {
+        return relations.get(memberId)
+            .map(all -> {
+                Map<Long, Long> found = new HashMap<>();
+                targetIds.stream()
+                    .filter(all::containsKey)
+                    .forEach(targetId -> found.put(targetId, all.get(targetId)));
+                return found;
+            });
+    }
+
+    // 커밋 전에 이전 상태가 다시 적재될 수 있으므로 커밋 후에 한 번 더 비운다
+    public void evict(Long memberId) {
+        AfterCommit.runNowAndAfterCommit(() -> relations.invalidate(memberId));
+    }
+
+    public static Map<Long, Long> toMap(Collection<RelationId> relationIds) {
+        return relationIds.stream()
+            .collect(Collectors.toMap(RelationId::getTargetId, RelationId::getId));
+    }
+
+    private static Optional<Map<Long, Long>> load(List<RelationId> relationIds, int maxRelations) {
+        if (relationIds.size() > maxRelations) {
+            return Optional.empty();
+        }
+        return Optional.of(Map.copyOf(toMap(relationIds)));
+    }
+}
@@ -0,0 +1,22 @@
+package numble.team4.shortformserver.follow.application;
+
+import java.util.List;
+
+public interface FollowGraph {
+
+    // cursor 보다 큰 회원 id 를 오름차순으로 size 개까지 반환한다
+    List<Long> getFollowerIds(Long memberId, Long cursor, int size);
+
+    List<Long> getFollowingIds(Long memberId, Long cursor, int size);
+
+    boolean isMutual(Long memberId, Long otherMemberId);
+
+    // memberId 가 팔로우하는 회원 중 targetId 를 팔로우하는 회원
+    List<Long> getKnownFollowerIds(Long memberId, Long targetId, int size);
+
+    long countKnownFollowers(Long memberId, Long targetId);
+
+    void follow(Long fromMemberId, Long toMemberId);
+
+    void unfollow(Long fromMemberId, Long toMemberId);
+}
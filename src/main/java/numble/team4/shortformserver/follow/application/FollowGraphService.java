@@ -0,0 +1,78 @@
+package numble.team4.shortformserver.follow.application;
+
+import numble.team4.shortformserver.follow.ui.dto.FollowResponse.MemberDto;
+import numble.team4.shortformserver.follow.ui.dto.FollowSliceResponse;
+import numble.team4.shortformserver.follow.ui.dto.KnownFollowersResponse;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class FollowGraphService {
+
+    private final FollowGraph followGraph;
+    private final MemberRepository memberRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public FollowGraphService(
+            FollowGraph followGraph,
+            MemberRepository memberRepository,
+            @Value("${follow.page.page-size:20}") int defaultPageSize,
+            @Value("${follow.page.max-page-size:100}") int maxPageSize) {
+        this.followGraph = followGraph;
+        this.memberRepository = memberRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public FollowSliceResponse getFollowerPage(Long memberId, Long cursor, Integer size) {
+        int pageSize = pageSizeOf(size);
+        List<Long> ids = followGraph.getFollowerIds(memberId, cursor, pageSize);
+        return FollowSliceResponse.of(findMembers(ids), ids, pageSize);
+    }
+
+    public FollowSliceResponse getFollowingPage(Long memberId, Long cursor, Integer size) {
+        int pageSize = pageSizeOf(size);
+        List<Long> ids = followGraph.getFollowingIds(memberId, cursor, pageSize);
+        return FollowSliceResponse.of(findMembers(ids), ids, pageSize);
+    }
+
+    public boolean isMutual(Member member, Long otherMemberId) {
+        return followGraph.isMutual(member.getId(), otherMemberId);
+    }
+
+    public KnownFollowersResponse getKnownFollowers(Member member, Long targetId, Integer size) {
+        List<Long> ids = followGraph.getKnownFollowerIds(member.getId(), targetId, pageSizeOf(size));
+        long totalCount = followGraph.countKnownFollowers(member.getId(), targetId);
+        return KnownFollowersResponse.of(totalCount, findMembers(ids));
+    }
+
+    // 그래프에는 id 만 있으므로 페이지에 담긴 회원만 한 번에 조회해 id 순서대로 채운다
+    private List<MemberDto> findMembers(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Member> members = memberRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+        return ids.stream()
+                .map(members::get)
+                .filter(Objects::nonNull)
+                .map(member -> new MemberDto(member.getId(), member.getName(), member.getProfileImageUrl()))
+                .collect(Collectors.toList());
+    }
+
+    private int pageSizeOf(Integer size) {
+        return Objects.isNull(size) ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+    }
+}
@@ -1,6 +1,6 @@
 package numble.team4.shortformserver.follow.application;
 
-import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.common.exception.TooManyIdsException;
 import numble.team4.shortformserver.follow.domain.Follow;
 import numble.team4.shortformserver.follow.domain.FollowRepository;
 import numble.team4.shortformserver.follow.exception.AlreadyExistFollowException;
@@ -8,28 +8,75 @@ import numble.team4.shortformserver.follow.exception.NotExistFollowException;
 import numble.team4.shortformserver.follow.exception.NotFollowingException;
 import numble.team4.shortformserver.follow.ui.dto.FollowExistResponse;
 import numble.team4.shortformserver.follow.ui.dto.FollowResponse;
+import numble.team4.shortformserver.follow.ui.dto.FollowStateResponse;
+import numble.team4.shortformserver.member.member.application.MemberStatsCounter;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import numble.team4.shortformserver.member.member.exception.NotExistMemberException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
-@RequiredArgsConstructor
 public class FollowService {
 
     private final FollowRepository followRepository;
     private final MemberRepository memberRepository;
+    private final MemberStatsCounter memberStatsCounter;
+    private final FollowingLookup followingLookup;
+    private final FollowGraph followGraph;
+    private final int maxStateIds;
+    private final int deleteChunkSize;
+
+    public FollowService(
+            FollowRepository followRepository,
+            MemberRepository memberRepository,
+            MemberStatsCounter memberStatsCounter,
+            FollowingLookup followingLookup,
+            FollowGraph followGraph,
+            @Value("${follow.state.max-ids:100}") int maxStateIds,
+            @Value("${follow.delete-chunk-size:1000}") int deleteChunkSize) {
+        this.followRepository = followRepository;
+        this.memberRepository = memberRepository;
+        this.memberStatsCounter = memberStatsCounter;
+        this.followingLookup = followingLookup;
+        this.followGraph = followGraph;
+        this.maxStateIds = maxStateIds;
+        this.deleteChunkSize = deleteChunkSize;
+    }
 
     public FollowExistResponse existFollow(Member fromMember, Long toMember) {
         Optional<Long> existFollowInfo = followRepository.findIdByFromMemberIdAndToMemberId(fromMember, toMember);
         return FollowExistResponse.from(existFollowInfo);
     }
 
+    public List<FollowStateResponse> getFollowStates(Member fromMember, List<Long> toMemberIds) {
+        List<Long> ids = toMemberIds.stream()
+                .distinct()
+                .collect(Collectors.toList());
+        if (ids.size() > maxStateIds) {
+            throw new TooManyIdsException();
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> followIds = followingLookup.findFollowIds(fromMember.getId(), ids);
+        return ids.stream()
+                .map(toMemberId -> FollowStateResponse.of(toMemberId, followIds.get(toMemberId)))
+                .collect(Collectors.toList());
+    }
+
     public List<FollowResponse> getAllFollowings(Long memberId) {
         if (!memberRepository.existsById(memberId)) {
             throw new NotExistMemberException();
@@ -46,14 +93,21 @@ public class FollowService {
 
     @Transactional
     public void createFollow(Member member, Long toMemberId) {
-        Member toMember = memberRepository.findById(toMemberId).orElseThrow(NotExistMemberException::new);
+        Follow.validateFollowable(member.getId(), toMemberId);
 
-        if (followRepository.existsByFromMember_IdAndToMember_Id(member.getId(), toMemberId)) {
-            throw new AlreadyExistFollowException();
+        boolean followed;
+        try {
+            followed = followRepository.insertIfAbsent(member.getId(), toMemberId);
+        } catch (DataIntegrityViolationException e) {
+            throw new NotExistMemberException();
         }
 
-        Follow newFollow = Follow.fromMembers(member, toMember);
-        followRepository.save(newFollow);
+        if (!followed) {
+            throw new AlreadyExistFollowException();
+        }
+        memberStatsCounter.follow(member.getId(), toMemberId);
+        followingLookup.evict(member.getId());
+        followGraph.follow(member.getId(), toMemberId);
     }
 
     @Transactional
@@ -65,6 +119,39 @@ public class FollowService {
             throw new NotFollowingException();
         }
         followRepository.delete(follow);
+        memberStatsCounter.unfollow(follow.getFromMember().getId(), follow.getToMember().getId());
+        followingLookup.evict(member.getId());
+        followGraph.unfollow(follow.getFromMember().getId(), follow.getToMember().getId());
+    }
+
+    // 탈퇴하는 회원의 팔로우를 지우고, 상대 회원의 팔로워, 팔로잉 수와 팔로우 캐시도 함께 갱신한다
+    @Transactional
+    public void deleteAllFollows(Long memberId) {
+        forEachChunk(cursor -> followRepository.findFollowingIds(memberId, cursor, PageRequest.of(0, deleteChunkSize)),
+                toMemberIds -> {
+                    memberStatsCounter.decreaseFollowerCounts(toMemberIds);
+                    toMemberIds.forEach(toMemberId -> followGraph.unfollow(memberId, toMemberId));
+                });
+        forEachChunk(cursor -> followRepository.findFollowerIds(memberId, cursor, PageRequest.of(0, deleteChunkSize)),
+                fromMemberIds -> {
+                    memberStatsCounter.decreaseFollowingCounts(fromMemberIds);
+                    fromMemberIds.forEach(fromMemberId -> {
+                        followingLookup.evict(fromMemberId);
+                        followGraph.unfollow(fromMemberId, memberId);
+                    });
+                });
+        followRepository.deleteAllByMemberId(memberId);
+        followingLookup.evict(memberId);
     }
 
+    private void forEachChunk(Function<Long, List<Long>> nextChunk, Consumer<List<Long>> action) {
+        Long cursor = 0L;
+        while (cursor != null) {
+            List<Long> memberIds = nextChunk.apply(cursor);
+            if (!memberIds.isEmpty()) {
+                action.accept(memberIds);
+            }
+            cursor = (memberIds.size() < deleteChunkSize) ? null : memberIds.get(memberIds.size() - 1);
+        }
+    }
 }
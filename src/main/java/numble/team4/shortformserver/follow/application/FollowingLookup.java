@@ -0,0 +1,12 @@
+package numble.team4.shortformserver.follow.application;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface FollowingLookup {
+
+    // 회원이 팔로우 중인 대상만 (toMemberId -> followId) 로 반환한다
+    Map<Long, Long> findFollowIds(Long memberId, Collection<Long> toMemberIds);
+
+    void evict(Long memberId);
+}
@@ -15,6 +15,8 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @NoArgsConstructor(access = PROTECTED)
 @AllArgsConstructor(access = PROTECTED)
+@Table(name = "follow",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"from_member", "to_member"}))
 public class Follow {
 
     @Id
@@ -36,6 +38,12 @@ public class Follow {
         return new Follow(null, fromMember, toMember);
     }
 
+    public static void validateFollowable(Long fromMemberId, Long toMemberId) {
+        if (fromMemberId.equals(toMemberId)) {
+            throw new NotSelfFollowableException();
+        }
+    }
+
     public boolean isFollowing(Member fromMember) {
         return fromMember.equals(this.fromMember);
     }
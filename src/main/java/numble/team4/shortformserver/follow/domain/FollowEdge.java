@@ -0,0 +1,10 @@
+package numble.team4.shortformserver.follow.domain;
+
+public interface FollowEdge {
+
+    Long getId();
+
+    Long getFromMemberId();
+
+    Long getToMemberId();
+}
@@ -1,11 +1,16 @@
 package numble.team4.shortformserver.follow.domain;
 
+import numble.team4.shortformserver.common.domain.RelationId;
 import numble.team4.shortformserver.follow.infrastructure.FollowCustomRepository;
 import numble.team4.shortformserver.member.member.domain.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long>, FollowCustomRepository {
@@ -13,7 +18,36 @@ public interface FollowRepository extends JpaRepository<Follow, Long>, FollowCus
     @Query("select f.id from Follow f where f.fromMember=:fromMember and f.toMember.id=:toMemberId")
     Optional<Long> findIdByFromMemberIdAndToMemberId(@Param("fromMember") Member fromMember, @Param("toMemberId") Long toMemberId);
 
-    boolean existsByFromMember_IdAndToMember_Id(Long fromMember, Long toMember);
+    @Query("select f.toMember.id as targetId, f.id as id from Follow f where f.fromMember.id=:memberId and f.toMember.id in :toMemberIds")
+    List<RelationId> findRelationIds(@Param("memberId") Long memberId, @Param("toMemberIds") Collection<Long> toMemberIds);
+
+    @Query("select f.toMember.id as targetId, f.id as id from Follow f where f.fromMember.id=:memberId")
+    List<RelationId> findRelationIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    @Query("select f.fromMember.id from Follow f where f.toMember.id=:memberId and f.fromMember.id>:cursor order by f.fromMember.id")
+    List<Long> findFollowerIds(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select f.toMember.id from Follow f where f.fromMember.id=:memberId and f.toMember.id>:cursor order by f.toMember.id")
+    List<Long> findFollowingIds(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("select count(f) from Follow f where (f.fromMember.id=:memberId and f.toMember.id=:otherId) "
+            + "or (f.fromMember.id=:otherId and f.toMember.id=:memberId)")
+    long countBetween(@Param("memberId") Long memberId, @Param("otherId") Long otherId);
+
+    @Query("select f.fromMember.id from Follow f where f.toMember.id=:targetId and f.fromMember.id in "
+            + "(select g.toMember.id from Follow g where g.fromMember.id=:memberId) order by f.fromMember.id")
+    List<Long> findKnownFollowerIds(@Param("memberId") Long memberId, @Param("targetId") Long targetId, Pageable pageable);
+
+    @Query("select count(f) from Follow f where f.toMember.id=:targetId and f.fromMember.id in "
+            + "(select g.toMember.id from Follow g where g.fromMember.id=:memberId)")
+    long countKnownFollowers(@Param("memberId") Long memberId, @Param("targetId") Long targetId);
+
+    @Query("select f.id as id, f.fromMember.id as fromMemberId, f.toMember.id as toMemberId from Follow f where f.id>:lastId order by f.id")
+    List<FollowEdge> findEdgesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from Follow f where f.fromMember.id=:memberId or f.toMember.id=:memberId")
+    void deleteAllByMemberId(@Param("memberId") Long memberId);
 
     long countByFromMember(Member member);
 
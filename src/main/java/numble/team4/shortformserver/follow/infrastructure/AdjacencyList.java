@@ -0,0 +1,139 @@
+package numble.team4.shortformserver.follow.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+// 정렬된 long 배열에 작은 추가/삭제 배열을 덧붙인 불변 인접 리스트.
+// 팔로워가 많은 회원도 팔로우 한 번에 전체 배열을 복사하지 않도록 변경분이 쌓였을 때만 합친다
+final class AdjacencyList {
+
+    private static final long[] NONE = new long[0];
+    private static final int MAX_DELTA = 256;
+
+    static final AdjacencyList EMPTY = new AdjacencyList(NONE, NONE, NONE);
+
+    private final long[] base;
+    private final long[] added;
+    private final long[] removed;
+
+    private AdjacencyList(long[] base, long[] added, long[] removed) {
+        this.base = base;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    static AdjacencyList of(long[] ids, int size) {
+        long[] sorted = Arrays.copyOf(ids, size);
+        Arrays.sort(sorted);
+        int distinct = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return new AdjacencyList(Arrays.copyOf(sorted, distinct), NONE, NONE);
+    }
+
+    int size() {
+        return base.length - removed.length + added.length;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    boolean contains(long id) {
+        if (Arrays.binarySearch(added, id) >= 0) {
+            return true;
+        }
+        return Arrays.binarySearch(base, id) >= 0 && Arrays.binarySearch(removed, id) < 0;
+    }
+
+    AdjacencyList add(long id) {
+        if (contains(id)) {
+            return this;
+        }
+        if (Arrays.binarySearch(removed, id) >= 0) {
+            return new AdjacencyList(base, added, without(removed, id));
+        }
+        return new AdjacencyList(base, with(added, id), removed).compactIfNeeded();
+    }
+
+    AdjacencyList remove(long id) {
+        if (Arrays.binarySearch(added, id) >= 0) {
+            return new AdjacencyList(base, without(added, id), removed);
+        }
+        if (!contains(id)) {
+            return this;
+        }
+        return new AdjacencyList(base, added, with(removed, id)).compactIfNeeded();
+    }
+
+    List<Long> after(long cursor, int limit) {
+        List<Long> page = new ArrayList<>(Math.min(limit, size()));
+        int i = firstAfter(base, cursor);
+        int j = firstAfter(added, cursor);
+        while (page.size() < limit && (i < base.length || j < added.length)) {
+            if (j >= added.length || (i < base.length && base[i] < added[j])) {
+                if (Arrays.binarySearch(removed, base[i]) < 0) {
+                    page.add(base[i]);
+                }
+                i++;
+            } else {
+                page.add(added[j++]);
+            }
+        }
+        return page;
+    }
+
+    // id 오름차순으로 순회한다
+    void forEach(LongConsumer action) {
+        int i = 0;
+        int j = 0;
+        while (i < base.length || j < added.length) {
+            if (j >= added.length || (i < base.length && base[i] < added[j])) {
+                if (Arrays.binarySearch(removed, base[i]) < 0) {
+                    action.accept(base[i]);
+                }
+                i++;
+            } else {
+                action.accept(added[j++]);
+            }
+        }
+    }
+
+    private AdjacencyList compactIfNeeded() {
+        if (added.length + removed.length <= MAX_DELTA) {
+            return this;
+        }
+
+        long[] merged = new long[size()];
+        int[] index = {0};
+        forEach(id -> merged[index[0]++] = id);
+        return new AdjacencyList(merged, NONE, NONE);
+    }
+
+    private static int firstAfter(long[] values, long cursor) {
+        int index = Arrays.binarySearch(values, cursor);
+        return (index >= 0) ? index + 1 : -index - 1;
+    }
+
+    private static long[] with(long[] values, long id) {
+        int insertion = -Arrays.binarySearch(values, id) - 1;
+        long[] result = new long[values.length + 1];
+        System.arraycopy(values, 0, result, 0, insertion);
+        result[insertion] = id;
+        System.arraycopy(values, insertion, result, insertion + 1, values.length - insertion);
+        return result;
+    }
+
+    private static long[] without(long[] values, long id) {
+        int index = Arrays.binarySearch(values, id);
+        long[] result = new long[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package numble.team4.shortformserver.follow.infrastructure;
+
+import static numble.team4.shortformserver.common.infrastructure.RelationStateCache.toMap;
+
+import java.util.Collection;
+import java.util.Map;
+import numble.team4.shortformserver.common.infrastructure.RelationStateCache;
+import numble.team4.shortformserver.follow.application.FollowingLookup;
+import numble.team4.shortformserver.follow.domain.FollowRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(value = "follow.state-cache.enabled", havingValue = "true")
+public class CachedFollowingLookup implements FollowingLookup {
+
+    private final FollowRepository followRepository;
+    private final RelationStateCache followings;
+
+    public CachedFollowingLookup(
+        FollowRepository followRepository,
+        @Value("${follow.state-cache.max-followings-per-member:5000}") int maxFollowingsPerMember,
+        @Value("${follow.state-cache.max-members:10000}") long maxMembers,
+        @Value("${follow.state-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.followRepository = followRepository;
+        this.followings = new RelationStateCache(followRepository::findRelationIdsByMemberId,
+            maxFollowingsPerMember, maxMembers, ttlSeconds);
+    }
+
+    @Override
+    public Map<Long, Long> findFollowIds(Long memberId, Collection<Long> toMemberIds) {
+        return followings.find(memberId, toMemberIds)
+            .orElseGet(() -> toMap(followRepository.findRelationIds(memberId, toMemberIds)));
+    }
+
+    @Override
+    public void evict(Long memberId) {
+        followings.evict(memberId);
+    }
+}
@@ -0,0 +1,57 @@
+package numble.team4.shortformserver.follow.infrastructure;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.follow.application.FollowGraph;
+import numble.team4.shortformserver.follow.domain.FollowRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "follow.graph.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseFollowGraph implements FollowGraph {
+
+    private static final long FIRST_CURSOR = 0L;
+
+    private final FollowRepository followRepository;
+
+    @Override
+    public List<Long> getFollowerIds(Long memberId, Long cursor, int size) {
+        return followRepository.findFollowerIds(memberId, cursorOf(cursor), PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<Long> getFollowingIds(Long memberId, Long cursor, int size) {
+        return followRepository.findFollowingIds(memberId, cursorOf(cursor), PageRequest.of(0, size));
+    }
+
+    @Override
+    public boolean isMutual(Long memberId, Long otherMemberId) {
+        return followRepository.countBetween(memberId, otherMemberId) == 2;
+    }
+
+    @Override
+    public List<Long> getKnownFollowerIds(Long memberId, Long targetId, int size) {
+        return followRepository.findKnownFollowerIds(memberId, targetId, PageRequest.of(0, size));
+    }
+
+    @Override
+    public long countKnownFollowers(Long memberId, Long targetId) {
+        return followRepository.countKnownFollowers(memberId, targetId);
+    }
+
+    @Override
+    public void follow(Long fromMemberId, Long toMemberId) {
+    }
+
+    @Override
+    public void unfollow(Long fromMemberId, Long toMemberId) {
+    }
+
+    private static Long cursorOf(Long cursor) {
+        return Objects.isNull(cursor) ? FIRST_CURSOR : cursor;
+    }
+}
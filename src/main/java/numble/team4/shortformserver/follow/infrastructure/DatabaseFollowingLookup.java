@@ -0,0 +1,28 @@
+package numble.team4.shortformserver.follow.infrastructure;
+
+import static numble.team4.shortformserver.common.infrastructure.RelationStateCache.toMap;
+
+import java.util.Collection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.follow.application.FollowingLookup;
+import numble.team4.shortformserver.follow.domain.FollowRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "follow.state-cache.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseFollowingLookup implements FollowingLookup {
+
+    private final FollowRepository followRepository;
+
+    @Override
+    public Map<Long, Long> findFollowIds(Long memberId, Collection<Long> toMemberIds) {
+        return toMap(followRepository.findRelationIds(memberId, toMemberIds));
+    }
+
+    @Override
+    public void evict(Long memberId) {
+    }
+}
@@ -9,4 +9,6 @@ public interface FollowCustomRepository {
     List<FollowResponse> getFollowersByMemberId(Long id);
 
     List<FollowResponse> getFollowingsByMemberId(Long id);
+
+    boolean insertIfAbsent(Long fromMemberId, Long toMemberId);
 }
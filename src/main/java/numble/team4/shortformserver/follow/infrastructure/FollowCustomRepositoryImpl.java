@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import numble.team4.shortformserver.follow.ui.dto.FollowResponse;
 import numble.team4.shortformserver.follow.ui.dto.QFollowResponse;
 import numble.team4.shortformserver.follow.ui.dto.QFollowResponse_MemberDto;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
 
@@ -13,7 +15,10 @@ import static numble.team4.shortformserver.follow.domain.QFollow.follow;
 @RequiredArgsConstructor
 public class FollowCustomRepositoryImpl implements FollowCustomRepository{
 
+    private static final String INSERT_FOLLOW = "INSERT INTO follow (from_member, to_member) VALUES (?, ?)";
+
     private final JPAQueryFactory factory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<FollowResponse> getFollowersByMemberId(Long id) {
@@ -47,4 +52,13 @@ public class FollowCustomRepositoryImpl implements FollowCustomRepository{
                 .orderBy(follow.toMember.name.asc())
                 .fetch();
     }
+
+    @Override
+    public boolean insertIfAbsent(Long fromMemberId, Long toMemberId) {
+        try {
+            return jdbcTemplate.update(INSERT_FOLLOW, fromMemberId, toMemberId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,260 @@
+package numble.team4.shortformserver.follow.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import numble.team4.shortformserver.follow.application.FollowGraph;
+import numble.team4.shortformserver.follow.domain.FollowEdge;
+import numble.team4.shortformserver.follow.domain.FollowRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "follow.graph.enabled", havingValue = "true")
+public class InMemoryFollowGraph implements FollowGraph {
+
+    private static final long FIRST_CURSOR = 0L;
+
+    private final FollowRepository followRepository;
+    private final DatabaseFollowGraph databaseFollowGraph;
+    private final int loadChunkSize;
+
+    private final Object writeLock = new Object();
+    private volatile Graph graph;
+    private List<Consumer<Graph>> eventsDuringLoad;
+
+    public InMemoryFollowGraph(
+        FollowRepository followRepository,
+        @Value("${follow.graph.load-chunk-size:10000}") int loadChunkSize) {
+        this.followRepository = followRepository;
+        this.databaseFollowGraph = new DatabaseFollowGraph(followRepository);
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    @Override
+    public List<Long> getFollowerIds(Long memberId, Long cursor, int size) {
+        Graph current = graph;
+        if (Objects.isNull(current)) {
+            return databaseFollowGraph.getFollowerIds(memberId, cursor, size);
+        }
+        return current.followersOf(memberId).after(cursorOf(cursor), size);
+    }
+
+    @Override
+    public List<Long> getFollowingIds(Long memberId, Long cursor, int size) {
+        Graph current = graph;
+        if (Objects.isNull(current)) {
+            return databaseFollowGraph.getFollowingIds(memberId, cursor, size);
+        }
+        return current.followingsOf(memberId).after(cursorOf(cursor), size);
+    }
+
+    @Override
+    public boolean isMutual(Long memberId, Long otherMemberId) {
+        Graph current = graph;
+        if (Objects.isNull(current)) {
+            return databaseFollowGraph.isMutual(memberId, otherMemberId);
+        }
+        return current.followingsOf(memberId).contains(otherMemberId)
+            && current.followingsOf(otherMemberId).contains(memberId);
+    }
+
+    @Override
+    public List<Long> getKnownFollowerIds(Long memberId, Long targetId, int size) {
+        Graph current = graph;
+        if (Objects.isNull(current)) {
+            return databaseFollowGraph.getKnownFollowerIds(memberId, targetId, size);
+        }
+
+        List<Long> known = new ArrayList<>();
+        current.forEachKnownFollower(memberId, targetId, id -> {
+            if (known.size() < size) {
+                known.add(id);
+            }
+        });
+        return known;
+    }
+
+    @Override
+    public long countKnownFollowers(Long memberId, Long targetId) {
+        Graph current = graph;
+        if (Objects.isNull(current)) {
+            return databaseFollowGraph.countKnownFollowers(memberId, targetId);
+        }
+
+        long[] count = {0L};
+        current.forEachKnownFollower(memberId, targetId, id -> count[0]++);
+        return count[0];
+    }
+
+    @Override
+    public void follow(Long fromMemberId, Long toMemberId) {
+        applyAfterCommit(target -> target.add(fromMemberId, toMemberId));
+    }
+
+    @Override
+    public void unfollow(Long fromMemberId, Long toMemberId) {
+        applyAfterCommit(target -> target.remove(fromMemberId, toMemberId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // 팔로우 변경은 처리한 노드의 그래프에만 반영되고 다른 노드는 다음 적재까지 이전 그래프를 쓴다.
+    // 삭제된 팔로우는 follow 테이블에 흔적이 남지 않아 증분으로 따라잡을 수 없으므로 노드가 하나일 때만 켠다
+    @Scheduled(cron = "${follow.graph.reload-cron:0 0 5 * * *}")
+    public void reload() {
+        synchronized (writeLock) {
+            if (Objects.nonNull(eventsDuringLoad)) {
+                return;
+            }
+            eventsDuringLoad = new ArrayList<>();
+        }
+
+        Graph loaded;
+        try {
+            loaded = load();
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                eventsDuringLoad = null;
+            }
+            throw e;
+        }
+
+        // 적재하는 동안 들어온 변경을 순서대로 다시 적용하면 쌍마다 마지막 변경이 남는다
+        synchronized (writeLock) {
+            eventsDuringLoad.forEach(event -> event.accept(loaded));
+            eventsDuringLoad = null;
+            graph = loaded;
+        }
+        log.info("팔로우 그래프를 적재했습니다. members={}", loaded.followings.size());
+    }
+
+    private Graph load() {
+        Map<Long, LongBuffer> followings = new HashMap<>();
+        Map<Long, LongBuffer> followers = new HashMap<>();
+
+        long lastId = 0L;
+        List<FollowEdge> edges;
+        do {
+            edges = followRepository.findEdgesAfter(lastId, PageRequest.of(0, loadChunkSize));
+            for (FollowEdge edge : edges) {
+                followings.computeIfAbsent(edge.getFromMemberId(), id -> new LongBuffer()).add(edge.getToMemberId());
+                followers.computeIfAbsent(edge.getToMemberId(), id -> new LongBuffer()).add(edge.getFromMemberId());
+                lastId = edge.getId();
+            }
+        } while (edges.size() == loadChunkSize);
+
+        return new Graph(toAdjacency(followings), toAdjacency(followers));
+    }
+
+    private void applyAfterCommit(Consumer<Graph> event) {
+        AfterCommit.run(() -> apply(event));
+    }
+
+    private void apply(Consumer<Graph> event) {
+        synchronized (writeLock) {
+            if (Objects.nonNull(eventsDuringLoad)) {
+                eventsDuringLoad.add(event);
+            }
+            Graph current = graph;
+            if (Objects.nonNull(current)) {
+                event.accept(current);
+            }
+        }
+    }
+
+    private static Map<Long, AdjacencyList> toAdjacency(Map<Long, LongBuffer> buffers) {
+        Map<Long, AdjacencyList> adjacency = new ConcurrentHashMap<>(buffers.size());
+        buffers.forEach((memberId, buffer) -> adjacency.put(memberId, AdjacencyList.of(buffer.values, buffer.size)));
+        return adjacency;
+    }
+
+    private static long cursorOf(Long cursor) {
+        return Objects.isNull(cursor) ? FIRST_CURSOR : cursor;
+    }
+
+    // 쓰기는 writeLock 안에서만 일어나고 읽기는 불변 AdjacencyList 를 그대로 읽는다
+    private static class Graph {
+        private final Map<Long, AdjacencyList> followings;
+        private final Map<Long, AdjacencyList> followers;
+
+        Graph(Map<Long, AdjacencyList> followings, Map<Long, AdjacencyList> followers) {
+            this.followings = followings;
+            this.followers = followers;
+        }
+
+        AdjacencyList followingsOf(Long memberId) {
+            return followings.getOrDefault(memberId, AdjacencyList.EMPTY);
+        }
+
+        AdjacencyList followersOf(Long memberId) {
+            return followers.getOrDefault(memberId, AdjacencyList.EMPTY);
+        }
+
+        void add(Long fromMemberId, Long toMemberId) {
+            followings.put(fromMemberId, followingsOf(fromMemberId).add(toMemberId));
+            followers.put(toMemberId, followersOf(toMemberId).add(fromMemberId));
+        }
+
+        void remove(Long fromMemberId, Long toMemberId) {
+            update(followings, fromMemberId, followingsOf(fromMemberId).remove(toMemberId));
+            update(followers, toMemberId, followersOf(toMemberId).remove(fromMemberId));
+        }
+
+        // 두 목록 중 작은 쪽을 순회하며 큰 쪽에서 이진 탐색한다
+        void forEachKnownFollower(Long memberId, Long targetId, LongConsumer action) {
+            AdjacencyList myFollowings = followingsOf(memberId);
+            AdjacencyList targetFollowers = followersOf(targetId);
+            if (myFollowings.size() <= targetFollowers.size()) {
+                myFollowings.forEach(id -> {
+                    if (targetFollowers.contains(id)) {
+                        action.accept(id);
+                    }
+                });
+                return;
+            }
+            targetFollowers.forEach(id -> {
+                if (myFollowings.contains(id)) {
+                    action.accept(id);
+                }
+            });
+        }
+
+        private static void update(Map<Long, AdjacencyList> adjacency, Long memberId, AdjacencyList list) {
+            if (list.isEmpty()) {
+                adjacency.remove(memberId);
+                return;
+            }
+            adjacency.put(memberId, list);
+        }
+    }
+
+    private static class LongBuffer {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
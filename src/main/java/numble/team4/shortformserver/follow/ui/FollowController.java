@@ -2,9 +2,14 @@ package numble.team4.shortformserver.follow.ui;
 
 import lombok.RequiredArgsConstructor;
 import numble.team4.shortformserver.common.dto.CommonResponse;
+import numble.team4.shortformserver.follow.application.FollowGraphService;
 import numble.team4.shortformserver.follow.application.FollowService;
 import numble.team4.shortformserver.follow.ui.dto.FollowExistResponse;
 import numble.team4.shortformserver.follow.ui.dto.FollowResponse;
+import numble.team4.shortformserver.follow.ui.dto.FollowResponse.MemberDto;
+import numble.team4.shortformserver.follow.ui.dto.FollowSliceResponse;
+import numble.team4.shortformserver.follow.ui.dto.FollowStateResponse;
+import numble.team4.shortformserver.follow.ui.dto.KnownFollowersResponse;
 import numble.team4.shortformserver.member.auth.util.LoginUser;
 import numble.team4.shortformserver.member.member.domain.Member;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +24,7 @@ import static numble.team4.shortformserver.follow.ui.FollowResponseMessage.*;
 public class FollowController {
 
     private final FollowService followService;
+    private final FollowGraphService followGraphService;
 
     @GetMapping("/{toUserId}")
     public CommonResponse<FollowExistResponse> existFollow(@LoginUser Member member, @PathVariable Long toUserId) {
@@ -26,18 +32,59 @@ public class FollowController {
         return CommonResponse.of(followExistResponse, GET_IS_EXIST_FOLLOW.getMessage());
     }
 
+    @GetMapping("/states")
+    public CommonResponse<List<FollowStateResponse>> getFollowStates(
+            @LoginUser Member member,
+            @RequestParam("to_member_ids") List<Long> toMemberIds) {
+        List<FollowStateResponse> states = followService.getFollowStates(member, toMemberIds);
+        return CommonResponse.of(states, GET_FOLLOW_STATES.getMessage());
+    }
+
+    @GetMapping("/{toMemberId}/mutual")
+    public CommonResponse<Boolean> isMutualFollow(@LoginUser Member member, @PathVariable Long toMemberId) {
+        boolean mutual = followGraphService.isMutual(member, toMemberId);
+        return CommonResponse.of(mutual, GET_IS_MUTUAL_FOLLOW.getMessage());
+    }
+
+    @GetMapping("/{toMemberId}/known-followers")
+    public CommonResponse<KnownFollowersResponse> getKnownFollowers(
+            @LoginUser Member member,
+            @PathVariable Long toMemberId,
+            @RequestParam(value = "size", required = false) Integer size) {
+        KnownFollowersResponse knownFollowers = followGraphService.getKnownFollowers(member, toMemberId, size);
+        return CommonResponse.of(knownFollowers, GET_KNOWN_FOLLOWERS.getMessage());
+    }
+
     @GetMapping("/from")
     public CommonResponse<List<FollowResponse>> getAllFollowings(@RequestParam("from_member") Long memberId) {
         List<FollowResponse> followings = followService.getAllFollowings(memberId);
         return CommonResponse.of(followings, GET_FOLLOWINGS.getMessage());
     }
 
+    @GetMapping(value = "/from", params = "size")
+    public CommonResponse<List<MemberDto>> getFollowingPage(
+            @RequestParam("from_member") Long memberId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam("size") Integer size) {
+        FollowSliceResponse followings = followGraphService.getFollowingPage(memberId, cursor, size);
+        return CommonResponse.of(followings.getMembers(), followings.getNextCursor(), GET_FOLLOWINGS.getMessage());
+    }
+
     @GetMapping("/to")
     public CommonResponse<List<FollowResponse>> getAllFollowers(@RequestParam("to_member") Long memberId) {
         List<FollowResponse> followers = followService.getAllFollowers(memberId);
         return CommonResponse.of(followers, GET_FOLLOWERS.getMessage());
     }
 
+    @GetMapping(value = "/to", params = "size")
+    public CommonResponse<List<MemberDto>> getFollowerPage(
+            @RequestParam("to_member") Long memberId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam("size") Integer size) {
+        FollowSliceResponse followers = followGraphService.getFollowerPage(memberId, cursor, size);
+        return CommonResponse.of(followers.getMembers(), followers.getNextCursor(), GET_FOLLOWERS.getMessage());
+    }
+
     @PostMapping("/{toMemberId}")
     public CommonResponse createFollow(@LoginUser Member member, @PathVariable Long toMemberId) {
         followService.createFollow(member, toMemberId);
@@ -10,7 +10,10 @@ public enum FollowResponseMessage {
     DELETE_FOLLOW("팔로우 취소 성공"),
     GET_FOLLOWERS("팔로워 목록 조회 성공"),
     GET_FOLLOWINGS("팔로잉 목록 조회 성공"),
-    GET_IS_EXIST_FOLLOW("특정 사용자 팔로잉 여부 조회 성공");
+    GET_IS_EXIST_FOLLOW("특정 사용자 팔로잉 여부 조회 성공"),
+    GET_FOLLOW_STATES("사용자 목록 팔로잉 여부 조회 성공"),
+    GET_IS_MUTUAL_FOLLOW("맞팔로우 여부 조회 성공"),
+    GET_KNOWN_FOLLOWERS("내가 팔로우하는 사용자 중 팔로워 목록 조회 성공");
 
     private final String message;
 }
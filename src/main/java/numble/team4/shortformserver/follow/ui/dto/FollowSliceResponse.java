@@ -0,0 +1,23 @@
+package numble.team4.shortformserver.follow.ui.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import numble.team4.shortformserver.follow.ui.dto.FollowResponse.MemberDto;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FollowSliceResponse {
+
+    private final List<MemberDto> members;
+    private final String nextCursor;
+
+    public static FollowSliceResponse of(List<MemberDto> members, List<Long> ids, int size) {
+        if (ids.size() < size) {
+            return new FollowSliceResponse(members, null);
+        }
+        return new FollowSliceResponse(members, String.valueOf(ids.get(ids.size() - 1)));
+    }
+}
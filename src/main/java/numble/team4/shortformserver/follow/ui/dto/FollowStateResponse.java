@@ -0,0 +1,27 @@
+package numble.team4.shortformserver.follow.ui.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Getter
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(NON_NULL)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class FollowStateResponse {
+
+    private final Long toMemberId;
+    private final boolean existFollow;
+    private final Long followId;
+
+    public static FollowStateResponse of(Long toMemberId, Long followId) {
+        return new FollowStateResponse(toMemberId, Objects.nonNull(followId), followId);
+    }
+}
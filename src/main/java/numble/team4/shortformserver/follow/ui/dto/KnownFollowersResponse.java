@@ -0,0 +1,23 @@
+package numble.team4.shortformserver.follow.ui.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import numble.team4.shortformserver.follow.ui.dto.FollowResponse.MemberDto;
+
+import java.util.List;
+
+@Getter
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KnownFollowersResponse {
+
+    private final long totalCount;
+    private final List<MemberDto> members;
+
+    public static KnownFollowersResponse of(long totalCount, List<MemberDto> members) {
+        return new KnownFollowersResponse(totalCount, members);
+    }
+}
@@ -0,0 +1,106 @@
+package numble.team4.shortformserver.likevideo.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import numble.team4.shortformserver.likevideo.domain.LikeVideoCounterRepository;
+import numble.team4.shortformserver.video.application.VideoRanking;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@Transactional(readOnly = true)
+public class LikeCounter {
+
+    private final LikeVideoCounterRepository likeVideoCounterRepository;
+    private final VideoRanking videoRanking;
+    private final TransactionTemplate transactionTemplate;
+    private final int slots;
+    private final int reconcileChunkSize;
+
+    private final Set<Long> dirtyVideoIds = ConcurrentHashMap.newKeySet();
+
+    public LikeCounter(
+        LikeVideoCounterRepository likeVideoCounterRepository,
+        VideoRanking videoRanking,
+        PlatformTransactionManager transactionManager,
+        @Value("${likevideo.counter.slots:8}") int slots,
+        @Value("${likevideo.counter.reconcile-chunk-size:1000}") int reconcileChunkSize) {
+        this.likeVideoCounterRepository = likeVideoCounterRepository;
+        this.videoRanking = videoRanking;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.slots = slots;
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+
+    @Transactional
+    public void increase(Long videoId) {
+        add(videoId, 1L);
+    }
+
+    @Transactional
+    public void decrease(Long videoId) {
+        add(videoId, -1L);
+    }
+
+    public long getCount(Long videoId) {
+        return likeVideoCounterRepository.sumLikeCountByVideoId(videoId);
+    }
+
+    @Transactional
+    public void remove(Long videoId) {
+        likeVideoCounterRepository.deleteAllByVideoId(videoId);
+        dirtyVideoIds.remove(videoId);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${likevideo.counter.compact-interval-ms:5000}")
+    public void compact() {
+        if (dirtyVideoIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> videoIds = new ArrayList<>(dirtyVideoIds);
+        dirtyVideoIds.removeAll(videoIds);
+        try {
+            likeVideoCounterRepository.compactLikeCounts(videoIds);
+        } catch (RuntimeException e) {
+            dirtyVideoIds.addAll(videoIds);
+            throw e;
+        }
+    }
+
+    // 좋아요 쓰기가 테이블 전체 잠금을 기다리지 않도록 영상 id 구간마다 트랜잭션을 나눠 재계산한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(cron = "${likevideo.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        long maxVideoId = likeVideoCounterRepository.findMaxVideoId();
+        for (long from = 1L; from <= maxVideoId; from += reconcileChunkSize) {
+            long fromVideoId = from;
+            transactionTemplate.executeWithoutResult(status ->
+                likeVideoCounterRepository.reconcileLikeCounts(fromVideoId, fromVideoId + reconcileChunkSize));
+        }
+        log.info("좋아요 수를 like_video 기준으로 재계산했습니다. maxVideoId={}", maxVideoId);
+    }
+
+    private void add(Long videoId, long delta) {
+        int slot = ThreadLocalRandom.current().nextInt(slots);
+        likeVideoCounterRepository.addLikeCount(videoId, slot, delta);
+        AfterCommit.run(() -> onCommitted(videoId, delta));
+    }
+
+    private void onCommitted(Long videoId, long delta) {
+        dirtyVideoIds.add(videoId);
+        videoRanking.recordLike(videoId, delta);
+    }
+}
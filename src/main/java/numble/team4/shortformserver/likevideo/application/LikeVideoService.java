@@ -1,45 +1,91 @@
 package numble.team4.shortformserver.likevideo.application;
 
-import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.common.exception.TooManyIdsException;
 import numble.team4.shortformserver.likevideo.domain.LikeVideo;
 import numble.team4.shortformserver.likevideo.domain.LikeVideoRepository;
 import numble.team4.shortformserver.likevideo.exception.AlreadyExistLikeVideoException;
 import numble.team4.shortformserver.likevideo.exception.NotExistLikeVideoException;
 import numble.team4.shortformserver.likevideo.exception.NotMemberOfLikeVideoException;
 import numble.team4.shortformserver.likevideo.ui.dto.LikeVideoExistResponse;
+import numble.team4.shortformserver.likevideo.ui.dto.LikeVideoStateResponse;
 import numble.team4.shortformserver.member.member.domain.Member;
-import numble.team4.shortformserver.video.domain.Video;
-import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.dto.VideosResponse;
 import numble.team4.shortformserver.video.exception.NotExistVideoException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class LikeVideoService {
 
     private final LikeVideoRepository likeVideoRepository;
-    private final VideoRepository videoRepository;
+    private final LikeCounter likeCounter;
+    private final LikedVideoLookup likedVideoLookup;
+    private final int maxStateIds;
+
+    public LikeVideoService(
+            LikeVideoRepository likeVideoRepository,
+            LikeCounter likeCounter,
+            LikedVideoLookup likedVideoLookup,
+            @Value("${likevideo.state.max-ids:100}") int maxStateIds) {
+        this.likeVideoRepository = likeVideoRepository;
+        this.likeCounter = likeCounter;
+        this.likedVideoLookup = likedVideoLookup;
+        this.maxStateIds = maxStateIds;
+    }
 
     public LikeVideoExistResponse existLikeVideo(Member member, Long videoId) {
         Optional<Long> existLikeVideoInfo = likeVideoRepository.findIdByMemberAndVideoId(member, videoId);
         return LikeVideoExistResponse.from(existLikeVideoInfo);
     }
 
+    public List<LikeVideoStateResponse> getLikeVideoStates(Member member, List<Long> videoIds) {
+        List<Long> ids = distinctIds(videoIds);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> likesIds = likedVideoLookup.findLikesIds(member.getId(), ids);
+        return ids.stream()
+                .map(videoId -> LikeVideoStateResponse.of(videoId, likesIds.get(videoId)))
+                .collect(Collectors.toList());
+    }
+
+    // 피드 타일마다 좋아요 여부를 따로 묻지 않도록 한 번의 조회로 likesId 를 채운다
+    public List<VideosResponse> embedLikes(Member member, List<VideosResponse> videos) {
+        if (videos.isEmpty()) {
+            return videos;
+        }
+
+        List<Long> videoIds = videos.stream()
+                .map(VideosResponse::getId)
+                .collect(Collectors.toList());
+        Map<Long, Long> likesIds = likedVideoLookup.findLikesIds(member.getId(), videoIds);
+        return videos.stream()
+                .map(video -> video.withLikesId(likesIds.get(video.getId())))
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public void saveLikeVideo(Member member, Long videoId) {
-        Video video = videoRepository.findById(videoId)
-                .orElseThrow(NotExistVideoException::new);
+        boolean liked;
+        try {
+            liked = likeVideoRepository.insertIfAbsent(member.getId(), videoId);
+        } catch (DataIntegrityViolationException e) {
+            throw new NotExistVideoException();
+        }
 
-        if (likeVideoRepository.existsByMember_IdAndVideo_Id(member.getId(), videoId)) {
+        if (!liked) {
             throw new AlreadyExistLikeVideoException();
         }
-
-        LikeVideo likeVideo = LikeVideo.fromMemberAndVideo(member, video);
-        likeVideoRepository.save(likeVideo);
-        likeVideo.like();
+        likeCounter.increase(videoId);
+        likedVideoLookup.evict(member.getId());
     }
 
     @Transactional
@@ -51,7 +97,18 @@ public class LikeVideoService {
             throw new NotMemberOfLikeVideoException();
         }
         likeVideoRepository.delete(likeVideo);
-        likeVideo.unlike();
+        likeCounter.decrease(likeVideo.getVideo().getId());
+        likedVideoLookup.evict(member.getId());
+    }
+
+    private List<Long> distinctIds(List<Long> ids) {
+        List<Long> distinct = ids.stream()
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinct.size() > maxStateIds) {
+            throw new TooManyIdsException();
+        }
+        return distinct;
     }
 
 }
@@ -0,0 +1,12 @@
+package numble.team4.shortformserver.likevideo.application;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface LikedVideoLookup {
+
+    // 회원이 좋아요한 영상만 (videoId -> likesId) 로 반환한다
+    Map<Long, Long> findLikesIds(Long memberId, Collection<Long> videoIds);
+
+    void evict(Long memberId);
+}
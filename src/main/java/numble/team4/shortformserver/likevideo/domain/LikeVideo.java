@@ -9,6 +9,8 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -19,6 +21,8 @@ import numble.team4.shortformserver.video.domain.Video;
 @Getter
 @AllArgsConstructor(access = PROTECTED)
 @NoArgsConstructor(access = PROTECTED)
+@Table(name = "like_video",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"member_id", "video_id"}))
 public class LikeVideo {
 
     @Id
@@ -41,12 +45,4 @@ public class LikeVideo {
         return this.member.equals(member);
     }
 
-    public void like() {
-        video.increaseLikeCount();
-    }
-
-    public void unlike() {
-        video.decreaseLikeCount();
-    }
-
 }
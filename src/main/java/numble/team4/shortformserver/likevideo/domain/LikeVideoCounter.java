@@ -0,0 +1,34 @@
+package numble.team4.shortformserver.likevideo.domain;
+
+import static javax.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "video_like_counter",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"video_id", "slot"}))
+public class LikeVideoCounter {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    private Long id;
+
+    @Column(name = "video_id", nullable = false)
+    private Long videoId;
+
+    @Column(nullable = false)
+    private int slot;
+
+    @Column(nullable = false)
+    private long likeCount;
+}
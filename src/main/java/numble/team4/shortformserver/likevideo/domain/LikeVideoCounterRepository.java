@@ -0,0 +1,17 @@
+package numble.team4.shortformserver.likevideo.domain;
+
+import numble.team4.shortformserver.likevideo.infrastructure.LikeVideoCounterCustomRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LikeVideoCounterRepository extends JpaRepository<LikeVideoCounter, Long>, LikeVideoCounterCustomRepository {
+
+    @Query("select coalesce(sum(c.likeCount), 0) from LikeVideoCounter c where c.videoId = :videoId")
+    long sumLikeCountByVideoId(@Param("videoId") Long videoId);
+
+    @Modifying
+    @Query("delete from LikeVideoCounter c where c.videoId = :videoId")
+    void deleteAllByVideoId(@Param("videoId") Long videoId);
+}
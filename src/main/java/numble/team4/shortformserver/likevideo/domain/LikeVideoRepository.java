@@ -1,17 +1,26 @@
 package numble.team4.shortformserver.likevideo.domain;
 
+import numble.team4.shortformserver.common.domain.RelationId;
+import numble.team4.shortformserver.likevideo.infrastructure.LikeVideoCustomRepository;
 import numble.team4.shortformserver.member.member.domain.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface LikeVideoRepository extends JpaRepository<LikeVideo, Long> {
-
-    boolean existsByMember_IdAndVideo_Id(Long MemberId, Long VideoId);
+public interface LikeVideoRepository extends JpaRepository<LikeVideo, Long>, LikeVideoCustomRepository {
 
     @Query("select m.id from LikeVideo m where m.member=:member and m.video.id=:videoId")
     Optional<Long> findIdByMemberAndVideoId(@Param("member") Member member, @Param("videoId") Long videoId);
 
+    @Query("select m.video.id as targetId, m.id as id from LikeVideo m where m.member.id=:memberId and m.video.id in :videoIds")
+    List<RelationId> findRelationIds(@Param("memberId") Long memberId, @Param("videoIds") Collection<Long> videoIds);
+
+    @Query("select m.video.id as targetId, m.id as id from LikeVideo m where m.member.id=:memberId")
+    List<RelationId> findRelationIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
 }
@@ -0,0 +1,41 @@
+package numble.team4.shortformserver.likevideo.infrastructure;
+
+import static numble.team4.shortformserver.common.infrastructure.RelationStateCache.toMap;
+
+import java.util.Collection;
+import java.util.Map;
+import numble.team4.shortformserver.common.infrastructure.RelationStateCache;
+import numble.team4.shortformserver.likevideo.application.LikedVideoLookup;
+import numble.team4.shortformserver.likevideo.domain.LikeVideoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(value = "likevideo.state-cache.enabled", havingValue = "true")
+public class CachedLikedVideoLookup implements LikedVideoLookup {
+
+    private final LikeVideoRepository likeVideoRepository;
+    private final RelationStateCache likedVideos;
+
+    public CachedLikedVideoLookup(
+        LikeVideoRepository likeVideoRepository,
+        @Value("${likevideo.state-cache.max-likes-per-member:5000}") int maxLikesPerMember,
+        @Value("${likevideo.state-cache.max-members:10000}") long maxMembers,
+        @Value("${likevideo.state-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.likeVideoRepository = likeVideoRepository;
+        this.likedVideos = new RelationStateCache(likeVideoRepository::findRelationIdsByMemberId,
+            maxLikesPerMember, maxMembers, ttlSeconds);
+    }
+
+    @Override
+    public Map<Long, Long> findLikesIds(Long memberId, Collection<Long> videoIds) {
+        return likedVideos.find(memberId, videoIds)
+            .orElseGet(() -> toMap(likeVideoRepository.findRelationIds(memberId, videoIds)));
+    }
+
+    @Override
+    public void evict(Long memberId) {
+        likedVideos.evict(memberId);
+    }
+}
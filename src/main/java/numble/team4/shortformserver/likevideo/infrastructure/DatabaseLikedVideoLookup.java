@@ -0,0 +1,28 @@
+package numble.team4.shortformserver.likevideo.infrastructure;
+
+import static numble.team4.shortformserver.common.infrastructure.RelationStateCache.toMap;
+
+import java.util.Collection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.likevideo.application.LikedVideoLookup;
+import numble.team4.shortformserver.likevideo.domain.LikeVideoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "likevideo.state-cache.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseLikedVideoLookup implements LikedVideoLookup {
+
+    private final LikeVideoRepository likeVideoRepository;
+
+    @Override
+    public Map<Long, Long> findLikesIds(Long memberId, Collection<Long> videoIds) {
+        return toMap(likeVideoRepository.findRelationIds(memberId, videoIds));
+    }
+
+    @Override
+    public void evict(Long memberId) {
+    }
+}
@@ -0,0 +1,14 @@
+package numble.team4.shortformserver.likevideo.infrastructure;
+
+import java.util.Collection;
+
+public interface LikeVideoCounterCustomRepository {
+
+    void addLikeCount(Long videoId, int slot, long delta);
+
+    void compactLikeCounts(Collection<Long> videoIds);
+
+    long findMaxVideoId();
+
+    void reconcileLikeCounts(long fromVideoId, long toVideoId);
+}
@@ -0,0 +1,69 @@
+package numble.team4.shortformserver.likevideo.infrastructure;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class LikeVideoCounterCustomRepositoryImpl implements LikeVideoCounterCustomRepository {
+
+    private static final String ADD_TO_SLOT =
+        "UPDATE video_like_counter SET like_count = like_count + ? WHERE video_id = ? AND slot = ?";
+    private static final String INSERT_SLOT =
+        "INSERT INTO video_like_counter (video_id, slot, like_count) VALUES (?, ?, ?)";
+    private static final String COMPACT_VIDEO_LIKE_COUNT =
+        "UPDATE video SET like_count = "
+            + "(SELECT COALESCE(SUM(c.like_count), 0) FROM video_like_counter c WHERE c.video_id = ?) "
+            + "WHERE id = ?";
+    private static final String FIND_MAX_VIDEO_ID = "SELECT COALESCE(MAX(id), 0) FROM video";
+    private static final String CLEAR_SLOTS =
+        "DELETE FROM video_like_counter WHERE video_id >= ? AND video_id < ?";
+    private static final String RECOUNT_SLOTS =
+        "INSERT INTO video_like_counter (video_id, slot, like_count) "
+            + "SELECT l.video_id, 0, COUNT(*) FROM like_video l "
+            + "WHERE l.video_id >= ? AND l.video_id < ? GROUP BY l.video_id";
+    private static final String RECOUNT_VIDEO_LIKE_COUNT =
+        "UPDATE video SET like_count = "
+            + "(SELECT COUNT(*) FROM like_video l WHERE l.video_id = video.id) "
+            + "WHERE id >= ? AND id < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addLikeCount(Long videoId, int slot, long delta) {
+        if (jdbcTemplate.update(ADD_TO_SLOT, delta, videoId, slot) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SLOT, videoId, slot, delta);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(ADD_TO_SLOT, delta, videoId, slot);
+        }
+    }
+
+    @Override
+    public void compactLikeCounts(Collection<Long> videoIds) {
+        List<Object[]> args = videoIds.stream()
+            .sorted()
+            .map(videoId -> new Object[]{videoId, videoId})
+            .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(COMPACT_VIDEO_LIKE_COUNT, args);
+    }
+
+    @Override
+    public long findMaxVideoId() {
+        Long maxId = jdbcTemplate.queryForObject(FIND_MAX_VIDEO_ID, Long.class);
+        return (maxId == null) ? 0L : maxId;
+    }
+
+    @Override
+    public void reconcileLikeCounts(long fromVideoId, long toVideoId) {
+        jdbcTemplate.update(CLEAR_SLOTS, fromVideoId, toVideoId);
+        jdbcTemplate.update(RECOUNT_SLOTS, fromVideoId, toVideoId);
+        jdbcTemplate.update(RECOUNT_VIDEO_LIKE_COUNT, fromVideoId, toVideoId);
+    }
+}
@@ -0,0 +1,6 @@
+package numble.team4.shortformserver.likevideo.infrastructure;
+
+public interface LikeVideoCustomRepository {
+
+    boolean insertIfAbsent(Long memberId, Long videoId);
+}
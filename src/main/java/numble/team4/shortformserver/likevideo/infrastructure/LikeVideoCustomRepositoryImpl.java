@@ -0,0 +1,24 @@
+package numble.team4.shortformserver.likevideo.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class LikeVideoCustomRepositoryImpl implements LikeVideoCustomRepository {
+
+    private static final String INSERT_LIKE_VIDEO =
+        "INSERT INTO like_video (member_id, video_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 중복은 unique 제약으로 판단하므로 이미 좋아요한 경우에도 한 번의 쿼리로 끝난다
+    @Override
+    public boolean insertIfAbsent(Long memberId, Long videoId) {
+        try {
+            return jdbcTemplate.update(INSERT_LIKE_VIDEO, memberId, videoId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
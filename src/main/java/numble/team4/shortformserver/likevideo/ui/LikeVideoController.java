@@ -4,10 +4,13 @@ import lombok.RequiredArgsConstructor;
 import numble.team4.shortformserver.common.dto.CommonResponse;
 import numble.team4.shortformserver.likevideo.application.LikeVideoService;
 import numble.team4.shortformserver.likevideo.ui.dto.LikeVideoExistResponse;
+import numble.team4.shortformserver.likevideo.ui.dto.LikeVideoStateResponse;
 import numble.team4.shortformserver.member.auth.util.LoginUser;
 import numble.team4.shortformserver.member.member.domain.Member;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 import static numble.team4.shortformserver.likevideo.ui.LikeVideoResponseMessage.*;
 
 @RestController
@@ -23,6 +26,14 @@ public class LikeVideoController {
         return CommonResponse.of(existLikeVideo, GET_IS_EXIST_LIKE_VIDEO.getMessage());
     }
 
+    @GetMapping("/likes/states")
+    public CommonResponse<List<LikeVideoStateResponse>> getLikeVideoStates(
+            @LoginUser Member member,
+            @RequestParam("video_ids") List<Long> videoIds) {
+        List<LikeVideoStateResponse> states = likeVideoService.getLikeVideoStates(member, videoIds);
+        return CommonResponse.of(states, GET_LIKE_VIDEO_STATES.getMessage());
+    }
+
     @PostMapping("/{videoId}/likes")
     public CommonResponse saveLikeVideo(@LoginUser Member member, @PathVariable Long videoId) {
         likeVideoService.saveLikeVideo(member, videoId);
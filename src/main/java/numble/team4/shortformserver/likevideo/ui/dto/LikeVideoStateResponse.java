@@ -0,0 +1,27 @@
+package numble.team4.shortformserver.likevideo.ui.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@Getter
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonInclude(NON_NULL)
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+public class LikeVideoStateResponse {
+
+    private final Long videoId;
+    private final boolean existLikeVideo;
+    private final Long likesId;
+
+    public static LikeVideoStateResponse of(Long videoId, Long likesId) {
+        return new LikeVideoStateResponse(videoId, Objects.nonNull(likesId), likesId);
+    }
+}
@@ -2,15 +2,13 @@ package numble.team4.shortformserver.member.auth.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.member.auth.application.dto.MemberPrincipal;
 import numble.team4.shortformserver.member.auth.domain.MemberAdapter;
 import numble.team4.shortformserver.member.auth.exception.EmailEmptyException;
-import numble.team4.shortformserver.member.member.domain.Member;
-import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -18,16 +16,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailService implements UserDetailsService {
 
     private static final String USER_NAME_NOT_FOUND = "사용자를 찾을 수 없습니다.";
-    private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final LastLoginRecorder lastLoginRecorder;
 
-    @Transactional
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findById(Long.valueOf(username))
+        return loadUserByToken(Long.valueOf(username), false);
+    }
+
+    public MemberAdapter loadUserByToken(Long memberId, boolean emailVerified) {
+        MemberPrincipal principal = memberPrincipalCache.get(memberId)
                 .orElseThrow(() -> new UsernameNotFoundException(USER_NAME_NOT_FOUND));
-        if (member.hasNotEmail())
+        // 이메일 인증은 되돌릴 수 없으므로 토큰에 인증 완료로 기록되어 있으면 다시 확인하지 않는다
+        if (!emailVerified && principal.hasNotEmail())
             throw new EmailEmptyException();
-        member.updateLastLoginDate();
-        return new MemberAdapter(member);
+        lastLoginRecorder.record(memberId);
+        return new MemberAdapter(principal.toMember());
     }
 }
@@ -0,0 +1,69 @@
+package numble.team4.shortformserver.member.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.member.member.infrastructure.MemberLoginJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class LastLoginRecorder {
+
+    private final MemberLoginJdbcRepository memberLoginJdbcRepository;
+    private final Cache<Long, Boolean> recentlyRecorded;
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginRecorder(
+        MemberLoginJdbcRepository memberLoginJdbcRepository,
+        @Value("${member.last-login.window-ms:300000}") long windowMs,
+        @Value("${member.last-login.max-tracked:100000}") long maxTracked) {
+        this.memberLoginJdbcRepository = memberLoginJdbcRepository;
+        this.recentlyRecorded = Caffeine.newBuilder()
+            .maximumSize(maxTracked)
+            .expireAfterWrite(Duration.ofMillis(windowMs))
+            .build();
+    }
+
+    public void record(Long memberId) {
+        if (recentlyRecorded.asMap().putIfAbsent(memberId, Boolean.TRUE) == null) {
+            pending.put(memberId, LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${member.last-login.flush-interval-ms:10000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, LocalDateTime> lastLoginDates = new TreeMap<>();
+        for (Long memberId : new ArrayList<>(pending.keySet())) {
+            LocalDateTime loginDate = pending.remove(memberId);
+            if (loginDate != null) {
+                lastLoginDates.put(memberId, loginDate);
+            }
+        }
+
+        try {
+            memberLoginJdbcRepository.updateLastLoginDates(lastLoginDates);
+        } catch (RuntimeException e) {
+            log.error("마지막 로그인 시간 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+            lastLoginDates.forEach(pending::putIfAbsent);
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
@@ -0,0 +1,39 @@
+package numble.team4.shortformserver.member.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Optional;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import numble.team4.shortformserver.member.auth.application.dto.MemberPrincipal;
+import numble.team4.shortformserver.member.member.domain.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 캐시에는 변경할 수 없는 인증 정보만 두고, 값을 바꾸는 코드는 영속 상태의 Member 를 다시 조회한다
+@Component
+public class MemberPrincipalCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, MemberPrincipal> members;
+
+    public MemberPrincipalCache(
+        MemberRepository memberRepository,
+        @Value("${member.principal-cache.max-size:10000}") long maxSize,
+        @Value("${member.principal-cache.expire-after-write-ms:600000}") long expireAfterWriteMs) {
+        this.memberRepository = memberRepository;
+        this.members = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+            .build();
+    }
+
+    public Optional<MemberPrincipal> get(Long memberId) {
+        return Optional.ofNullable(
+            members.get(memberId, id -> memberRepository.findById(id).map(MemberPrincipal::from).orElse(null)));
+    }
+
+    public void evict(Long memberId) {
+        AfterCommit.runNowAndAfterCommit(() -> members.invalidate(memberId));
+    }
+}
@@ -0,0 +1,46 @@
+package numble.team4.shortformserver.member.auth.application.dto;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.Role;
+
+// 요청 스레드들이 함께 읽는 값이므로 바꿀 수 없게 두고, 요청마다 새 Member 를 만들어 넘긴다
+@Getter
+@AllArgsConstructor(access = PRIVATE)
+public class MemberPrincipal {
+
+    private final Long id;
+    private final Role role;
+    private final String name;
+    private final String email;
+    private final String profileImageUrl;
+    private final boolean emailVerified;
+
+    public static MemberPrincipal from(Member member) {
+        return new MemberPrincipal(
+            member.getId(),
+            member.getRole(),
+            member.getName(),
+            member.getEmail(),
+            member.getProfileImageUrl(),
+            member.isEmailVerified());
+    }
+
+    public boolean hasNotEmail() {
+        return !emailVerified;
+    }
+
+    public Member toMember() {
+        return Member.builder()
+            .id(id)
+            .role(role)
+            .name(name)
+            .email(email)
+            .profileImageUrl(profileImageUrl)
+            .emailVerified(emailVerified)
+            .build();
+    }
+}
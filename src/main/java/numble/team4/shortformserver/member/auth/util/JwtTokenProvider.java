@@ -1,57 +1,90 @@
 package numble.team4.shortformserver.member.auth.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.impl.TextCodec;
 import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.member.auth.application.CustomUserDetailService;
+import numble.team4.shortformserver.member.auth.domain.MemberAdapter;
 import numble.team4.shortformserver.member.auth.util.dto.JwtTokenDto;
 import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.Role;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.spec.SecretKeySpec;
 import javax.servlet.http.HttpServletRequest;
+import java.security.Key;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import static io.jsonwebtoken.SignatureAlgorithm.*;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailService userDetailsService;
 
-    @Value("${jwt.secretKey}")
-    private String SECRET_KEY;
-
-    @Value("${jwt.refreshKey}")
-    private String REFRESH_KEY;
+    private final Key secretKey;
+    private final Key refreshKey;
+    private final JwtParser accessTokenParser;
+    private final JwtParser refreshTokenParser;
+    private final Cache<String, Claims> verifiedAccessTokens;
 
     private static final String AUTHORIZATION = "Authorization";
     private static final String BEARER = "Bearer";
     private static final String TOKEN_DELIMITER = " ";
+    private static final String ROLE_CLAIM = "role";
+    private static final String EMAIL_VERIFIED_CLAIM = "emailVerified";
     private static final long ACCESS_TOKEN_VALID_TIME = 6 * 60 * 60 * 1000L;
     private static final long REFRESH_TOKEN_VALID_TIME  = 60 * 24 * 60 * 60 * 1000L;
 
+    public JwtTokenProvider(
+            CustomUserDetailService userDetailsService,
+            @Value("${jwt.secretKey}") String secretKey,
+            @Value("${jwt.refreshKey}") String refreshKey,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
+        this.userDetailsService = userDetailsService;
+        this.secretKey = toSigningKey(secretKey);
+        this.refreshKey = toSigningKey(refreshKey);
+        this.accessTokenParser = Jwts.parser().setSigningKey(this.secretKey);
+        this.refreshTokenParser = Jwts.parser().setSigningKey(this.refreshKey);
+        this.verifiedAccessTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
+
     public JwtTokenDto createTokens(Member member) {
-        String accessToken = createToken(member, SECRET_KEY, ACCESS_TOKEN_VALID_TIME);
-        String refreshToken = createToken(member, REFRESH_KEY, REFRESH_TOKEN_VALID_TIME);
+        String accessToken = createToken(member, secretKey, ACCESS_TOKEN_VALID_TIME);
+        String refreshToken = createToken(member, refreshKey, REFRESH_TOKEN_VALID_TIME);
 
         return new JwtTokenDto(accessToken, refreshToken);
     }
 
     public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUserIdFromAccessToken(token).toString());
-        return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
+        Claims claims = parseAccessToken(token);
+        boolean emailVerified = Boolean.TRUE.equals(claims.get(EMAIL_VERIFIED_CLAIM, Boolean.class));
+
+        MemberAdapter memberAdapter = userDetailsService.loadUserByToken(Long.valueOf(claims.getSubject()), emailVerified);
+        return new UsernamePasswordAuthenticationToken(memberAdapter, memberAdapter.getPassword(), getAuthorities(claims, memberAdapter));
     }
 
-    public String createToken(Member member, String encodingKey, long validTime) {
+    private String createToken(Member member, Key signingKey, long validTime) {
         Claims claims = Jwts.claims().setSubject(member.getId().toString());
+        claims.put(ROLE_CLAIM, member.getRole().name());
+        claims.put(EMAIL_VERIFIED_CLAIM, member.isEmailVerified());
         Date now = new Date();
         Date expireDate = new Date(now.getTime() + validTime);
 
@@ -59,20 +92,24 @@ public class JwtTokenProvider {
                 .setClaims(claims)
                 .setIssuedAt(now)
                 .setExpiration(expireDate)
-                .signWith(HS256, encodingKey)
+                .signWith(HS256, signingKey)
                 .compact();
     }
 
+    private Collection<? extends GrantedAuthority> getAuthorities(Claims claims, MemberAdapter memberAdapter) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (!StringUtils.hasText(role)) {
+            return memberAdapter.getAuthorities();
+        }
+        return Collections.singleton(new SimpleGrantedAuthority(Role.valueOf(role).getSecurityRole()));
+    }
+
     public Long getUserIdFromAccessToken(String token) {
-        return Long.valueOf(Jwts.parser().setSigningKey(SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject());
+        return Long.valueOf(parseAccessToken(token).getSubject());
     }
 
     public Long getUserIdFromRefreshToken(String token) {
-        return Long.valueOf(Jwts.parser().setSigningKey(REFRESH_KEY)
-                .parseClaimsJws(token)
+        return Long.valueOf(refreshTokenParser.parseClaimsJws(token)
                 .getBody()
                 .getSubject());
     }
@@ -88,8 +125,7 @@ public class JwtTokenProvider {
 
     public boolean validateTokenSecretToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            return !parseAccessToken(token).getExpiration().before(new Date());
         } catch (Exception e) {
             return false;
         }
@@ -97,10 +133,41 @@ public class JwtTokenProvider {
 
     public boolean validateTokenRefreshToken(String token) {
         try {
-            Jws<Claims> claims = Jwts.parser().setSigningKey(REFRESH_KEY).parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            Claims claims = refreshTokenParser.parseClaimsJws(token).getBody();
+            return !claims.getExpiration().before(new Date());
         } catch (Exception e) {
             return false;
         }
     }
+
+    private Claims parseAccessToken(String token) {
+        return verifiedAccessTokens.get(token, key -> accessTokenParser.parseClaimsJws(key).getBody());
+    }
+
+    private static Key toSigningKey(String encodedKey) {
+        return new SecretKeySpec(TextCodec.BASE64.decode(encodedKey), HS256.getJcaName());
+    }
+
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0L;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
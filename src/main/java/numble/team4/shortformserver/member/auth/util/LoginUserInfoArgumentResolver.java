@@ -6,6 +6,7 @@ import numble.team4.shortformserver.member.auth.domain.MemberAdapter;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,9 +31,11 @@ public class LoginUserInfoArgumentResolver implements HandlerMethodArgumentResol
 
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
-        MemberAdapter memberAdapter = (MemberAdapter) SecurityContextHolder.getContext()
-                .getAuthentication()
-                .getPrincipal();
-        return memberAdapter.getMember();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // 로그인하지 않아도 되는 요청에서는 익명 사용자가 들어오므로 null 을 넘긴다
+        if (authentication == null || !(authentication.getPrincipal() instanceof MemberAdapter)) {
+            return null;
+        }
+        return ((MemberAdapter) authentication.getPrincipal()).getMember();
     }
 }
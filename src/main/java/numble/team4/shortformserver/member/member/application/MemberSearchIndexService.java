@@ -0,0 +1,82 @@
+package numble.team4.shortformserver.member.member.application;
+
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.MemberRepository;
+import numble.team4.shortformserver.member.member.domain.Role;
+import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class MemberSearchIndexService {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean backfillOnStartup;
+
+    public MemberSearchIndexService(
+            MemberRepository memberRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.search.rebuild-chunk-size:500}") int chunkSize,
+            @Value("${member.search.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    public long rebuildSearchIndex(Member admin) {
+        if (!admin.getRole().equals(Role.ADMIN)) {
+            throw new NoAccessPermissionException();
+        }
+
+        long indexed = reindex(lastId -> memberRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, chunkSize)));
+        log.info("회원 검색 색인을 재생성했습니다. count={}", indexed);
+        return indexed;
+    }
+
+    // 색인을 도입하기 전에 가입했거나 마이그레이션으로 색인이 비워진 회원은 검색되지 않으므로 시작할 때 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            long indexed = reindex(lastId -> memberRepository.findUnindexedMembers(lastId, chunkSize));
+            log.info("검색 색인이 없는 회원의 색인을 생성했습니다. count={}", indexed);
+        } catch (RuntimeException e) {
+            log.warn("회원 검색 색인 생성에 실패했습니다. 다른 노드가 같은 회원을 색인했을 수 있습니다.", e);
+        }
+    }
+
+    private long reindex(Function<Long, List<Member>> nextChunk) {
+        long indexed = 0;
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long cursor = lastId;
+            List<Long> indexedIds = transactionTemplate.execute(status -> reindexChunk(nextChunk.apply(cursor)));
+            indexed += indexedIds.size();
+            lastId = (indexedIds.size() < chunkSize) ? null : indexedIds.get(indexedIds.size() - 1);
+        }
+        return indexed;
+    }
+
+    private List<Long> reindexChunk(List<Member> members) {
+        members.forEach(Member::indexSearchTokens);
+        return members.stream()
+                .map(Member::getId)
+                .collect(Collectors.toList());
+    }
+}
@@ -5,7 +5,8 @@ import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
 import numble.team4.shortformserver.aws.dto.S3UploadDto;
 import numble.team4.shortformserver.common.dto.CommonResponse;
 import numble.team4.shortformserver.common.dto.PageInfo;
-import numble.team4.shortformserver.follow.domain.FollowRepository;
+import numble.team4.shortformserver.follow.application.FollowService;
+import numble.team4.shortformserver.member.auth.application.MemberPrincipalCache;
 import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponse;
 import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponseForAdmin;
 import numble.team4.shortformserver.member.member.domain.Member;
@@ -14,7 +15,6 @@ import numble.team4.shortformserver.member.member.exception.NotExistMemberExcept
 import numble.team4.shortformserver.member.member.ui.dto.AllMemberInfoRequest;
 import numble.team4.shortformserver.member.member.ui.dto.MemberEmailRequest;
 import numble.team4.shortformserver.member.member.ui.dto.MemberNameUpdateRequest;
-import numble.team4.shortformserver.video.domain.VideoRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -31,42 +31,47 @@ import static numble.team4.shortformserver.member.member.ui.MemberResponseMessag
 @RequiredArgsConstructor
 public class MemberService {
 
-    private final VideoRepository videoRepository;
-    private final FollowRepository followRepository;
     private final MemberRepository memberRepository;
+    private final MemberStatsCounter memberStatsCounter;
+    private final FollowService followService;
     private final AmazonS3Uploader uploader;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     public MemberInfoResponse getMemberInfo(Long memberId) {
-        Member member = memberRepository.findById(memberId)
+        return memberRepository.findMemberInfo(memberId)
                 .orElseThrow(NotExistMemberException::new);
-        long followers = followRepository.countByToMember(member);
-        long followings = followRepository.countByFromMember(member);
-        long videos = videoRepository.countByMember(member);
-
-        return MemberInfoResponse.of(member, followers, followings, videos);
     }
 
     @Transactional
     public void saveProfileImage(Member member, MultipartFile file) {
+        Member findMember = findManagedMember(member);
         S3UploadDto uploadDto = uploader.saveToS3(file, "user");
 
-        if (StringUtils.hasText(member.getProfileImageUrl())) {
-            uploader.deleteToS3(member.getProfileImageUrl());
+        if (StringUtils.hasText(findMember.getProfileImageUrl())) {
+            uploader.deleteToS3(findMember.getProfileImageUrl());
         }
-        member.updateProfileImage(uploadDto.getFileUrl());
-        memberRepository.save(member);
+        findMember.updateProfileImage(uploadDto.getFileUrl());
+        memberPrincipalCache.evict(member.getId());
     }
 
     @Transactional
     public void updateUserName(Member member, MemberNameUpdateRequest request) {
-        member.updateName(request.getName());
-        memberRepository.save(member);
+        Member findMember = findManagedMember(member);
+        findMember.updateName(request.getName());
+        memberPrincipalCache.evict(member.getId());
     }
 
     @Transactional
     public void updateUserEmail(Member member, MemberEmailRequest request) {
-        member.updateEmail(request.getEmail());
-        memberRepository.save(member);
+        Member findMember = findManagedMember(member);
+        findMember.updateEmail(request.getEmail());
+        memberPrincipalCache.evict(member.getId());
+    }
+
+    // 로그인 회원은 캐시된 인증 정보로 요청마다 만든 객체이므로 값을 바꿀 때는 영속 상태로 다시 조회한다
+    private Member findManagedMember(Member member) {
+        return memberRepository.findById(member.getId())
+                .orElseThrow(NotExistMemberException::new);
     }
 
     public CommonResponse<List<MemberInfoResponseForAdmin>> getAllMemberInfo(AllMemberInfoRequest request, Pageable pageable) {
@@ -79,7 +84,10 @@ public class MemberService {
     public void deleteMemberById(Long id) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(NotExistMemberException::new);
+        followService.deleteAllFollows(id);
+        memberStatsCounter.remove(id);
         memberRepository.delete(member);
+        memberPrincipalCache.evict(id);
     }
 }
 
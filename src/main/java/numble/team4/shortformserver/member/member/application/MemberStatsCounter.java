@@ -0,0 +1,105 @@
+package numble.team4.shortformserver.member.member.application;
+
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.member.member.domain.MemberStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.LongBinaryOperator;
+
+@Slf4j
+@Component
+@Transactional
+public class MemberStatsCounter {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean backfillOnStartup;
+    private final int reconcileChunkSize;
+
+    public MemberStatsCounter(
+            MemberStatsRepository memberStatsRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${member.stats.backfill-on-startup:true}") boolean backfillOnStartup,
+            @Value("${member.stats.reconcile-chunk-size:1000}") int reconcileChunkSize) {
+        this.memberStatsRepository = memberStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfillOnStartup = backfillOnStartup;
+        this.reconcileChunkSize = reconcileChunkSize;
+    }
+
+    public void follow(Long fromMemberId, Long toMemberId) {
+        addFollow(fromMemberId, toMemberId, 1L);
+    }
+
+    public void unfollow(Long fromMemberId, Long toMemberId) {
+        addFollow(fromMemberId, toMemberId, -1L);
+    }
+
+    public void increaseVideoCount(Long memberId) {
+        memberStatsRepository.addVideoCount(memberId, 1L);
+    }
+
+    public void decreaseVideoCount(Long memberId) {
+        memberStatsRepository.addVideoCount(memberId, -1L);
+    }
+
+    public void remove(Long memberId) {
+        memberStatsRepository.deleteByMemberId(memberId);
+    }
+
+    public void decreaseFollowerCounts(List<Long> memberIds) {
+        memberStatsRepository.addFollowerCounts(memberIds, -1L);
+    }
+
+    public void decreaseFollowingCounts(List<Long> memberIds) {
+        memberStatsRepository.addFollowingCounts(memberIds, -1L);
+    }
+
+    // 서로 팔로우하는 요청이 동시에 들어와도 교착 상태가 생기지 않도록 id 순서대로 갱신한다
+    private void addFollow(Long fromMemberId, Long toMemberId, long delta) {
+        if (fromMemberId < toMemberId) {
+            memberStatsRepository.addFollowingCount(fromMemberId, delta);
+            memberStatsRepository.addFollowerCount(toMemberId, delta);
+            return;
+        }
+        memberStatsRepository.addFollowerCount(toMemberId, delta);
+        memberStatsRepository.addFollowingCount(fromMemberId, delta);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        long created = inChunks(memberStatsRepository::backfillMemberStats);
+        log.info("회원 통계가 없는 회원의 통계를 생성했습니다. count={}", created);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Scheduled(cron = "${member.stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long updated = inChunks(memberStatsRepository::reconcileMemberStats);
+        log.info("회원 통계를 follow, video 기준으로 재계산했습니다. count={}", updated);
+    }
+
+    // 팔로우와 영상 등록이 전체 테이블 잠금을 기다리지 않도록 회원 id 구간마다 트랜잭션을 나눈다
+    private long inChunks(LongBinaryOperator chunk) {
+        long maxMemberId = memberStatsRepository.findMaxMemberId();
+        long total = 0L;
+        for (long from = 1L; from <= maxMemberId; from += reconcileChunkSize) {
+            long fromMemberId = from;
+            total += transactionTemplate.execute(status -> chunk.applyAsLong(fromMemberId, fromMemberId + reconcileChunkSize));
+        }
+        return total;
+    }
+}
@@ -6,8 +6,10 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.MemberStats;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,6 +27,13 @@ public class MemberInfoResponse {
     private final long followings;
     private final long videos;
 
+    public static MemberInfoResponse of(Member member, MemberStats stats) {
+        if (Objects.isNull(stats)) {
+            return of(member, 0L, 0L, 0L);
+        }
+        return of(member, stats.getFollowerCount(), stats.getFollowingCount(), stats.getVideoCount());
+    }
+
     public static MemberInfoResponse of(Member member, long followers, long followings, long videos) {
         return new MemberInfoResponse(
                 member.getId(),
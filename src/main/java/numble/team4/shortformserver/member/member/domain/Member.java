@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import numble.team4.shortformserver.common.domain.BaseTimeEntity;
+import numble.team4.shortformserver.common.domain.SearchTokenizer;
 import numble.team4.shortformserver.member.auth.domain.OauthProvider;
 import numble.team4.shortformserver.video.domain.Video;
 import org.hibernate.Hibernate;
@@ -13,8 +14,10 @@ import org.hibernate.annotations.DynamicUpdate;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import static javax.persistence.GenerationType.IDENTITY;
 import static lombok.AccessLevel.PROTECTED;
@@ -48,6 +51,12 @@ public class Member extends BaseTimeEntity {
     @Builder.Default
     private List<Video> videos = new ArrayList<>();
 
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "member_search_token", joinColumns = @JoinColumn(name = "member_id"))
+    @Column(name = "token", nullable = false)
+    private Set<String> searchTokens = new HashSet<>();
+
     @Builder
     public Member(Long userId, String email, String name, Role role, OauthProvider provider, boolean emailVerified) {
         this.userId = userId;
@@ -56,27 +65,41 @@ public class Member extends BaseTimeEntity {
         this.role = role;
         this.provider = provider;
         this.emailVerified = emailVerified;
+        this.searchTokens = new HashSet<>();
     }
 
     public boolean hasNotEmail() {
         return !emailVerified;
     }
 
-    public void updateLastLoginDate() {
-        lastLoginDate = LocalDateTime.now();
-    }
-  
     public void updateProfileImage(String profileImageUrl) {
         this.profileImageUrl = profileImageUrl;
     }
 
     public void updateName(String name) {
         this.name = name;
+        indexSearchTokens();
     }
 
     public void updateEmail(String email) {
         this.email = email;
         this.emailVerified = true;
+        indexSearchTokens();
+    }
+
+    // 도메인의 2-gram 은 거의 모든 회원이 공유해 후보를 좁히지 못하므로 이메일은 @ 앞부분만 색인한다
+    @PrePersist
+    public void indexSearchTokens() {
+        Set<String> tokens = SearchTokenizer.tokenize(localPartOf(email), name);
+        searchTokens.retainAll(tokens);
+        searchTokens.addAll(tokens);
+    }
+
+    public static String localPartOf(String text) {
+        if (Objects.isNull(text) || text.indexOf('@') < 0) {
+            return text;
+        }
+        return text.substring(0, text.indexOf('@'));
     }
 
     @Override
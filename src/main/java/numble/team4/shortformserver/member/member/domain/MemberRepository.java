@@ -2,12 +2,15 @@ package numble.team4.shortformserver.member.member.domain;
 
 import numble.team4.shortformserver.member.auth.domain.OauthProvider;
 import numble.team4.shortformserver.member.member.infrastructure.MemberCustomRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, MemberCustomRepository {
     Optional<Member> findByEmail(String email);
     Optional<Member> findByUserIdAndProvider(Long userId, OauthProvider provider);
     boolean existsById(Long id);
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
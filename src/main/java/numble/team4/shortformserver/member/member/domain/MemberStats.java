@@ -0,0 +1,31 @@
+package numble.team4.shortformserver.member.member.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import static lombok.AccessLevel.PROTECTED;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "member_stats")
+public class MemberStats {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(nullable = false)
+    private long followerCount;
+
+    @Column(nullable = false)
+    private long followingCount;
+
+    @Column(nullable = false)
+    private long videoCount;
+}
@@ -0,0 +1,18 @@
+package numble.team4.shortformserver.member.member.domain;
+
+import java.util.List;
+import numble.team4.shortformserver.member.member.infrastructure.MemberStatsCustomRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long>, MemberStatsCustomRepository {
+
+    @Query("select s.memberId from MemberStats s where s.followerCount >= :followerCount")
+    List<Long> findMemberIdsByFollowerCountGreaterThanEqual(@Param("followerCount") long followerCount);
+
+    @Modifying
+    @Query("delete from MemberStats s where s.memberId = :memberId")
+    void deleteByMemberId(@Param("memberId") Long memberId);
+}
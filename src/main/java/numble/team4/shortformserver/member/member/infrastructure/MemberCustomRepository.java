@@ -1,9 +1,17 @@
 package numble.team4.shortformserver.member.member.infrastructure;
 
+import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponse;
 import numble.team4.shortformserver.member.member.domain.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Optional;
+
 public interface MemberCustomRepository {
     Page<Member> findAllMembersByKeyword(String keyword, Pageable pageable);
+
+    Optional<MemberInfoResponse> findMemberInfo(Long memberId);
+
+    List<Member> findUnindexedMembers(Long lastId, int limit);
 }
@@ -1,40 +1,113 @@
 package numble.team4.shortformserver.member.member.infrastructure;
 
-import com.querydsl.core.types.Expression;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.common.domain.SearchTokenizer;
+import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponse;
 import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.QMember;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import static numble.team4.shortformserver.member.member.domain.QMember.member;
+import static numble.team4.shortformserver.member.member.domain.QMemberStats.memberStats;
 
 @RequiredArgsConstructor
 public class MemberCustomRepositoryImpl implements MemberCustomRepository {
 
     private final JPAQueryFactory factory;
 
+    // 이메일 도메인은 색인하지 않으므로 이름이나 @ 앞부분에서 찾지 못한 검색어는 도메인에 있을 수 있어 색인 없이 다시 찾는다
     @Override
     public Page<Member> findAllMembersByKeyword(String keyword, Pageable pageable) {
+        Page<Member> members = findAllMembers(checkContainsKeyword(keyword), pageable);
+        if (members.getTotalElements() > 0 || !isIndexed(keyword) || keyword.indexOf('@') >= 0) {
+            return members;
+        }
+        return findAllMembers(containsKeyword(keyword), pageable);
+    }
+
+    // 회원과 통계를 기본 키로 한 번에 조회한다
+    @Override
+    public Optional<MemberInfoResponse> findMemberInfo(Long memberId) {
+        Tuple result = factory.select(member, memberStats)
+                .from(member)
+                .leftJoin(memberStats).on(memberStats.memberId.eq(member.id))
+                .where(member.id.eq(memberId))
+                .fetchOne();
+
+        return Optional.ofNullable(result)
+                .map(tuple -> MemberInfoResponse.of(tuple.get(member), tuple.get(memberStats)));
+    }
+
+    @Override
+    public List<Member> findUnindexedMembers(Long lastId, int limit) {
+        return factory.selectFrom(member)
+                .where(member.id.gt(lastId), member.searchTokens.isEmpty())
+                .orderBy(member.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private Page<Member> findAllMembers(BooleanExpression condition, Pageable pageable) {
         List<Member> members = factory.selectFrom(member)
-                .where(checkContainsKeyword(keyword))
+                .where(condition)
                 .orderBy(member.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
-        return PageableExecutionUtils.getPage(members, pageable, members::size);
+
+        JPAQuery<Long> countQuery = factory.select(member.count())
+                .from(member)
+                .where(condition);
+        return PageableExecutionUtils.getPage(members, pageable, countQuery::fetchOne);
     }
 
+    // n-gram 색인으로 후보를 좁힌 뒤 실제 포함 여부를 확인한다.
+    // 이메일은 @ 앞부분만 색인하므로 검색어도 @ 앞부분의 2-gram 으로 후보를 찾는다
     BooleanExpression checkContainsKeyword(String keyword) {
         if (Objects.isNull(keyword)) {
             return Expressions.asBoolean(true).isTrue();
         }
+        if (!isIndexed(keyword)) {
+            return containsKeyword(keyword);
+        }
+
+        Set<String> tokens = SearchTokenizer.tokenize(Member.localPartOf(keyword));
+
+        QMember indexedMember = new QMember("indexedMember");
+        StringPath searchToken = Expressions.stringPath("searchToken");
+        return member.id.in(
+                JPAExpressions.select(indexedMember.id)
+                        .from(indexedMember)
+                        .join(indexedMember.searchTokens, searchToken)
+                        .where(searchToken.in(tokens))
+                        .groupBy(indexedMember.id)
+                        .having(searchToken.countDistinct().eq((long) tokens.size()))
+        ).and(containsKeyword(keyword));
+    }
+
+    // @ 가 없는데 . 이 있는 검색어는 numble.com 처럼 도메인일 가능성이 커서 색인으로 후보를 좁히지 않는다
+    private boolean isIndexed(String keyword) {
+        if (Objects.isNull(keyword) || SearchTokenizer.tokenize(Member.localPartOf(keyword)).isEmpty()) {
+            return false;
+        }
+        return keyword.indexOf('@') >= 0 || keyword.indexOf('.') < 0;
+    }
+
+    private BooleanExpression containsKeyword(String keyword) {
         return member.email.contains(keyword).or(member.name.contains(keyword));
     }
 }
@@ -0,0 +1,33 @@
+package numble.team4.shortformserver.member.member.infrastructure;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberLoginJdbcRepository {
+
+    private static final String UPDATE_LAST_LOGIN_DATE =
+        "UPDATE member SET last_login_date = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void updateLastLoginDates(Map<Long, LocalDateTime> lastLoginDates) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_DATE, toBatchArgs(lastLoginDates));
+    }
+
+    private List<Object[]> toBatchArgs(Map<Long, LocalDateTime> lastLoginDates) {
+        List<Object[]> args = new ArrayList<>(lastLoginDates.size());
+        lastLoginDates.forEach((memberId, loginDate) ->
+            args.add(new Object[]{Timestamp.valueOf(loginDate), memberId}));
+        return args;
+    }
+}
@@ -0,0 +1,22 @@
+package numble.team4.shortformserver.member.member.infrastructure;
+
+import java.util.Collection;
+
+public interface MemberStatsCustomRepository {
+
+    void addFollowerCount(Long memberId, long delta);
+
+    void addFollowingCount(Long memberId, long delta);
+
+    void addVideoCount(Long memberId, long delta);
+
+    void addFollowerCounts(Collection<Long> memberIds, long delta);
+
+    void addFollowingCounts(Collection<Long> memberIds, long delta);
+
+    long findMaxMemberId();
+
+    int backfillMemberStats(long fromMemberId, long toMemberId);
+
+    int reconcileMemberStats(long fromMemberId, long toMemberId);
+}
@@ -0,0 +1,116 @@
+package numble.team4.shortformserver.member.member.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MemberStatsCustomRepositoryImpl implements MemberStatsCustomRepository {
+
+    private static final String FOLLOWER_COUNT = "follower_count";
+    private static final String FOLLOWING_COUNT = "following_count";
+    private static final String VIDEO_COUNT = "video_count";
+
+    private static final String COUNT_FOLLOWERS = "(SELECT COUNT(*) FROM follow f WHERE f.to_member = %s)";
+    private static final String COUNT_FOLLOWINGS = "(SELECT COUNT(*) FROM follow f WHERE f.from_member = %s)";
+    // 업로드가 끝나 READY 가 될 때만 영상 수를 늘리므로 재계산도 READY 영상만 센다
+    private static final String COUNT_VIDEOS = "(SELECT COUNT(*) FROM video v WHERE v.member_id = %s AND v.status = 'READY')";
+
+    private static final String BACKFILL_STATS =
+            "INSERT INTO member_stats (member_id, follower_count, following_count, video_count) "
+                    + "SELECT m.id, "
+                    + String.format(COUNT_FOLLOWERS, "m.id") + ", "
+                    + String.format(COUNT_FOLLOWINGS, "m.id") + ", "
+                    + String.format(COUNT_VIDEOS, "m.id") + " "
+                    + "FROM member m "
+                    + "WHERE m.id >= ? AND m.id < ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM member_stats s WHERE s.member_id = m.id)";
+    private static final String RECOUNT_STATS =
+            "UPDATE member_stats SET "
+                    + "follower_count = " + String.format(COUNT_FOLLOWERS, "member_stats.member_id") + ", "
+                    + "following_count = " + String.format(COUNT_FOLLOWINGS, "member_stats.member_id") + ", "
+                    + "video_count = " + String.format(COUNT_VIDEOS, "member_stats.member_id") + " "
+                    + "WHERE member_id >= ? AND member_id < ?";
+    private static final String FIND_MAX_MEMBER_ID = "SELECT COALESCE(MAX(id), 0) FROM member";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addFollowerCount(Long memberId, long delta) {
+        add(FOLLOWER_COUNT, memberId, delta);
+    }
+
+    @Override
+    public void addFollowingCount(Long memberId, long delta) {
+        add(FOLLOWING_COUNT, memberId, delta);
+    }
+
+    @Override
+    public void addVideoCount(Long memberId, long delta) {
+        add(VIDEO_COUNT, memberId, delta);
+    }
+
+    @Override
+    public void addFollowerCounts(Collection<Long> memberIds, long delta) {
+        addAll(FOLLOWER_COUNT, memberIds, delta);
+    }
+
+    @Override
+    public void addFollowingCounts(Collection<Long> memberIds, long delta) {
+        addAll(FOLLOWING_COUNT, memberIds, delta);
+    }
+
+    @Override
+    public long findMaxMemberId() {
+        Long maxId = jdbcTemplate.queryForObject(FIND_MAX_MEMBER_ID, Long.class);
+        return (maxId == null) ? 0L : maxId;
+    }
+
+    @Override
+    public int backfillMemberStats(long fromMemberId, long toMemberId) {
+        return jdbcTemplate.update(BACKFILL_STATS, fromMemberId, toMemberId);
+    }
+
+    @Override
+    public int reconcileMemberStats(long fromMemberId, long toMemberId) {
+        return jdbcTemplate.update(RECOUNT_STATS, fromMemberId, toMemberId) + backfillMemberStats(fromMemberId, toMemberId);
+    }
+
+    // 통계 행이 없는 회원은 재계산 때 채워지므로 있는 행만 한 번에 갱신한다
+    private void addAll(String column, Collection<Long> memberIds, long delta) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        List<Object> args = new ArrayList<>(memberIds.size() + 1);
+        args.add(delta);
+        args.addAll(memberIds);
+        jdbcTemplate.update("UPDATE member_stats SET " + column + " = " + column + " + ? WHERE member_id IN (" + placeholders + ")",
+                args.toArray());
+    }
+
+    // 통계 행이 없는 회원은 처음 늘어날 때 행을 만든다. 줄어드는 변경으로 음수 행을 만들지 않고 재계산에 맡긴다
+    private void add(String column, Long memberId, long delta) {
+        String update = "UPDATE member_stats SET " + column + " = " + column + " + ? WHERE member_id = ?";
+        if (jdbcTemplate.update(update, delta, memberId) > 0 || delta < 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO member_stats (member_id, follower_count, following_count, video_count) VALUES (?, ?, ?, ?)",
+                    memberId,
+                    FOLLOWER_COUNT.equals(column) ? delta : 0L,
+                    FOLLOWING_COUNT.equals(column) ? delta : 0L,
+                    VIDEO_COUNT.equals(column) ? delta : 0L);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(update, delta, memberId);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import numble.team4.shortformserver.common.dto.CommonResponse;
 import numble.team4.shortformserver.member.auth.util.LoginUser;
 import numble.team4.shortformserver.member.member.application.MailService;
+import numble.team4.shortformserver.member.member.application.MemberSearchIndexService;
 import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponse;
 import numble.team4.shortformserver.member.member.application.MemberService;
 import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponseForAdmin;
@@ -28,12 +29,19 @@ public class MemberController {
     private final MemberService memberService;
     private final VideoService videoService;
     private final MailService mailService;
+    private final MemberSearchIndexService memberSearchIndexService;
 
     @GetMapping
     public CommonResponse<List<MemberInfoResponseForAdmin>> findAllMember(AllMemberInfoRequest request, Pageable pageable) {
         return memberService.getAllMemberInfo(request, pageable);
     }
 
+    @PostMapping("/search-index")
+    public CommonResponse<Long> rebuildSearchIndex(@LoginUser Member admin) {
+        long indexed = memberSearchIndexService.rebuildSearchIndex(admin);
+        return CommonResponse.of(indexed, REBUILD_MEMBER_SEARCH_INDEX.getMessage());
+    }
+
     @DeleteMapping("/{memberId}")
     public CommonResponse<Void> deleteMemberById(@PathVariable Long memberId) {
         memberService.deleteMemberById(memberId);
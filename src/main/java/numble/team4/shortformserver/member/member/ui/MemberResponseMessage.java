@@ -14,7 +14,8 @@ public enum MemberResponseMessage {
     DELETE_MEMBER_INFO("회원 정보 삭제 성공"),
     UPDATE_USER_NAME("사용자 닉네임 수정 성공"),
     GET_MAIL_AUTH_NUMBER("이메일 확인을 위한 인증 번호 발급 성공"),
-    SAVE_MEMBER_EMAIL("사용자 이메일 등록 성공");
+    SAVE_MEMBER_EMAIL("사용자 이메일 등록 성공"),
+    REBUILD_MEMBER_SEARCH_INDEX("회원 검색 색인 재생성 성공");
 
     private final String message;
 }
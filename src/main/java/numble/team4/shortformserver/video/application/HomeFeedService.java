@@ -0,0 +1,53 @@
+package numble.team4.shortformserver.video.application;
+
+import java.util.List;
+import java.util.Objects;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import numble.team4.shortformserver.video.dto.VideosResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+@Service
+@Transactional(readOnly = true)
+public class HomeFeedService {
+
+    private final HomeTimeline homeTimeline;
+    private final VideoRepository videoRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public HomeFeedService(
+        HomeTimeline homeTimeline,
+        VideoRepository videoRepository,
+        @Value("${video.home-feed.page-size:20}") int defaultPageSize,
+        @Value("${video.home-feed.max-page-size:100}") int maxPageSize) {
+        this.homeTimeline = homeTimeline;
+        this.videoRepository = videoRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public VideoSliceResponse getHomeFeed(Member loggedInMember, String cursor, Integer size) {
+        int pageSize = Objects.isNull(size) ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        Long cursorId = StringUtils.hasText(cursor) ? VideoCursor.decode(cursor, VideoSort.LATEST).getId() : null;
+
+        List<Long> videoIds = homeTimeline.getVideoIds(loggedInMember.getId(), cursorId, pageSize);
+        if (videoIds.isEmpty()) {
+            return VideoSliceResponse.of(List.of(), null);
+        }
+
+        // 처리 중이거나 언팔로우한 회원의 영상은 빠지므로 다음 커서는 타임라인의 마지막 id 로 만든다
+        List<VideosResponse> videos = videoRepository.findFollowingFeedByIds(loggedInMember.getId(), videoIds);
+        if (videoIds.size() < pageSize) {
+            return VideoSliceResponse.of(videos, null);
+        }
+        Long lastId = videoIds.get(videoIds.size() - 1);
+        return VideoSliceResponse.of(videos, VideoCursor.ofId(lastId).encode());
+    }
+}
@@ -0,0 +1,11 @@
+package numble.team4.shortformserver.video.application;
+
+import java.util.List;
+
+public interface HomeTimeline {
+
+    // 회원이 팔로우하는 회원들의 영상 id 를 cursor 보다 작은 것부터 내림차순으로 반환한다
+    List<Long> getVideoIds(Long memberId, Long cursor, int size);
+
+    void publish(Long authorId, Long videoId);
+}
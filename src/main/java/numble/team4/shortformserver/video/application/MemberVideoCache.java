@@ -0,0 +1,35 @@
+package numble.team4.shortformserver.video.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import numble.team4.shortformserver.video.dto.VideosResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 프로필 화면에서 가장 많이 읽히는 회원별 영상 목록 첫 페이지만 캐시한다
+@Component
+public class MemberVideoCache {
+
+    private final Cache<Long, List<VideosResponse>> firstPages;
+
+    public MemberVideoCache(
+        @Value("${video.member-videos.cache-max-size:10000}") long maxSize,
+        @Value("${video.member-videos.cache-expire-after-write-ms:60000}") long expireAfterWriteMs) {
+        this.firstPages = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMillis(expireAfterWriteMs))
+            .build();
+    }
+
+    public List<VideosResponse> getFirstPage(Long memberId, Supplier<List<VideosResponse>> loader) {
+        return firstPages.get(memberId, id -> List.copyOf(loader.get()));
+    }
+
+    public void evict(Long memberId) {
+        AfterCommit.runNowAndAfterCommit(() -> firstPages.invalidate(memberId));
+    }
+}
@@ -0,0 +1,82 @@
+package numble.team4.shortformserver.video.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.dto.VideoFeedFormat;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import numble.team4.shortformserver.video.dto.VideosResponse;
+import numble.team4.shortformserver.video.infrastructure.VideoFeedJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+@Service
+@Transactional(readOnly = true)
+public class VideoFeedService {
+
+    private static final String NDJSON_SEPARATOR = "\n";
+
+    private final VideoRepository videoRepository;
+    private final VideoFeedJdbcRepository videoFeedJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public VideoFeedService(
+        VideoRepository videoRepository,
+        VideoFeedJdbcRepository videoFeedJdbcRepository,
+        ObjectMapper objectMapper,
+        @Value("${video.feed.page-size:20}") int defaultPageSize,
+        @Value("${video.feed.max-page-size:100}") int maxPageSize) {
+        this.videoRepository = videoRepository;
+        this.videoFeedJdbcRepository = videoFeedJdbcRepository;
+        this.objectMapper = objectMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public VideoSliceResponse getFeed(String cursor, Integer size) {
+        int pageSize = Objects.isNull(size) ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        VideoCursor videoCursor = StringUtils.hasText(cursor) ? VideoCursor.decode(cursor, VideoSort.LATEST) : null;
+
+        List<VideosResponse> videos = videoRepository.findFeed(videoCursor, pageSize);
+        if (videos.size() < pageSize) {
+            return VideoSliceResponse.of(videos, null);
+        }
+        Long lastId = videos.get(videos.size() - 1).getId();
+        return VideoSliceResponse.of(videos, VideoCursor.ofId(lastId).encode());
+    }
+
+    // 트랜잭션 없이 JDBC 커넥션 하나로 결과를 읽으면서 바로 응답에 쓴다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamFeed(OutputStream outputStream, VideoFeedFormat format) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (SequenceWriter sequenceWriter = (format == VideoFeedFormat.JSON)
+            ? writer.writeValuesAsArray(outputStream)
+            : writer.withRootValueSeparator(NDJSON_SEPARATOR).writeValues(outputStream)) {
+            videoFeedJdbcRepository.streamReadyVideos(video -> write(sequenceWriter, video));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void write(SequenceWriter sequenceWriter, VideosResponse video) {
+        try {
+            sequenceWriter.write(video);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
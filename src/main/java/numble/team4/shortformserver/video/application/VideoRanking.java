@@ -0,0 +1,18 @@
+package numble.team4.shortformserver.video.application;
+
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.domain.VideoTrendingWindow;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+
+public interface VideoRanking {
+
+    VideoSliceResponse getTopVideos(VideoSort sort, Long categoryId, VideoTrendingWindow window, VideoCursor cursor,
+        int limitNum);
+
+    void recordView(Long videoId);
+
+    void recordLike(Long videoId, long delta);
+
+    void remove(Long videoId);
+}
@@ -0,0 +1,59 @@
+package numble.team4.shortformserver.video.application;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.Role;
+import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class VideoSearchIndexService {
+
+    private final VideoRepository videoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public VideoSearchIndexService(
+        VideoRepository videoRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${video.search.rebuild-chunk-size:500}") int chunkSize) {
+        this.videoRepository = videoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public long rebuildSearchIndex(Member admin) {
+        if (!admin.getRole().equals(Role.ADMIN)) {
+            throw new NoAccessPermissionException();
+        }
+
+        long indexed = 0;
+        Long lastId = 0L;
+        while (lastId != null) {
+            Long cursor = lastId;
+            List<Long> indexedIds = transactionTemplate.execute(status -> reindexChunk(cursor));
+            indexed += indexedIds.size();
+            lastId = (indexedIds.size() < chunkSize) ? null : indexedIds.get(indexedIds.size() - 1);
+        }
+
+        log.info("영상 검색 색인을 재생성했습니다. count={}", indexed);
+        return indexed;
+    }
+
+    private List<Long> reindexChunk(Long lastId) {
+        List<Video> videos = videoRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, chunkSize));
+        videos.forEach(Video::indexSearchTokens);
+        return videos.stream()
+            .map(Video::getId)
+            .collect(Collectors.toList());
+    }
+}
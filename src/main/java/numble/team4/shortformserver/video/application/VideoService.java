@@ -1,10 +1,15 @@
 package numble.team4.shortformserver.video.application;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
-import numble.team4.shortformserver.aws.dto.S3UploadDto;
+import numble.team4.shortformserver.aws.dto.S3StagedFile;
+import numble.team4.shortformserver.common.domain.CountStrategy;
+import numble.team4.shortformserver.likevideo.application.LikeCounter;
+import numble.team4.shortformserver.member.member.application.MemberStatsCounter;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import numble.team4.shortformserver.member.member.domain.Role;
@@ -14,10 +19,15 @@ import numble.team4.shortformserver.video.category.domain.Category;
 import numble.team4.shortformserver.video.category.domain.CategoryRepository;
 import numble.team4.shortformserver.video.category.exception.NotFoundCategoryException;
 import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
 import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.domain.VideoTrendingWindow;
 import numble.team4.shortformserver.video.dto.VideosResponse;
 import numble.team4.shortformserver.video.dto.VideoRequest;
 import numble.team4.shortformserver.video.dto.VideoResponse;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import numble.team4.shortformserver.video.dto.VideoStatusResponse;
 import numble.team4.shortformserver.video.dto.VideoUpdateRequest;
 import numble.team4.shortformserver.video.exception.NotExistVideoException;
 import org.springframework.data.domain.Page;
@@ -38,6 +48,13 @@ public class VideoService {
     private final VideoRepository videoRepository;
     private final CategoryRepository categoryRepository;
     private final AmazonS3Uploader amazonS3Uploader;
+    private final ViewCounter viewCounter;
+    private final LikeCounter likeCounter;
+    private final VideoUploadPipeline videoUploadPipeline;
+    private final VideoRanking videoRanking;
+    private final VideoTotalCount videoTotalCount;
+    private final MemberStatsCounter memberStatsCounter;
+    private final MemberVideoCache memberVideoCache;
 
 
     @Transactional
@@ -45,24 +62,42 @@ public class VideoService {
         Category category = categoryRepository.findByName(videoRequest.getCategory())
             .orElseThrow(NotFoundCategoryException::new);
 
-        S3UploadDto videoDto = amazonS3Uploader.saveToS3(videoRequest.getVideo(), "video");
-        S3UploadDto thumbnailDto = amazonS3Uploader.saveToS3(videoRequest.getThumbnail(),
-            "video/thumbnail");
+        S3StagedFile videoFile = amazonS3Uploader.stage(videoRequest.getVideo(), "video");
+        S3StagedFile thumbnailFile = stageThumbnail(videoRequest, videoFile);
 
         Video video = videoRequest.toVideo(
-            videoDto.getFileUrl(),
-            thumbnailDto.getFileUrl(),
+            videoFile.getFileUrl(),
+            thumbnailFile.getFileUrl(),
             loggedInMember,
             category
         );
 
-        return VideoResponse.from(videoRepository.save(video));
+        Video savedVideo = videoRepository.save(video);
+        videoUploadPipeline.submitAfterCommit(loggedInMember.getId(), savedVideo.getId(), videoFile, thumbnailFile);
+        return VideoResponse.from(savedVideo);
+    }
+
+    private S3StagedFile stageThumbnail(VideoRequest videoRequest, S3StagedFile videoFile) {
+        try {
+            return amazonS3Uploader.stage(videoRequest.getThumbnail(), "video/thumbnail");
+        } catch (RuntimeException e) {
+            amazonS3Uploader.discard(videoFile);
+            throw e;
+        }
+    }
+
+    public VideoStatusResponse getVideoStatus(Long videoId, Member loggedInMember) {
+        Video findVideo = videoRepository.findById(videoId)
+            .orElseThrow(NotExistVideoException::new);
+
+        findVideo.validateAuthor(loggedInMember);
+        return VideoStatusResponse.from(findVideo);
     }
 
     @Transactional
     public VideoResponse updateVideo(VideoUpdateRequest videoUpdateRequest, Member loggedInMember, Long videoId) {
 
-        Video findVideo = videoRepository.findById(videoId)
+        Video findVideo = videoRepository.findWithMemberById(videoId)
             .orElseThrow(NotExistVideoException::new);
 
         Category category = categoryRepository.findByName(videoUpdateRequest.getCategory())
@@ -89,16 +124,27 @@ public class VideoService {
         amazonS3Uploader.deleteToS3(findVideo.getVideoUrl());
         amazonS3Uploader.deleteToS3(findVideo.getThumbnailUrl());
 
+        likeCounter.remove(videoId);
+        videoRanking.remove(videoId);
         videoRepository.delete(findVideo);
+        if (findVideo.isReady()) {
+            memberStatsCounter.decreaseVideoCount(findVideo.getMember().getId());
+        }
+        memberVideoCache.evict(findVideo.getMember().getId());
     }
 
     public List<VideosResponse> findAllVideosByMember(Long memberId, Long videoId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(NotExistMemberException::new);
+        if (Objects.isNull(videoId)) {
+            return memberVideoCache.getFirstPage(memberId, () -> findVideosByMember(memberId, null));
+        }
+        return findVideosByMember(memberId, videoId);
+    }
 
-        List<Video> videos = videoRepository.findAllByMemberAndMaxVideoId(member, videoId,
-            PAGE_SIZE);
-        return VideosResponse.from(videos);
+    private List<VideosResponse> findVideosByMember(Long memberId, Long videoId) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new NotExistMemberException();
+        }
+        return videoRepository.findAllByMemberAndMaxVideoId(memberId, videoId, PAGE_SIZE);
     }
 
     public List<VideosResponse> findAllLikeVideosByMember(Long memberId, Long videoId) {
@@ -110,36 +156,69 @@ public class VideoService {
         return VideosResponse.from(videos);
     }
 
-    @Transactional
     public VideoResponse findVideoById(Long videoId) {
-        Video findVideo = videoRepository.findById(videoId)
+        VideoResponse findVideo = videoRepository.findReadyVideoResponse(videoId)
             .orElseThrow(NotExistVideoException::new);
-        findVideo.increaseViewCount();
-        return VideoResponse.from(findVideo);
+        viewCounter.increase(videoId);
+        videoRanking.recordView(videoId);
+        return findVideo.toBuilder()
+            .viewCount(findVideo.getViewCount() + viewCounter.getPendingCount(videoId))
+            .likeCount(likeCounter.getCount(videoId))
+            .build();
+    }
+
+    public VideoSliceResponse searchByKeyword(String keyword, String sortBy, String cursor, Long lastId) {
+        VideoSort sort = VideoSort.from(sortBy);
+        List<Video> videos = videoRepository.searchVideoByKeyword(keyword, sort, resolveCursor(sort, cursor, lastId));
+        return VideoSliceResponse.of(videos, sort, PAGE_SIZE);
     }
 
-    public List<VideosResponse> getAllVideos() {
-        return VideosResponse.from(videoRepository.findAll());
+    public VideoSliceResponse getTopVideos(String sortBy, String category, String window, String cursor, int limitNum) {
+        VideoSort sort = VideoSort.from(sortBy);
+        Long categoryId = findCategoryId(category);
+        VideoCursor videoCursor = StringUtils.hasText(cursor) ? VideoCursor.decode(cursor, sort) : null;
+        return videoRanking.getTopVideos(sort, categoryId, VideoTrendingWindow.from(window), videoCursor, limitNum);
     }
 
-    public List<VideosResponse> searchByKeyword(Long lastId, String keyword, String sortBy) {
-        if (!StringUtils.hasText(sortBy)) {
-            sortBy = "";
+    private Long findCategoryId(String category) {
+        if (!StringUtils.hasText(category)) {
+            return null;
         }
-        return VideosResponse.from(videoRepository.searchVideoByKeyword(lastId, keyword, sortBy));
+        return categoryRepository.findByName(category)
+            .map(Category::getId)
+            .orElseThrow(NotFoundCategoryException::new);
     }
 
-    public List<VideosResponse> getTopVideos(String sortBy, Integer limitNum) {
-        return VideosResponse.from(videoRepository.getTopVideos(sortBy, limitNum));
+    // last_id만 넘기는 기존 클라이언트는 해당 영상의 정렬 값을 조회해 커서를 만든다
+    private VideoCursor resolveCursor(VideoSort sort, String cursor, Long lastId) {
+        if (StringUtils.hasText(cursor)) {
+            return VideoCursor.decode(cursor, sort);
+        }
+        if (Objects.isNull(lastId) || sort == VideoSort.LATEST) {
+            return VideoCursor.ofId(lastId);
+        }
+        return videoRepository.findCursor(lastId, sort)
+            .orElseThrow(NotExistVideoException::new);
     }
 
     public Page<VideoResponse> getAdminPageVideos(Pageable page, Member admin,
-        Long userId) {
+        Long userId, CountStrategy countStrategy) {
         if (!admin.getRole().equals(Role.ADMIN)) {
             throw new NoAccessPermissionException();
         }
 
-        long count = videoRepository.count();
-        return videoRepository.getAllVideos(page, count, userId).map(VideoResponse::from);
+        return videoRepository.getAllVideos(page, userId, totalCount(userId, countStrategy));
+    }
+
+    // 사용자 조건이 있으면 캐시된 전체 개수를 쓸 수 없으므로 같은 조건으로 센다
+    private LongSupplier totalCount(Long userId, CountStrategy countStrategy) {
+        if (countStrategy == CountStrategy.APPROXIMATE && Objects.isNull(userId)) {
+            return videoTotalCount::get;
+        }
+        if (countStrategy == CountStrategy.EXACT) {
+            long total = videoRepository.countVideos(userId);
+            return () -> total;
+        }
+        return () -> videoRepository.countVideos(userId);
     }
 }
@@ -0,0 +1,30 @@
+package numble.team4.shortformserver.video.application;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 갱신 주기가 지나면 기존 값을 돌려주면서 백그라운드에서 다시 센다
+@Component
+public class VideoTotalCount {
+
+    private static final String ALL_VIDEOS = "all";
+
+    private final LoadingCache<String, Long> totals;
+
+    public VideoTotalCount(
+        VideoRepository videoRepository,
+        @Value("${video.admin.total-count-refresh-ms:60000}") long refreshMs) {
+        this.totals = Caffeine.newBuilder()
+            .maximumSize(1)
+            .refreshAfterWrite(Duration.ofMillis(refreshMs))
+            .build(key -> videoRepository.count());
+    }
+
+    public long get() {
+        return totals.get(ALL_VIDEOS);
+    }
+}
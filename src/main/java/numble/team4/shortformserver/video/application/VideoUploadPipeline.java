@@ -0,0 +1,141 @@
+package numble.team4.shortformserver.video.application;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
+import numble.team4.shortformserver.aws.dto.S3StagedFile;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import numble.team4.shortformserver.member.member.application.MemberStatsCounter;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class VideoUploadPipeline {
+
+    private final AmazonS3Uploader amazonS3Uploader;
+    private final VideoRepository videoRepository;
+    private final MemberVideoCache memberVideoCache;
+    private final MemberStatsCounter memberStatsCounter;
+    private final HomeTimeline homeTimeline;
+    private final Executor videoUploadExecutor;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public VideoUploadPipeline(
+        AmazonS3Uploader amazonS3Uploader,
+        VideoRepository videoRepository,
+        MemberVideoCache memberVideoCache,
+        MemberStatsCounter memberStatsCounter,
+        HomeTimeline homeTimeline,
+        @Qualifier("videoUploadExecutor") Executor videoUploadExecutor,
+        @Value("${video.upload.max-attempts:3}") int maxAttempts,
+        @Value("${video.upload.backoff-ms:1000}") long backoffMs) {
+        this.amazonS3Uploader = amazonS3Uploader;
+        this.videoRepository = videoRepository;
+        this.memberVideoCache = memberVideoCache;
+        this.memberStatsCounter = memberStatsCounter;
+        this.homeTimeline = homeTimeline;
+        this.videoUploadExecutor = videoUploadExecutor;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+    }
+
+    public void submitAfterCommit(Long memberId, Long videoId, S3StagedFile video, S3StagedFile thumbnail) {
+        AfterCommit.run(() -> submit(memberId, videoId, video, thumbnail), () -> discard(video, thumbnail));
+    }
+
+    public CompletableFuture<Void> submit(Long memberId, Long videoId, S3StagedFile video, S3StagedFile thumbnail) {
+        CompletableFuture<Void> upload = CompletableFuture.allOf(
+            upload(video, 1),
+            upload(thumbnail, 1)
+        );
+
+        return upload.handle((ignored, e) -> {
+            discard(video, thumbnail);
+            if (e == null) {
+                completeOrFail(memberId, videoId, video, thumbnail);
+            } else {
+                log.error("영상 업로드에 실패했습니다. videoId={}", videoId, e);
+                fail(videoId, video, thumbnail);
+            }
+            return null;
+        });
+    }
+
+    // 반환된 future 는 아무도 확인하지 않으므로 여기서 예외를 삼키지 않으면 영상이 PENDING 으로 남는다
+    private void completeOrFail(Long memberId, Long videoId, S3StagedFile video, S3StagedFile thumbnail) {
+        try {
+            complete(memberId, videoId, video, thumbnail);
+        } catch (RuntimeException e) {
+            log.error("업로드한 영상을 READY 로 바꾸지 못했습니다. videoId={}", videoId, e);
+            fail(videoId, video, thumbnail);
+        }
+    }
+
+    // 여기서도 실패하면 남은 PENDING 영상은 VideoUploadRecovery 가 정리한다.
+    // 이미 READY 가 되었거나 다른 곳에서 FAILED 로 바뀐 영상은 건드리지 않는다
+    private void fail(Long videoId, S3StagedFile video, S3StagedFile thumbnail) {
+        try {
+            if (videoRepository.updateStatus(videoId, VideoStatus.PENDING, VideoStatus.FAILED) == 1) {
+                deleteUploaded(video, thumbnail);
+            }
+        } catch (RuntimeException e) {
+            log.error("업로드에 실패한 영상을 FAILED 로 바꾸지 못했습니다. videoId={}", videoId, e);
+        }
+    }
+
+    private CompletableFuture<Void> upload(S3StagedFile stagedFile, int attempt) {
+        return delay(attempt)
+            .thenCompose(ignored -> CompletableFuture.runAsync(() -> amazonS3Uploader.saveToS3(stagedFile), videoUploadExecutor))
+            .handle((ignored, e) -> {
+                if (e == null) {
+                    return CompletableFuture.<Void>completedFuture(null);
+                }
+                if (attempt >= maxAttempts) {
+                    return CompletableFuture.<Void>failedFuture(e);
+                }
+                log.warn("영상 업로드를 재시도합니다. key={}, attempt={}", stagedFile.getKey(), attempt, e);
+                return upload(stagedFile, attempt + 1);
+            })
+            .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> delay(int attempt) {
+        if (attempt == 1) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long delay = backoffMs * (1L << (attempt - 2));
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delay, MILLISECONDS));
+    }
+
+    // READY 가 되어야 목록에 보이므로 이때 영상 수를 늘리고 회원의 첫 페이지 캐시를 비우고 팔로워 타임라인에 넣는다
+    private void complete(Long memberId, Long videoId, S3StagedFile video, S3StagedFile thumbnail) {
+        if (videoRepository.updateStatus(videoId, VideoStatus.PENDING, VideoStatus.READY) == 1) {
+            memberStatsCounter.increaseVideoCount(memberId);
+            memberVideoCache.evict(memberId);
+            homeTimeline.publish(memberId, videoId);
+            return;
+        }
+
+        // 업로드 중에 영상이 삭제되었거나 VideoUploadRecovery 가 FAILED 로 바꾼 경우 올라간 파일을 정리한다
+        deleteUploaded(video, thumbnail);
+    }
+
+    private void deleteUploaded(S3StagedFile video, S3StagedFile thumbnail) {
+        amazonS3Uploader.deleteToS3(video.getFileUrl());
+        amazonS3Uploader.deleteToS3(thumbnail.getFileUrl());
+    }
+
+    private void discard(S3StagedFile video, S3StagedFile thumbnail) {
+        amazonS3Uploader.discard(video);
+        amazonS3Uploader.discard(thumbnail);
+    }
+}
@@ -0,0 +1,54 @@
+package numble.team4.shortformserver.video.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 업로드 도중 서버가 종료되면 영상은 PENDING 으로, 업로드할 파일은 임시 디렉터리에 남는다.
+// 기동 직후와 이후 주기적으로 pending-timeout-ms 보다 오래된 PENDING 영상을 FAILED 로 바꾸고,
+// 이번에 FAILED 로 바꾼 영상의 임시 파일만 지운다. 아직 대기 중이거나 재시도 중인 업로드의 파일은 남겨 둔다
+@Slf4j
+@Component
+public class VideoUploadRecovery {
+
+    private final VideoRepository videoRepository;
+    private final AmazonS3Uploader amazonS3Uploader;
+    private final Duration pendingTimeout;
+
+    public VideoUploadRecovery(
+        VideoRepository videoRepository,
+        AmazonS3Uploader amazonS3Uploader,
+        @Value("${video.upload.pending-timeout-ms:3600000}") long pendingTimeoutMs) {
+        this.videoRepository = videoRepository;
+        this.amazonS3Uploader = amazonS3Uploader;
+        this.pendingTimeout = Duration.ofMillis(pendingTimeoutMs);
+    }
+
+    @Scheduled(fixedDelayString = "${video.upload.recovery-interval-ms:600000}")
+    public void recover() {
+        List<Video> staleVideos = videoRepository.findByStatusAndCreateAtBefore(
+            VideoStatus.PENDING, LocalDateTime.now().minus(pendingTimeout));
+
+        int failed = 0;
+        for (Video video : staleVideos) {
+            // 조회한 뒤에 업로드가 끝난 영상은 건너뛴다
+            if (videoRepository.updateStatus(video.getId(), VideoStatus.PENDING, VideoStatus.FAILED) != 1) {
+                continue;
+            }
+            amazonS3Uploader.discardStaged(video.getVideoUrl());
+            amazonS3Uploader.discardStaged(video.getThumbnailUrl());
+            failed++;
+        }
+        if (failed > 0) {
+            log.warn("끝나지 않은 영상 업로드를 정리했습니다. failedVideos={}", failed);
+        }
+    }
+}
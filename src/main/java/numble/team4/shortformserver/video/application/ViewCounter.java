@@ -0,0 +1,10 @@
+package numble.team4.shortformserver.video.application;
+
+public interface ViewCounter {
+
+    void increase(Long videoId);
+
+    long getPendingCount(Long videoId);
+
+    void flush();
+}
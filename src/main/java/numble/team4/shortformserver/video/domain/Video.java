@@ -6,17 +6,25 @@ import static lombok.AccessLevel.PRIVATE;
 import static lombok.AccessLevel.PROTECTED;
 import static numble.team4.shortformserver.member.member.domain.Role.MEMBER;
 
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.CollectionTable;
 import javax.persistence.Column;
+import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import numble.team4.shortformserver.common.domain.BaseTimeEntity;
+import numble.team4.shortformserver.common.domain.SearchTokenizer;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
 import numble.team4.shortformserver.video.category.domain.Category;
@@ -51,8 +59,18 @@ public class Video extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer price;
 
-    private Long viewCount;
-    private Long likeCount;
+    @Builder.Default
+    @Column(nullable = false)
+    private Long viewCount = 0L;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Long likeCount = 0L;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private VideoStatus status = VideoStatus.READY;
 
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "category_id")
@@ -62,24 +80,30 @@ public class Video extends BaseTimeEntity {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "video_search_token", joinColumns = @JoinColumn(name = "video_id"))
+    @Column(name = "token", nullable = false)
+    private Set<String> searchTokens = new HashSet<>();
+
     public void update(String title, String description, Integer price, Boolean usedStatus, Category category) {
         this.title = title;
         this.price = price;
         this.usedStatus = usedStatus;
         this.category = category;
         this.description = description;
+        indexSearchTokens();
     }
 
-    public void increaseViewCount() {
-        this.viewCount += 1;
-    }
-
-    public void increaseLikeCount() {
-        this.likeCount += 1;
+    @PrePersist
+    public void indexSearchTokens() {
+        Set<String> tokens = SearchTokenizer.tokenize(title, description);
+        searchTokens.retainAll(tokens);
+        searchTokens.addAll(tokens);
     }
 
-    public void decreaseLikeCount() {
-        this.likeCount -= 1;
+    public boolean isReady() {
+        return status == VideoStatus.READY;
     }
 
     public void validateAuthor(Member member) {
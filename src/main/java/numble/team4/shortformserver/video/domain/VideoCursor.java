@@ -0,0 +1,56 @@
+package numble.team4.shortformserver.video.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.Base64;
+import java.util.Objects;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.video.exception.InvalidVideoCursorException;
+
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = PRIVATE)
+public class VideoCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final VideoSort sort;
+    private final long sortValue;
+    private final long id;
+
+    public static VideoCursor of(Video video, VideoSort sort) {
+        return new VideoCursor(sort, sort.sortValueOf(video), video.getId());
+    }
+
+    public static VideoCursor of(VideoSort sort, long sortValue, long id) {
+        return new VideoCursor(sort, sortValue, id);
+    }
+
+    public static VideoCursor ofId(Long id) {
+        if (Objects.isNull(id)) {
+            return null;
+        }
+        return new VideoCursor(VideoSort.LATEST, id, id);
+    }
+
+    // 정렬 방식이 다른 커서로 이어서 조회하면 페이지가 섞이므로 함께 검증한다
+    public static VideoCursor decode(String token, VideoSort sort) {
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(token), UTF_8).split(DELIMITER);
+            if (values.length != 3 || VideoSort.valueOf(values[0]) != sort) {
+                throw new InvalidVideoCursorException();
+            }
+            return new VideoCursor(sort, Long.parseLong(values[1]), Long.parseLong(values[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidVideoCursorException();
+        }
+    }
+
+    public String encode() {
+        String value = String.join(DELIMITER, sort.name(), String.valueOf(sortValue), String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+}
@@ -1,12 +1,32 @@
 package numble.team4.shortformserver.video.domain;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.video.infrastructure.VideoCustomRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface VideoRepository extends JpaRepository<Video, Long>, VideoCustomRepository {
   
     long countByMember(Member member);
     boolean existsById(Long id);
 
+    List<Video> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "member")
+    Optional<Video> findWithMemberById(Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Video v set v.status = :to where v.id = :videoId and v.status = :from")
+    int updateStatus(@Param("videoId") Long videoId, @Param("from") VideoStatus from, @Param("to") VideoStatus to);
+
+    List<Video> findByStatusAndCreateAtBefore(VideoStatus status, LocalDateTime before);
 }
@@ -0,0 +1,26 @@
+package numble.team4.shortformserver.video.domain;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum VideoSort {
+    LATEST(Video::getId),
+    HITS(Video::getViewCount),
+    LIKES(Video::getLikeCount);
+
+    private final Function<Video, Long> sortValue;
+
+    public static VideoSort from(String sortBy) {
+        if (!hasText(sortBy)) {
+            return LATEST;
+        }
+        return sortBy.equals("hits") ? HITS : LIKES;
+    }
+
+    public long sortValueOf(Video video) {
+        return sortValue.apply(video);
+    }
+}
@@ -0,0 +1,14 @@
+package numble.team4.shortformserver.video.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum VideoStatus {
+    PENDING("업로드 중"),
+    READY("업로드 완료"),
+    FAILED("업로드 실패");
+
+    private final String description;
+}
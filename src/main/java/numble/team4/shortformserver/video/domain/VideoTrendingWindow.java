@@ -0,0 +1,22 @@
+package numble.team4.shortformserver.video.domain;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum VideoTrendingWindow {
+    DAY("day", 24),
+    WEEK("week", 7 * 24);
+
+    private final String name;
+    private final int hours;
+
+    public static VideoTrendingWindow from(String window) {
+        return Arrays.stream(values())
+            .filter(value -> value.name.equals(window))
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -0,0 +1,23 @@
+package numble.team4.shortformserver.video.dto;
+
+import java.util.Arrays;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum VideoFeedFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    JSON("json", MediaType.APPLICATION_JSON);
+
+    private final String name;
+    private final MediaType mediaType;
+
+    public static VideoFeedFormat from(String format) {
+        return Arrays.stream(values())
+            .filter(value -> value.name.equals(format))
+            .findFirst()
+            .orElse(NDJSON);
+    }
+}
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.video.category.domain.Category;
 import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoStatus;
 import org.springframework.web.multipart.MultipartFile;
 
 @Getter
@@ -50,6 +51,7 @@ public class VideoRequest {
             .usedStatus((used_status))
             .member(member)
             .category(category)
+            .status(VideoStatus.PENDING)
             .build();
     }
 }
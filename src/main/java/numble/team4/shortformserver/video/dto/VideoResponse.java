@@ -11,7 +11,7 @@ import numble.team4.shortformserver.member.member.dto.MemberInfoResponseForVideo
 import numble.team4.shortformserver.video.domain.Video;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor(access = PROTECTED)
 public class VideoResponse {
@@ -0,0 +1,31 @@
+package numble.team4.shortformserver.video.dto;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoSort;
+
+@Getter
+@AllArgsConstructor(access = PRIVATE)
+public class VideoSliceResponse {
+
+    private final List<VideosResponse> videos;
+    private final String nextCursor;
+
+    public static VideoSliceResponse of(List<VideosResponse> videos, String nextCursor) {
+        return new VideoSliceResponse(videos, nextCursor);
+    }
+
+    public static VideoSliceResponse of(List<Video> videos, VideoSort sort, int size) {
+        if (videos.size() < size) {
+            return new VideoSliceResponse(VideosResponse.from(videos), null);
+        }
+
+        Video last = videos.get(videos.size() - 1);
+        return new VideoSliceResponse(VideosResponse.from(videos), VideoCursor.of(last, sort).encode());
+    }
+}
@@ -0,0 +1,22 @@
+package numble.team4.shortformserver.video.dto;
+
+import static lombok.AccessLevel.PROTECTED;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoStatus;
+
+@Getter
+@AllArgsConstructor(access = PROTECTED)
+@NoArgsConstructor(access = PROTECTED)
+public class VideoStatusResponse {
+
+    private Long id;
+    private VideoStatus status;
+
+    public static VideoStatusResponse from(Video video) {
+        return new VideoStatusResponse(video.getId(), video.getStatus());
+    }
+}
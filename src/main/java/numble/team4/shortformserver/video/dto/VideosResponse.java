@@ -1,5 +1,6 @@
 package numble.team4.shortformserver.video.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.AllArgsConstructor;
@@ -9,6 +10,7 @@ import numble.team4.shortformserver.video.domain.Video;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static lombok.AccessLevel.PROTECTED;
 
 @Data
@@ -19,8 +21,15 @@ public class VideosResponse {
     private Long id;
     private String thumbnailUrl;
 
+    @JsonInclude(NON_NULL)
+    private Long likesId;
+
+    public static VideosResponse of(Long id, String thumbnailUrl) {
+        return new VideosResponse(id, thumbnailUrl, null);
+    }
+
     private static VideosResponse from(Video video) {
-        return new VideosResponse(video.getId(), video.getThumbnailUrl());
+        return new VideosResponse(video.getId(), video.getThumbnailUrl(), null);
     }
 
     public static List<VideosResponse> from(List<Video> videos) {
@@ -28,4 +37,9 @@ public class VideosResponse {
                 .map(VideosResponse::from)
                 .collect(Collectors.toList());
     }
+
+    // 캐시된 피드 응답을 공유하므로 좋아요 정보는 복사본에만 채운다
+    public VideosResponse withLikesId(Long likesId) {
+        return new VideosResponse(id, thumbnailUrl, likesId);
+    }
 }
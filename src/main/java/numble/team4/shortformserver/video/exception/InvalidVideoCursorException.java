@@ -0,0 +1,6 @@
+package numble.team4.shortformserver.video.exception;
+
+import numble.team4.shortformserver.common.exception.BaseException;
+
+public class InvalidVideoCursorException extends BaseException {
+}
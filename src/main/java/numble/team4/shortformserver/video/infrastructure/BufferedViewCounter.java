@@ -0,0 +1,119 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.video.application.ViewCounter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "video.view-count.write-behind", havingValue = "true", matchIfMissing = true)
+public class BufferedViewCounter implements ViewCounter {
+
+    private final VideoCounterJdbcRepository videoCounterJdbcRepository;
+    private final Executor viewCountFlushExecutor;
+    private final int maxPending;
+    private final boolean drainOnShutdown;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> flushing = Map.of();
+
+    public BufferedViewCounter(
+        VideoCounterJdbcRepository videoCounterJdbcRepository,
+        @Qualifier("viewCountFlushExecutor") Executor viewCountFlushExecutor,
+        @Value("${video.view-count.max-pending:10000}") int maxPending,
+        @Value("${video.view-count.drain-on-shutdown:true}") boolean drainOnShutdown) {
+        this.videoCounterJdbcRepository = videoCounterJdbcRepository;
+        this.viewCountFlushExecutor = viewCountFlushExecutor;
+        this.maxPending = maxPending;
+        this.drainOnShutdown = drainOnShutdown;
+    }
+
+    @Override
+    public void increase(Long videoId) {
+        swapLock.readLock().lock();
+        try {
+            pending.computeIfAbsent(videoId, id -> new LongAdder()).increment();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+
+        // 조회 요청 스레드가 DB 쓰기를 기다리지 않도록 flush 는 별도 스레드에 맡긴다
+        if (pending.size() >= maxPending) {
+            viewCountFlushExecutor.execute(this::flush);
+        }
+    }
+
+    @Override
+    public long getPendingCount(Long videoId) {
+        LongAdder adder = pending.get(videoId);
+        long count = (adder == null) ? 0L : adder.sum();
+        return count + flushing.getOrDefault(videoId, 0L);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${video.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            Map<Long, Long> deltas = swap();
+            if (!deltas.isEmpty()) {
+                videoCounterJdbcRepository.increaseViewCounts(deltas);
+            }
+            flushing = Map.of();
+        } catch (RuntimeException e) {
+            log.error("조회 수 반영에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+            restore(flushing);
+            flushing = Map.of();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        if (drainOnShutdown) {
+            flush();
+        }
+    }
+
+    private Map<Long, Long> swap() {
+        swapLock.writeLock().lock();
+        try {
+            Map<Long, Long> deltas = new TreeMap<>();
+            pending.forEach((videoId, adder) -> deltas.put(videoId, adder.sum()));
+            flushing = deltas;
+            pending = new ConcurrentHashMap<>();
+            return deltas;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void restore(Map<Long, Long> deltas) {
+        swapLock.readLock().lock();
+        try {
+            deltas.forEach((videoId, delta) ->
+                pending.computeIfAbsent(videoId, id -> new LongAdder()).add(delta));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.video.application.HomeTimeline;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "video.home-feed.fanout.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseHomeTimeline implements HomeTimeline {
+
+    private final VideoRepository videoRepository;
+
+    @Override
+    public List<Long> getVideoIds(Long memberId, Long cursor, int size) {
+        VideoCursor videoCursor = Objects.isNull(cursor) ? null : VideoCursor.ofId(cursor);
+        return videoRepository.findFollowingVideoIds(memberId, videoCursor, size);
+    }
+
+    @Override
+    public void publish(Long authorId, Long videoId) {
+    }
+}
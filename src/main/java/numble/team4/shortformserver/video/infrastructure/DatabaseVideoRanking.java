@@ -0,0 +1,38 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.video.application.VideoRanking;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.domain.VideoTrendingWindow;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "video.leaderboard.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseVideoRanking implements VideoRanking {
+
+    private final VideoRepository videoRepository;
+
+    // 조회/좋아요 이벤트를 기록하지 않으므로 기간별 순위는 전체 기간 순위로 대신한다
+    @Override
+    public VideoSliceResponse getTopVideos(VideoSort sort, Long categoryId, VideoTrendingWindow window,
+        VideoCursor cursor, int limitNum) {
+        return VideoSliceResponse.of(videoRepository.getTopVideos(sort, categoryId, cursor, limitNum), sort, limitNum);
+    }
+
+    @Override
+    public void recordView(Long videoId) {
+    }
+
+    @Override
+    public void recordLike(Long videoId, long delta) {
+    }
+
+    @Override
+    public void remove(Long videoId) {
+    }
+}
@@ -0,0 +1,29 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.video.application.ViewCounter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "video.view-count.write-behind", havingValue = "false")
+public class DirectViewCounter implements ViewCounter {
+
+    private final VideoCounterJdbcRepository videoCounterJdbcRepository;
+
+    @Override
+    public void increase(Long videoId) {
+        videoCounterJdbcRepository.increaseViewCounts(Map.of(videoId, 1L));
+    }
+
+    @Override
+    public long getPendingCount(Long videoId) {
+        return 0L;
+    }
+
+    @Override
+    public void flush() {
+    }
+}
@@ -0,0 +1,173 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import numble.team4.shortformserver.follow.application.FollowGraph;
+import numble.team4.shortformserver.follow.application.FollowingLookup;
+import numble.team4.shortformserver.member.member.domain.MemberStatsRepository;
+import numble.team4.shortformserver.video.application.HomeTimeline;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 업로드된 영상 id 를 팔로워의 타임라인 버퍼에 밀어 넣는다(fan-out-on-write).
+// 타임라인은 피드를 읽은 회원에게만 만들어지고, 팔로워가 많은 회원의 영상은 읽을 때 DB 에서 가져온다.
+// fan-out 은 영상을 READY 로 바꾼 노드에서만 돌기 때문에 single-node 가 아니면 다른 노드의 영상을 읽을 때 DB 와 맞춘다
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "video.home-feed.fanout.enabled", havingValue = "true")
+public class InMemoryHomeTimeline implements HomeTimeline {
+
+    private final VideoRepository videoRepository;
+    private final MemberStatsRepository memberStatsRepository;
+    private final FollowGraph followGraph;
+    private final FollowingLookup followingLookup;
+    private final Executor homeFeedFanoutExecutor;
+    private final int timelineSize;
+    private final int fanoutChunkSize;
+    private final long pullThreshold;
+    private final boolean singleNode;
+
+    private final Cache<Long, TimelineBuffer> timelines;
+    private volatile Set<Long> pullAuthorIds = Set.of();
+
+    public InMemoryHomeTimeline(
+        VideoRepository videoRepository,
+        MemberStatsRepository memberStatsRepository,
+        FollowGraph followGraph,
+        FollowingLookup followingLookup,
+        @Qualifier("homeFeedFanoutExecutor") Executor homeFeedFanoutExecutor,
+        @Value("${video.home-feed.fanout.timeline-size:500}") int timelineSize,
+        @Value("${video.home-feed.fanout.max-timelines:100000}") long maxTimelines,
+        @Value("${video.home-feed.fanout.ttl-seconds:600}") long ttlSeconds,
+        @Value("${video.home-feed.fanout.chunk-size:1000}") int fanoutChunkSize,
+        @Value("${video.home-feed.fanout.pull-threshold:10000}") long pullThreshold,
+        @Value("${video.home-feed.fanout.single-node:false}") boolean singleNode) {
+        this.videoRepository = videoRepository;
+        this.memberStatsRepository = memberStatsRepository;
+        this.followGraph = followGraph;
+        this.followingLookup = followingLookup;
+        this.homeFeedFanoutExecutor = homeFeedFanoutExecutor;
+        this.timelineSize = timelineSize;
+        this.fanoutChunkSize = fanoutChunkSize;
+        this.pullThreshold = pullThreshold;
+        this.singleNode = singleNode;
+        this.timelines = Caffeine.newBuilder()
+            .maximumSize(maxTimelines)
+            .expireAfterWrite(ttlSeconds, SECONDS)
+            .build();
+    }
+
+    @Override
+    public List<Long> getVideoIds(Long memberId, Long cursor, int size) {
+        VideoCursor videoCursor = Objects.isNull(cursor) ? null : VideoCursor.ofId(cursor);
+        TimelineBuffer timeline = timelines.get(memberId, this::load);
+        long before = Objects.isNull(cursor) ? Long.MAX_VALUE : cursor;
+
+        // 마지막으로 DB 와 맞춘 id 보다 새로운 구간에는 다른 노드에서 READY 가 된 영상이 빠져 있을 수 있다.
+        // DB 페이지가 그 id 까지 닿지 않으면 사이가 비어 있으므로 DB 페이지를 그대로 돌려준다
+        if (!singleNode && before - 1 > timeline.getSyncedId()) {
+            List<Long> latest = videoRepository.findFollowingVideoIds(memberId, videoCursor, size);
+            if (latest.size() == size && latest.get(size - 1) > timeline.getSyncedId()) {
+                return latest;
+            }
+            long syncedId = Objects.nonNull(cursor) ? cursor - 1
+                : latest.isEmpty() ? timeline.getSyncedId() : latest.get(0);
+            timeline.sync(latest, syncedId);
+        }
+
+        List<Long> pushed = timeline.before(before, size);
+
+        // 버퍼에서 밀려난 오래된 구간은 DB 에서 한 페이지를 그대로 읽는다
+        if (pushed.size() < size && timeline.isTruncated()) {
+            return videoRepository.findFollowingVideoIds(memberId, videoCursor, size);
+        }
+
+        Set<Long> pullAuthors = pullAuthorIds;
+        if (pullAuthors.isEmpty()) {
+            return pushed;
+        }
+        Set<Long> followedPullAuthors = followingLookup.findFollowIds(memberId, pullAuthors).keySet();
+        if (followedPullAuthors.isEmpty()) {
+            return pushed;
+        }
+        return merge(pushed, videoRepository.findVideoIdsByMembers(followedPullAuthors, videoCursor, size), size);
+    }
+
+    @Override
+    public void publish(Long authorId, Long videoId) {
+        AfterCommit.run(() -> submit(authorId, videoId));
+    }
+
+    @Scheduled(fixedDelayString = "${video.home-feed.fanout.pull-refresh-interval-ms:60000}")
+    public void refreshPullAuthors() {
+        pullAuthorIds = Set.copyOf(memberStatsRepository.findMemberIdsByFollowerCountGreaterThanEqual(pullThreshold));
+    }
+
+    void fanOut(Long authorId, Long videoId) {
+        if (timelines.estimatedSize() == 0) {
+            return;
+        }
+
+        Long cursor = null;
+        List<Long> followerIds;
+        do {
+            followerIds = followGraph.getFollowerIds(authorId, cursor, fanoutChunkSize);
+            for (Long followerId : followerIds) {
+                TimelineBuffer timeline = timelines.getIfPresent(followerId);
+                if (Objects.nonNull(timeline)) {
+                    timeline.push(videoId);
+                }
+            }
+            if (!followerIds.isEmpty()) {
+                cursor = followerIds.get(followerIds.size() - 1);
+            }
+        } while (followerIds.size() == fanoutChunkSize);
+    }
+
+    private void submit(Long authorId, Long videoId) {
+        if (pullAuthorIds.contains(authorId)) {
+            return;
+        }
+
+        try {
+            homeFeedFanoutExecutor.execute(() -> fanOut(authorId, videoId));
+        } catch (RejectedExecutionException e) {
+            log.warn("홈 피드 fan-out 을 건너뜁니다. authorId={}, videoId={}", authorId, videoId, e);
+        }
+    }
+
+    private TimelineBuffer load(Long memberId) {
+        List<Long> seed = videoRepository.findFollowingVideoIds(memberId, null, timelineSize);
+        return TimelineBuffer.of(timelineSize, seed, seed.size() == timelineSize);
+    }
+
+    private static List<Long> merge(List<Long> pushed, List<Long> pulled, int size) {
+        List<Long> merged = new ArrayList<>(size);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < size && (i < pushed.size() || j < pulled.size())) {
+            long next = (j >= pulled.size() || (i < pushed.size() && pushed.get(i) > pulled.get(j)))
+                ? pushed.get(i++)
+                : pulled.get(j++);
+            if (merged.isEmpty() || merged.get(merged.size() - 1) != next) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,85 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 최근 영상 id 를 capacity 개까지 담는 링 버퍼. 가득 차면 가장 먼저 들어온 id 를 덮어쓴다
+final class TimelineBuffer {
+
+    private final long[] ids;
+    private int next;
+    private int size;
+    private boolean truncated;
+    private long syncedId;
+
+    private TimelineBuffer(int capacity, boolean truncated) {
+        this.ids = new long[capacity];
+        this.truncated = truncated;
+    }
+
+    // seed 는 id 내림차순이며, truncated 이면 버퍼보다 오래된 영상이 DB 에 더 있다
+    static TimelineBuffer of(int capacity, List<Long> seed, boolean truncated) {
+        TimelineBuffer buffer = new TimelineBuffer(capacity, truncated);
+        for (int i = seed.size() - 1; i >= 0; i--) {
+            buffer.push(seed.get(i));
+        }
+        buffer.syncedId = seed.isEmpty() ? 0L : seed.get(0);
+        return buffer;
+    }
+
+    synchronized void push(long id) {
+        if (size == ids.length) {
+            truncated = true;
+        } else {
+            size++;
+        }
+        ids[next] = id;
+        next = (next + 1) % ids.length;
+    }
+
+    synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    // syncedId 이하의 id 는 마지막으로 DB 와 맞췄을 때 버퍼에 모두 들어 있었다
+    synchronized long getSyncedId() {
+        return syncedId;
+    }
+
+    // DB 에서 읽은 페이지 중 버퍼에 없는 id 를 넣고, syncedId 까지 DB 와 맞췄다고 기록한다
+    synchronized void sync(List<Long> page, long syncedId) {
+        for (Long id : page) {
+            if (!contains(id)) {
+                push(id);
+            }
+        }
+        this.syncedId = Math.max(this.syncedId, syncedId);
+    }
+
+    List<Long> before(long cursor, int limit) {
+        long[] snapshot;
+        synchronized (this) {
+            snapshot = Arrays.copyOf(ids, size);
+        }
+        Arrays.sort(snapshot);
+
+        List<Long> page = new ArrayList<>(Math.min(limit, snapshot.length));
+        for (int i = snapshot.length - 1; i >= 0 && page.size() < limit; i--) {
+            boolean duplicated = i < snapshot.length - 1 && snapshot[i] == snapshot[i + 1];
+            if (snapshot[i] < cursor && !duplicated) {
+                page.add(snapshot[i]);
+            }
+        }
+        return page;
+    }
+
+    private boolean contains(long id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoCounterJdbcRepository {
+
+    private static final String INCREASE_VIEW_COUNT =
+        "UPDATE video SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 읽기 전용 트랜잭션인 영상 조회 중에 호출되어도 쓰기가 가능하도록 새 트랜잭션에서 실행한다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void increaseViewCounts(Map<Long, Long> deltas) {
+        jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT, toBatchArgs(deltas));
+    }
+
+    private List<Object[]> toBatchArgs(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((videoId, delta) -> args.add(new Object[]{delta, videoId}));
+        return args;
+    }
+}
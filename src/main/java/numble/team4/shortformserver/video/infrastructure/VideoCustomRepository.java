@@ -3,20 +3,41 @@ package numble.team4.shortformserver.video.infrastructure;
 
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.dto.VideoResponse;
+import numble.team4.shortformserver.video.dto.VideosResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface VideoCustomRepository {
 
-    List<Video> findAllByMemberAndMaxVideoId(Member member, Long videoId, int limitNum);
+    List<VideosResponse> findAllByMemberAndMaxVideoId(Long memberId, Long videoId, int limitNum);
 
     List<Video> findAllLikeVideoByMemberAndMaxVideoId(Member member, Long videoId, int limitNum);
 
-    List<Video> searchVideoByKeyword(Long lastId, String keyword, String sortBy);
+    List<Video> searchVideoByKeyword(String keyword, VideoSort sort, VideoCursor cursor);
 
-    List<Video> getTopVideos(String sortBy, Integer limitNum);
+    List<Video> getTopVideos(VideoSort sort, Long categoryId, VideoCursor cursor, int limitNum);
 
-    Page<Video> getAllVideos(Pageable page, Long total, Long memberId);
+    Optional<VideoCursor> findCursor(Long videoId, VideoSort sort);
+
+    List<VideosResponse> findFeed(VideoCursor cursor, int limitNum);
+
+    List<Long> findFollowingVideoIds(Long memberId, VideoCursor cursor, int limitNum);
+
+    List<Long> findVideoIdsByMembers(Collection<Long> memberIds, VideoCursor cursor, int limitNum);
+
+    List<VideosResponse> findFollowingFeedByIds(Long memberId, Collection<Long> videoIds);
+
+    Optional<VideoResponse> findReadyVideoResponse(Long videoId);
+
+    Page<VideoResponse> getAllVideos(Pageable page, Long memberId, LongSupplier total);
+
+    long countVideos(Long memberId);
 }
@@ -1,27 +1,45 @@
 package numble.team4.shortformserver.video.infrastructure;
 
 import static com.querydsl.core.types.Order.DESC;
-import static com.querydsl.core.types.dsl.StringExpressions.lpad;
+import static numble.team4.shortformserver.follow.domain.QFollow.follow;
+import static numble.team4.shortformserver.member.member.domain.QMember.member;
+import static numble.team4.shortformserver.video.category.domain.QCategory.category;
 import static numble.team4.shortformserver.video.domain.QVideo.video;
-import static org.springframework.util.StringUtils.hasText;
 import static numble.team4.shortformserver.likevideo.domain.QLikeVideo.likeVideo;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPAExpressions;
 
-import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.common.domain.SearchTokenizer;
 import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.dto.MemberInfoResponseForVideo;
+import numble.team4.shortformserver.video.domain.QVideo;
 import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.domain.VideoStatus;
+import numble.team4.shortformserver.video.dto.VideoResponse;
+import numble.team4.shortformserver.video.dto.VideosResponse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
 
 @RequiredArgsConstructor
@@ -31,34 +49,52 @@ public class VideoCustomRepositoryImpl implements VideoCustomRepository {
     private final JPAQueryFactory factory;
 
     @Override
-    public List<Video> searchVideoByKeyword(Long lastId, String keyword, String sortBy) {
+    public List<Video> searchVideoByKeyword(String keyword, VideoSort sort, VideoCursor cursor) {
         return factory
             .selectFrom(video)
-            .where(video.description.contains(keyword)
-                    .or(video.title.contains(keyword)),
-                cursorIsLessThan(sortBy, lastId))
-            .orderBy(videoSort(sortBy), video.id.desc())
+            .where(containsKeyword(keyword),
+                isReady(),
+                isAfter(sort, cursor))
+            .orderBy(videoSort(sort), video.id.desc())
             .limit(LIMIT)
             .fetch();
     }
 
     @Override
-    public List<Video> getTopVideos(String sortBy, Integer limitNum) {
+    public List<Video> getTopVideos(VideoSort sort, Long categoryId, VideoCursor cursor, int limitNum) {
         return factory
             .selectFrom(video)
-            .orderBy(videoSort(sortBy), video.id.desc())
+            .where(isReady(), existCategoryId(categoryId), isAfter(sort, cursor))
+            .orderBy(videoSort(sort), video.id.desc())
             .limit(limitNum)
             .fetch();
     }
 
     @Override
-    public List<Video> findAllByMemberAndMaxVideoId(Member member, Long maxVideoId, int limitNum) {
+    public Optional<VideoCursor> findCursor(Long videoId, VideoSort sort) {
+        Long sortValue = factory
+            .select(sortValue(sort))
+            .from(video)
+            .where(video.id.eq(videoId))
+            .fetchOne();
 
-        return factory.selectFrom(video)
+        return Optional.ofNullable(sortValue)
+            .map(value -> VideoCursor.of(sort, value, videoId));
+    }
+
+    // (member_id, id, status, thumbnail_url) 인덱스만 읽고 끝나도록 id 와 썸네일만 가져온다
+    @Override
+    public List<VideosResponse> findAllByMemberAndMaxVideoId(Long memberId, Long maxVideoId, int limitNum) {
+        return factory
+            .select(video.id, video.thumbnailUrl)
+            .from(video)
+            .where(video.member.id.eq(memberId), isReady(), isAfter(VideoSort.LATEST, VideoCursor.ofId(maxVideoId)))
             .orderBy(video.id.desc())
-            .where(videoIdIsLessThan(maxVideoId))
             .limit(limitNum)
-            .fetch();
+            .fetch()
+            .stream()
+            .map(tuple -> VideosResponse.of(tuple.get(video.id), tuple.get(video.thumbnailUrl)))
+            .collect(Collectors.toList());
     }
 
     public List<Video> findAllLikeVideoByMemberAndMaxVideoId(Member member, Long maxVideoId, int limitNum) {
@@ -67,22 +103,148 @@ public class VideoCustomRepositoryImpl implements VideoCustomRepository {
             .join(likeVideo)
             .on(likeVideo.member.eq(member).and(likeVideo.video.id.eq(video.id)))
             .orderBy(video.id.desc())
-            .where(videoIdIsLessThan(maxVideoId))
+            .where(isReady(), isAfter(VideoSort.LATEST, VideoCursor.ofId(maxVideoId)))
             .limit(limitNum)
             .fetch();
     }
 
     @Override
-    public Page<Video> getAllVideos(Pageable page, Long total, Long userId) {
-        List<Video> videos = factory
-            .selectFrom(video)
+    public List<VideosResponse> findFeed(VideoCursor cursor, int limitNum) {
+        return factory
+            .select(video.id, video.thumbnailUrl)
+            .from(video)
+            .where(isReady(), isAfter(VideoSort.LATEST, cursor))
+            .orderBy(video.id.desc())
+            .limit(limitNum)
+            .fetch()
+            .stream()
+            .map(tuple -> VideosResponse.of(tuple.get(video.id), tuple.get(video.thumbnailUrl)))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Long> findFollowingVideoIds(Long memberId, VideoCursor cursor, int limitNum) {
+        return factory
+            .select(video.id)
+            .from(video)
+            .where(isReady(), isFollowedBy(memberId), isAfter(VideoSort.LATEST, cursor))
+            .orderBy(video.id.desc())
+            .limit(limitNum)
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findVideoIdsByMembers(Collection<Long> memberIds, VideoCursor cursor, int limitNum) {
+        return factory
+            .select(video.id)
+            .from(video)
+            .where(isReady(), video.member.id.in(memberIds), isAfter(VideoSort.LATEST, cursor))
+            .orderBy(video.id.desc())
+            .limit(limitNum)
+            .fetch();
+    }
+
+    // 타임라인에 남아 있는 언팔로우한 회원의 영상은 여기서 걸러진다
+    @Override
+    public List<VideosResponse> findFollowingFeedByIds(Long memberId, Collection<Long> videoIds) {
+        return factory
+            .select(video.id, video.thumbnailUrl)
+            .from(video)
+            .where(video.id.in(videoIds), isReady(), isFollowedBy(memberId))
+            .orderBy(video.id.desc())
+            .fetch()
+            .stream()
+            .map(tuple -> VideosResponse.of(tuple.get(video.id), tuple.get(video.thumbnailUrl)))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<VideoResponse> findReadyVideoResponse(Long videoId) {
+        return Optional.ofNullable(factory
+            .select(videoResponse())
+            .from(video)
+            .leftJoin(video.category, category)
+            .leftJoin(video.member, member)
+            .where(video.id.eq(videoId), isReady())
+            .fetchOne());
+    }
+
+    @Override
+    public Page<VideoResponse> getAllVideos(Pageable page, Long userId, LongSupplier total) {
+        List<VideoResponse> videos = factory
+            .select(videoResponse())
+            .from(video)
+            .leftJoin(video.category, category)
+            .leftJoin(video.member, member)
             .where(existUserId(userId))
             .orderBy(video.id.asc())
             .offset(page.getOffset())
             .limit(page.getPageSize())
             .fetch();
 
-        return new PageImpl<>(videos, page, total);
+        return PageableExecutionUtils.getPage(videos, page, total);
+    }
+
+    @Override
+    public long countVideos(Long userId) {
+        return factory
+            .select(video.count())
+            .from(video)
+            .where(existUserId(userId))
+            .fetchOne();
+    }
+
+    // 카테고리 이름과 작성자 정보를 한 번의 조인 쿼리로 가져온다
+    private static ConstructorExpression<VideoResponse> videoResponse() {
+        return Projections.constructor(VideoResponse.class,
+            video.id,
+            category.name,
+            video.title,
+            video.description,
+            video.price,
+            video.thumbnailUrl,
+            video.videoUrl,
+            video.viewCount,
+            video.likeCount,
+            video.usedStatus,
+            Projections.constructor(MemberInfoResponseForVideo.class,
+                member.id,
+                member.name,
+                member.profileImageUrl));
+    }
+
+    // n-gram 색인으로 후보를 좁힌 뒤 실제 포함 여부를 확인한다
+    private BooleanExpression containsKeyword(String keyword) {
+        BooleanExpression containsKeyword = video.description.contains(keyword)
+            .or(video.title.contains(keyword));
+
+        Set<String> tokens = SearchTokenizer.tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return containsKeyword;
+        }
+
+        QVideo indexedVideo = new QVideo("indexedVideo");
+        StringPath searchToken = Expressions.stringPath("searchToken");
+        return video.id.in(
+            JPAExpressions.select(indexedVideo.id)
+                .from(indexedVideo)
+                .join(indexedVideo.searchTokens, searchToken)
+                .where(searchToken.in(tokens))
+                .groupBy(indexedVideo.id)
+                .having(searchToken.countDistinct().eq((long) tokens.size()))
+        ).and(containsKeyword);
+    }
+
+    private BooleanExpression isFollowedBy(Long memberId) {
+        return video.member.id.in(
+            JPAExpressions.select(follow.toMember.id)
+                .from(follow)
+                .where(follow.fromMember.id.eq(memberId))
+        );
+    }
+
+    private BooleanExpression isReady() {
+        return video.status.eq(VideoStatus.READY);
     }
 
     private Predicate existUserId(Long memberId) {
@@ -93,47 +255,42 @@ public class VideoCustomRepositoryImpl implements VideoCustomRepository {
         return video.member.id.eq(memberId);
     }
 
-    private BooleanExpression cursorIsLessThan(String sort, Long cursorId) {
-        if (Objects.isNull(cursorId)) {
+    private Predicate existCategoryId(Long categoryId) {
+        if (Objects.isNull(categoryId)) {
             return null;
         }
 
-        if (sort.equals("hits")) {
-            String cursor =
-                String.format("%010d", getHits(cursorId)) + String.format("%010d", cursorId);
-            return convertToUniqueValue().lt(cursor);
-        }
-
-        return video.id.lt(cursorId);
+        return video.category.id.eq(categoryId);
     }
 
-    private StringExpression convertToUniqueValue() {
-        return lpad(video.viewCount.stringValue(), 10, '0').concat(
-            lpad(video.id.stringValue(), 10, '0'));
-    }
-    
-    private Long getHits(Long cursorId) {
-        return Objects
-            .requireNonNull(factory.selectFrom(video).where(video.id.eq(cursorId)).fetchOne())
-            .getViewCount();
-    }
-
-    private OrderSpecifier<?> videoSort(String sortBy) {
-        if (!hasText(sortBy)) {
-            return new OrderSpecifier<>(DESC, video.id);
+    // (정렬 값, id) 복합 키로 커서 이후의 영상만 조회한다
+    private BooleanExpression isAfter(VideoSort sort, VideoCursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+        if (sort == VideoSort.LATEST) {
+            return video.id.lt(cursor.getId());
         }
-        return new OrderSpecifier<>(DESC,
-            (sortBy.equals("hits") ? video.viewCount : video.likeCount));
+
+        NumberPath<Long> sortValue = sortValue(sort);
+        return sortValue.lt(cursor.getSortValue())
+            .or(sortValue.eq(cursor.getSortValue()).and(video.id.lt(cursor.getId())));
     }
 
-    public BooleanBuilder videoIdIsLessThan(Long videoId) {
-        BooleanBuilder builder = new BooleanBuilder();
+    private OrderSpecifier<?> videoSort(VideoSort sort) {
+        return new OrderSpecifier<>(DESC, sortValue(sort));
+    }
 
-        if (Objects.nonNull(videoId)) {
-            builder.and(video.id.lt(videoId));
+    // view_count, like_count 는 NOT NULL 이므로 컬럼을 그대로 정렬하고 비교해야 (정렬 값, id) 인덱스를 탄다
+    private NumberPath<Long> sortValue(VideoSort sort) {
+        switch (sort) {
+            case HITS:
+                return video.viewCount;
+            case LIKES:
+                return video.likeCount;
+            default:
+                return video.id;
         }
-
-        return builder;
     }
 
 }
@@ -0,0 +1,31 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import numble.team4.shortformserver.video.dto.VideosResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class VideoFeedJdbcRepository {
+
+    private static final String SELECT_READY_VIDEOS =
+        "SELECT id, thumbnail_url FROM video WHERE status = 'READY' ORDER BY id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 이면 결과를 메모리에 모으지 않고 한 행씩 읽는다
+    public void streamReadyVideos(Consumer<VideosResponse> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                SELECT_READY_VIDEOS, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            return statement;
+        }, (RowCallbackHandler) resultSet ->
+            consumer.accept(VideosResponse.of(resultSet.getLong("id"), resultSet.getString("thumbnail_url"))));
+    }
+}
@@ -0,0 +1,411 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import numble.team4.shortformserver.common.infrastructure.AfterCommit;
+import numble.team4.shortformserver.video.application.VideoRanking;
+import numble.team4.shortformserver.video.category.domain.Category;
+import numble.team4.shortformserver.video.category.domain.CategoryRepository;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.domain.VideoTrendingWindow;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import numble.team4.shortformserver.video.dto.VideosResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(value = "video.leaderboard.enabled", havingValue = "true")
+public class VideoLeaderboard implements VideoRanking {
+
+    private static final List<VideoSort> RANKED_SORTS = List.of(VideoSort.HITS, VideoSort.LIKES);
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final VideoRepository videoRepository;
+    private final CategoryRepository categoryRepository;
+    private final int size;
+    private final boolean trendingEnabled;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final Map<VideoSort, ConcurrentSkipListMap<Long, Map<Long, Long>>> hourlyDeltas = new EnumMap<>(VideoSort.class);
+    private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+
+    private volatile Map<VideoSort, Map<Long, Long>> pendingDeltas = newPendingDeltas();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public VideoLeaderboard(
+        VideoRepository videoRepository,
+        CategoryRepository categoryRepository,
+        @Value("${video.leaderboard.size:100}") int size,
+        @Value("${video.leaderboard.trending.enabled:true}") boolean trendingEnabled) {
+        this.videoRepository = videoRepository;
+        this.categoryRepository = categoryRepository;
+        this.size = size;
+        this.trendingEnabled = trendingEnabled;
+        RANKED_SORTS.forEach(sort -> hourlyDeltas.put(sort, new ConcurrentSkipListMap<>()));
+    }
+
+    // 기간별 순위는 메모리에만 있으므로 DB 로 대신하지 않고, 한 번에 보여 주는 순위라 커서를 주지 않는다.
+    // 시간별 증가분은 노드마다 자기가 받은 요청만 세고 재시작하면 사라지므로, 여러 노드로 띄울 때는 기간별 순위를 끄고
+    // DatabaseVideoRanking 처럼 전체 기간 순위로 대신한다
+    @Override
+    public VideoSliceResponse getTopVideos(VideoSort sort, Long categoryId, VideoTrendingWindow window,
+        VideoCursor cursor, int limitNum) {
+        Snapshot current = snapshot;
+        if (Objects.nonNull(window) && trendingEnabled) {
+            List<Entry> board = current.boards.getOrDefault(new BoardKey(sort, categoryId, window), List.of());
+            return VideoSliceResponse.of(toResponses(board.subList(0, Math.min(limitNum, board.size()))), null);
+        }
+
+        BoardKey key = new BoardKey(sort, categoryId, null);
+        List<Entry> board = current.boards.get(key);
+        if (Objects.isNull(board)) {
+            return VideoSliceResponse.of(videoRepository.getTopVideos(sort, categoryId, cursor, limitNum), sort, limitNum);
+        }
+
+        List<Entry> page = board.stream()
+            .filter(entry -> entry.isAfter(sort, cursor))
+            .limit(limitNum)
+            .collect(Collectors.toList());
+        if (page.size() == limitNum) {
+            Entry last = page.get(page.size() - 1);
+            return VideoSliceResponse.of(toResponses(page), last.cursorOf(sort).encode());
+        }
+        if (!current.truncated.contains(key)) {
+            return VideoSliceResponse.of(toResponses(page), null);
+        }
+        return continueFromDatabase(sort, categoryId, cursor, limitNum, board, page);
+    }
+
+    // 순위표 뒤는 DB 와 같은 (정렬 값, id) 커서로 순위표 마지막 영상 아래부터 이어 읽는다.
+    // 순위표의 영상은 DB 값이 메모리 값과 달라 다시 읽힐 수 있으므로 그만큼 더 읽고 뺀다
+    private VideoSliceResponse continueFromDatabase(VideoSort sort, Long categoryId, VideoCursor cursor, int limitNum,
+        List<Entry> board, List<Entry> page) {
+        if (board.isEmpty()) {
+            return VideoSliceResponse.of(videoRepository.getTopVideos(sort, categoryId, cursor, limitNum), sort, limitNum);
+        }
+
+        Entry tail = board.get(board.size() - 1);
+        VideoCursor handoff = tail.isAfter(sort, cursor) ? tail.cursorOf(sort) : cursor;
+        Set<Long> rankedIds = board.stream()
+            .map(entry -> entry.id)
+            .collect(Collectors.toSet());
+        int remaining = limitNum - page.size();
+        List<Video> rest = videoRepository.getTopVideos(sort, categoryId, handoff, remaining + board.size()).stream()
+            .filter(video -> !rankedIds.contains(video.getId()))
+            .limit(remaining)
+            .collect(Collectors.toList());
+
+        List<VideosResponse> videos = new ArrayList<>(toResponses(page));
+        videos.addAll(VideosResponse.from(rest));
+        if (rest.size() < remaining) {
+            return VideoSliceResponse.of(videos, null);
+        }
+        return VideoSliceResponse.of(videos, VideoCursor.of(rest.get(rest.size() - 1), sort).encode());
+    }
+
+    @Override
+    public void recordView(Long videoId) {
+        record(VideoSort.HITS, videoId, 1L);
+    }
+
+    @Override
+    public void recordLike(Long videoId, long delta) {
+        record(VideoSort.LIKES, videoId, delta);
+    }
+
+    // 지운 영상이 다음 reconcile 까지 순위에 남지 않도록 바로 빼고, 커밋 전에 시작한 reconcile 이 되살리지 않도록 커밋 후에도 뺀다
+    @Override
+    public void remove(Long videoId) {
+        AfterCommit.runNowAndAfterCommit(() -> removeFromSnapshot(videoId));
+    }
+
+    // 이미 순위에 있는 영상의 점수만 반영하고, 순위 밖의 영상은 다음 reconcile 에서 반영된다
+    @Scheduled(fixedDelayString = "${video.leaderboard.publish-interval-ms:1000}")
+    public void publish() {
+        Map<VideoSort, Map<Long, Long>> deltas = swapPendingDeltas();
+        if (deltas.values().stream().allMatch(Map::isEmpty)) {
+            return;
+        }
+
+        publishLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Map<Long, Entry> entries = new HashMap<>(current.entries);
+            deltas.forEach((sort, byVideoId) -> byVideoId.forEach((videoId, delta) ->
+                entries.computeIfPresent(videoId, (id, entry) -> entry.plus(sort, delta))));
+
+            Map<BoardKey, List<Entry>> boards = new HashMap<>();
+            current.boards.forEach((key, board) -> boards.put(key, key.isTrending() ? board : rank(board, entries, key.sort)));
+            snapshot = new Snapshot(entries, boards, current.truncated);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    // DB 값이 기준이므로 아직 게시되지 않은 증분은 버린다
+    @Scheduled(fixedDelayString = "${video.leaderboard.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        removedIds.clear();
+        List<Long> categoryIds = categoryRepository.findAll().stream()
+            .map(Category::getId)
+            .collect(Collectors.toList());
+
+        Map<BoardKey, List<Entry>> boards = new HashMap<>();
+        for (VideoSort sort : RANKED_SORTS) {
+            boards.put(new BoardKey(sort, null, null), load(sort, null));
+            categoryIds.forEach(categoryId -> boards.put(new BoardKey(sort, categoryId, null), load(sort, categoryId)));
+            if (trendingEnabled) {
+                for (VideoTrendingWindow window : VideoTrendingWindow.values()) {
+                    boards.putAll(loadTrending(sort, window, categoryIds));
+                }
+            }
+        }
+
+        Set<BoardKey> truncated = new HashSet<>();
+        boards.forEach((key, board) -> {
+            if (!key.isTrending() && board.size() >= size) {
+                truncated.add(key);
+            }
+        });
+
+        swapLock.writeLock().lock();
+        publishLock.lock();
+        try {
+            pendingDeltas = newPendingDeltas();
+            snapshot = Snapshot.of(boards, truncated).without(removedIds);
+        } finally {
+            publishLock.unlock();
+            swapLock.writeLock().unlock();
+        }
+        pruneHourlyDeltas();
+    }
+
+    private void record(VideoSort sort, Long videoId, long delta) {
+        swapLock.readLock().lock();
+        try {
+            pendingDeltas.get(sort).merge(videoId, delta, Long::sum);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+        if (!trendingEnabled) {
+            return;
+        }
+        hourlyDeltas.get(sort)
+            .computeIfAbsent(currentHour(), hour -> new ConcurrentHashMap<>())
+            .merge(videoId, delta, Long::sum);
+    }
+
+    private void removeFromSnapshot(Long videoId) {
+        removedIds.add(videoId);
+        publishLock.lock();
+        try {
+            snapshot = snapshot.without(Set.of(videoId));
+        } finally {
+            publishLock.unlock();
+        }
+        hourlyDeltas.values().forEach(buckets -> buckets.values().forEach(byVideoId -> byVideoId.remove(videoId)));
+    }
+
+    private List<Entry> load(VideoSort sort, Long categoryId) {
+        return videoRepository.getTopVideos(sort, categoryId, null, size).stream()
+            .map(Entry::from)
+            .collect(Collectors.toList());
+    }
+
+    // 점수 순으로 영상을 나눠 읽으며 전체와 카테고리별 순위표를 함께 채운다.
+    // 점수가 낮은 영상까지 모두 읽지 않도록 순위표 칸 수만큼만 읽는다
+    private Map<BoardKey, List<Entry>> loadTrending(VideoSort sort, VideoTrendingWindow window, List<Long> categoryIds) {
+        Map<Long, Long> scores = new HashMap<>();
+        hourlyDeltas.get(sort)
+            .tailMap(currentHour() - window.getHours(), false)
+            .values()
+            .forEach(byVideoId -> byVideoId.forEach((videoId, delta) -> scores.merge(videoId, delta, Long::sum)));
+
+        Map<BoardKey, List<Entry>> boards = new HashMap<>();
+        boards.put(new BoardKey(sort, null, window), new ArrayList<>());
+        categoryIds.forEach(categoryId -> boards.put(new BoardKey(sort, categoryId, window), new ArrayList<>()));
+
+        List<Long> ids = scores.entrySet().stream()
+            .filter(score -> score.getValue() > 0)
+            .sorted(Map.Entry.<Long, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Long>comparingByKey().reversed()))
+            .limit((long) size * boards.size())
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+
+        for (int from = 0; from < ids.size() && !isFull(boards); from += size) {
+            List<Long> chunk = ids.subList(from, Math.min(from + size, ids.size()));
+            Map<Long, Video> videos = videoRepository.findAllById(chunk).stream()
+                .filter(Video::isReady)
+                .collect(Collectors.toMap(Video::getId, Function.identity()));
+            chunk.stream()
+                .filter(videos::containsKey)
+                .map(videos::get)
+                .forEach(video -> {
+                    addIfRoom(boards.get(new BoardKey(sort, null, window)), video);
+                    if (Objects.nonNull(video.getCategory())) {
+                        addIfRoom(boards.get(new BoardKey(sort, video.getCategory().getId(), window)), video);
+                    }
+                });
+        }
+
+        boards.replaceAll((key, board) -> List.copyOf(board));
+        return boards;
+    }
+
+    private void addIfRoom(List<Entry> board, Video video) {
+        if (Objects.nonNull(board) && board.size() < size) {
+            board.add(Entry.from(video));
+        }
+    }
+
+    private boolean isFull(Map<BoardKey, List<Entry>> boards) {
+        return boards.values().stream().allMatch(board -> board.size() >= size);
+    }
+
+    private List<Entry> rank(List<Entry> board, Map<Long, Entry> entries, VideoSort sort) {
+        List<Entry> ranked = new ArrayList<>(board.size());
+        board.forEach(entry -> ranked.add(entries.get(entry.id)));
+        ranked.sort(Comparator.comparingLong((Entry entry) -> entry.valueOf(sort))
+            .thenComparingLong(entry -> entry.id)
+            .reversed());
+        return List.copyOf(ranked);
+    }
+
+    private void pruneHourlyDeltas() {
+        long oldest = currentHour() - VideoTrendingWindow.WEEK.getHours();
+        hourlyDeltas.values().forEach(buckets -> buckets.headMap(oldest, true).clear());
+    }
+
+    private Map<VideoSort, Map<Long, Long>> swapPendingDeltas() {
+        swapLock.writeLock().lock();
+        try {
+            Map<VideoSort, Map<Long, Long>> deltas = pendingDeltas;
+            pendingDeltas = newPendingDeltas();
+            return deltas;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static List<VideosResponse> toResponses(List<Entry> entries) {
+        return entries.stream()
+            .map(entry -> VideosResponse.of(entry.id, entry.thumbnailUrl))
+            .collect(Collectors.toList());
+    }
+
+    private static Map<VideoSort, Map<Long, Long>> newPendingDeltas() {
+        Map<VideoSort, Map<Long, Long>> deltas = new EnumMap<>(VideoSort.class);
+        RANKED_SORTS.forEach(sort -> deltas.put(sort, new ConcurrentHashMap<>()));
+        return deltas;
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+
+    @lombok.Value
+    private static class BoardKey {
+        VideoSort sort;
+        Long categoryId;
+        VideoTrendingWindow window;
+
+        boolean isTrending() {
+            return Objects.nonNull(window);
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Entry {
+        private final Long id;
+        private final String thumbnailUrl;
+        private final long viewCount;
+        private final long likeCount;
+
+        static Entry from(Video video) {
+            return new Entry(video.getId(), video.getThumbnailUrl(),
+                VideoSort.HITS.sortValueOf(video), VideoSort.LIKES.sortValueOf(video));
+        }
+
+        long valueOf(VideoSort sort) {
+            return (sort == VideoSort.HITS) ? viewCount : likeCount;
+        }
+
+        VideoCursor cursorOf(VideoSort sort) {
+            return VideoCursor.of(sort, valueOf(sort), id);
+        }
+
+        // DB 의 (정렬 값, id) 내림차순 커서와 같은 기준으로 비교한다
+        boolean isAfter(VideoSort sort, VideoCursor cursor) {
+            if (Objects.isNull(cursor)) {
+                return true;
+            }
+            long value = valueOf(sort);
+            return value < cursor.getSortValue() || (value == cursor.getSortValue() && id < cursor.getId());
+        }
+
+        Entry plus(VideoSort sort, long delta) {
+            if (sort == VideoSort.HITS) {
+                return new Entry(id, thumbnailUrl, viewCount + delta, likeCount);
+            }
+            return new Entry(id, thumbnailUrl, viewCount, likeCount + delta);
+        }
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), Set.of());
+
+        private final Map<Long, Entry> entries;
+        private final Map<BoardKey, List<Entry>> boards;
+        // 칸이 모두 찬 순위표로, 순위표 뒤에 DB 에서 이어 읽을 영상이 더 있을 수 있다
+        private final Set<BoardKey> truncated;
+
+        static Snapshot of(Map<BoardKey, List<Entry>> boards, Set<BoardKey> truncated) {
+            Map<Long, Entry> entries = new HashMap<>();
+            boards.forEach((key, board) -> {
+                if (!key.isTrending()) {
+                    board.forEach(entry -> entries.put(entry.id, entry));
+                }
+            });
+            return new Snapshot(entries, boards, truncated);
+        }
+
+        Snapshot without(Set<Long> videoIds) {
+            if (videoIds.isEmpty()) {
+                return this;
+            }
+
+            Map<Long, Entry> remainingEntries = new HashMap<>(entries);
+            remainingEntries.keySet().removeAll(videoIds);
+            Map<BoardKey, List<Entry>> remainingBoards = new HashMap<>();
+            boards.forEach((key, board) -> remainingBoards.put(key, board.stream()
+                .filter(entry -> !videoIds.contains(entry.id))
+                .collect(Collectors.toUnmodifiableList())));
+            return new Snapshot(remainingEntries, remainingBoards, truncated);
+        }
+    }
+}
@@ -3,29 +3,43 @@ package numble.team4.shortformserver.video.ui;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.DELETE_VIDEO;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.GET_ADMIN_PAGE_VIDEO_LIST;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.GET_ALL_VIDEO;
+import static numble.team4.shortformserver.video.ui.VideoResponseMessage.GET_HOME_FEED;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.GET_VIDEO_BY_ID;
+import static numble.team4.shortformserver.video.ui.VideoResponseMessage.GET_VIDEO_STATUS;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.GET_VIDEO_LIST_BY_KEYWORD;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.GET_VIDEO_TOP_10;
+import static numble.team4.shortformserver.video.ui.VideoResponseMessage.REBUILD_SEARCH_INDEX;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.UPDATE_VIDEO;
 import static numble.team4.shortformserver.video.ui.VideoResponseMessage.UPLOAD_VIDEO;
 
 import java.util.List;
+import java.util.Objects;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import numble.team4.shortformserver.common.domain.CountStrategy;
 import numble.team4.shortformserver.common.dto.CommonResponse;
 import numble.team4.shortformserver.common.dto.PageInfo;
+import numble.team4.shortformserver.likevideo.application.LikeVideoService;
 import numble.team4.shortformserver.member.auth.util.LoginUser;
 import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.video.application.HomeFeedService;
+import numble.team4.shortformserver.video.application.VideoFeedService;
+import numble.team4.shortformserver.video.application.VideoSearchIndexService;
 import numble.team4.shortformserver.video.application.VideoService;
+import numble.team4.shortformserver.video.dto.VideoFeedFormat;
 import numble.team4.shortformserver.video.dto.VideoListRequest;
 import numble.team4.shortformserver.video.dto.VideoRequest;
 import numble.team4.shortformserver.video.dto.VideoResponse;
 import numble.team4.shortformserver.video.dto.VideoSearchRequest;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import numble.team4.shortformserver.video.dto.VideoStatusResponse;
 import numble.team4.shortformserver.video.dto.VideoUpdateRequest;
 import numble.team4.shortformserver.video.dto.VideosResponse;
+import numble.team4.shortformserver.video.exception.NotLoggedInException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -36,6 +50,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -46,6 +61,10 @@ public class VideoController {
     private static final String BASE_URI = "/videos";
 
     private final VideoService videoService;
+    private final VideoSearchIndexService videoSearchIndexService;
+    private final VideoFeedService videoFeedService;
+    private final LikeVideoService likeVideoService;
+    private final HomeFeedService homeFeedService;
 
     @PostMapping(BASE_URI)
     public CommonResponse<Long> saveVideo(
@@ -81,32 +100,95 @@ public class VideoController {
         return CommonResponse.of(videoService.findVideoById(videoId), GET_VIDEO_BY_ID.getMessage());
     }
 
+    @GetMapping(BASE_URI + "/{video_id}/status")
+    public CommonResponse<VideoStatusResponse> getVideoStatus(
+        @PathVariable("video_id") Long videoId,
+        @LoginUser Member loggedInMember) {
+
+        return CommonResponse.of(videoService.getVideoStatus(videoId, loggedInMember), GET_VIDEO_STATUS.getMessage());
+    }
+
     @GetMapping(BASE_URI)
-    public CommonResponse<List<VideosResponse>> getAllVideos() {
-        return CommonResponse.of(videoService.getAllVideos(), GET_ALL_VIDEO.getMessage());
+    public CommonResponse<List<VideosResponse>> getAllVideos(
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        VideoSliceResponse videos = videoFeedService.getFeed(cursor, size);
+        return CommonResponse.of(videos.getVideos(), videos.getNextCursor(), GET_ALL_VIDEO.getMessage());
+    }
+
+    @GetMapping(value = BASE_URI, params = "with_likes")
+    public CommonResponse<List<VideosResponse>> getAllVideosWithLikes(
+        @LoginUser Member loggedInMember,
+        @RequestParam("with_likes") boolean withLikes,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        VideoSliceResponse videos = videoFeedService.getFeed(cursor, size);
+        if (!withLikes) {
+            return CommonResponse.of(videos.getVideos(), videos.getNextCursor(), GET_ALL_VIDEO.getMessage());
+        }
+        if (Objects.isNull(loggedInMember)) {
+            throw new NotLoggedInException();
+        }
+
+        List<VideosResponse> videosWithLikes = likeVideoService.embedLikes(loggedInMember, videos.getVideos());
+        return CommonResponse.of(videosWithLikes, videos.getNextCursor(), GET_ALL_VIDEO.getMessage());
+    }
+
+    @GetMapping(BASE_URI + "/following")
+    public CommonResponse<List<VideosResponse>> getHomeFeed(
+        @LoginUser Member loggedInMember,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "size", required = false) Integer size) {
+        if (Objects.isNull(loggedInMember)) {
+            throw new NotLoggedInException();
+        }
+
+        VideoSliceResponse videos = homeFeedService.getHomeFeed(loggedInMember, cursor, size);
+        return CommonResponse.of(videos.getVideos(), videos.getNextCursor(), GET_HOME_FEED.getMessage());
+    }
+
+    @GetMapping(BASE_URI + "/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllVideos(
+        @RequestParam(value = "format", required = false) String format) {
+        VideoFeedFormat feedFormat = VideoFeedFormat.from(format);
+        return ResponseEntity.ok()
+            .contentType(feedFormat.getMediaType())
+            .body(outputStream -> videoFeedService.streamFeed(outputStream, feedFormat));
     }
 
     @GetMapping("/admin" + BASE_URI)
     public CommonResponse<List<VideoResponse>> getAdminPageVideos(
         @LoginUser Member admin,
         Pageable pageable,
-        @RequestParam(value = "user_id", required = false) Long userId) {
+        @RequestParam(value = "user_id", required = false) Long userId,
+        @RequestParam(value = "count", required = false) String count) {
 
-        Page<VideoResponse> videos = videoService.getAdminPageVideos(pageable, admin, userId);
+        Page<VideoResponse> videos = videoService.getAdminPageVideos(pageable, admin, userId,
+            CountStrategy.from(count, CountStrategy.APPROXIMATE));
         return CommonResponse.of(videos.getContent(), PageInfo.from(videos), GET_ADMIN_PAGE_VIDEO_LIST.getMessage());
     }
 
+    @PostMapping("/admin" + BASE_URI + "/search-index")
+    public CommonResponse<Long> rebuildSearchIndex(@LoginUser Member admin) {
+        return CommonResponse.of(videoSearchIndexService.rebuildSearchIndex(admin), REBUILD_SEARCH_INDEX.getMessage());
+    }
+
     @GetMapping(BASE_URI + "/search-condition")
     public CommonResponse<List<VideosResponse>> searchVideoByKeyword(
         @Valid @ModelAttribute VideoSearchRequest request,
+        @RequestParam(value = "cursor", required = false) String cursor,
         @RequestParam(value = "last_id", required = false) Long lastId) {
-        return CommonResponse.of(videoService.searchByKeyword(lastId, request.getKeyword(), request.getSortBy()),
-            GET_VIDEO_LIST_BY_KEYWORD.getMessage());
+        VideoSliceResponse videos = videoService.searchByKeyword(request.getKeyword(), request.getSortBy(), cursor, lastId);
+        return CommonResponse.of(videos.getVideos(), videos.getNextCursor(), GET_VIDEO_LIST_BY_KEYWORD.getMessage());
     }
 
     @GetMapping(BASE_URI + "/status-condition")
-    public CommonResponse<List<VideosResponse>> getTopVideos(@ModelAttribute VideoListRequest request) {
-        return CommonResponse.of(videoService.getTopVideos(request.getSortBy(), 10),
-            GET_VIDEO_TOP_10.getMessage());
+    public CommonResponse<List<VideosResponse>> getTopVideos(
+        @ModelAttribute VideoListRequest request,
+        @RequestParam(value = "category", required = false) String category,
+        @RequestParam(value = "window", required = false) String window,
+        @RequestParam(value = "cursor", required = false) String cursor) {
+        VideoSliceResponse videos = videoService.getTopVideos(request.getSortBy(), category, window, cursor, 10);
+        return CommonResponse.of(videos.getVideos(), videos.getNextCursor(), GET_VIDEO_TOP_10.getMessage());
     }
 }
@@ -10,10 +10,13 @@ public enum VideoResponseMessage {
     UPDATE_VIDEO("영상 수정 성공"),
     DELETE_VIDEO("영상 삭제 성공"),
     GET_ALL_VIDEO("전체 영상 조회 성공"),
+    GET_HOME_FEED("팔로우한 회원의 영상 조회 성공"),
     GET_VIDEO_BY_ID("영상 정보 조회 성공"),
+    GET_VIDEO_STATUS("영상 업로드 상태 조회 성공"),
     GET_VIDEO_LIST_BY_KEYWORD("영상 검색 성공"),
     GET_VIDEO_TOP_10("영상 top10 조회 성공"),
-    GET_ADMIN_PAGE_VIDEO_LIST("관리자 페이지 영상 목록 조회 성공");
+    GET_ADMIN_PAGE_VIDEO_LIST("관리자 페이지 영상 목록 조회 성공"),
+    REBUILD_SEARCH_INDEX("영상 검색 색인 재생성 성공");
 
 
     private final String message;
@@ -0,0 +1,119 @@
+CREATE TABLE category
+(
+    id          bigint       NOT NULL AUTO_INCREMENT,
+    create_at   timestamp DEFAULT current_timestamp,
+    modified_at timestamp DEFAULT current_timestamp ON UPDATE current_timestamp,
+    name        varchar(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE member
+(
+    id                bigint      NOT NULL AUTO_INCREMENT,
+    create_at         datetime(6) DEFAULT NULL,
+    modified_at       datetime(6) DEFAULT NULL,
+    email             varchar(255),
+    email_verified    bit         NOT NULL,
+    last_login_date   datetime(6),
+    name              varchar(255),
+    profile_image_url varchar(255),
+    provider          varchar(255),
+    role              varchar(255),
+    user_id           bigint,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE video
+(
+    id            bigint       NOT NULL AUTO_INCREMENT,
+    create_at     datetime(6) DEFAULT NULL,
+    modified_at   datetime(6) DEFAULT NULL,
+    description   varchar(255),
+    like_count    bigint,
+    price         integer      NOT NULL,
+    thumbnail_url varchar(255) NOT NULL,
+    title         varchar(255) NOT NULL,
+    used_status   bit          NOT NULL,
+    video_url     varchar(255) NOT NULL,
+    view_count    bigint,
+    category_id   bigint,
+    member_id     bigint,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE follow
+(
+    id          bigint NOT NULL AUTO_INCREMENT,
+    from_member bigint NOT NULL,
+    to_member   bigint NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE like_video
+(
+    id        bigint NOT NULL AUTO_INCREMENT,
+    member_id bigint NOT NULL,
+    video_id  bigint NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE chat_room
+(
+    id          bigint NOT NULL AUTO_INCREMENT,
+    create_at   datetime(6),
+    modified_at datetime(6),
+    buyer_id    bigint,
+    seller_id   bigint,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE chat_message
+(
+    id           bigint NOT NULL AUTO_INCREMENT,
+    create_at    datetime(6),
+    modified_at  datetime(6),
+    message      varchar(255),
+    chat_room_id bigint,
+    member_id    bigint,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE category
+    ADD CONSTRAINT uk_category_name UNIQUE (name);
+
+ALTER TABLE video
+    ADD CONSTRAINT fk_video_category FOREIGN KEY (category_id) REFERENCES category (id);
+
+ALTER TABLE video
+    ADD CONSTRAINT fk_video_member FOREIGN KEY (member_id) REFERENCES member (id);
+
+ALTER TABLE follow
+    ADD CONSTRAINT fk_follow_from_member FOREIGN KEY (from_member) REFERENCES member (id);
+
+ALTER TABLE follow
+    ADD CONSTRAINT fk_follow_to_member FOREIGN KEY (to_member) REFERENCES member (id);
+
+ALTER TABLE like_video
+    ADD CONSTRAINT fk_like_video_member FOREIGN KEY (member_id) REFERENCES member (id);
+
+ALTER TABLE like_video
+    ADD CONSTRAINT fk_like_video_video FOREIGN KEY (video_id) REFERENCES video (id);
+
+ALTER TABLE chat_room
+    ADD CONSTRAINT fk_chat_room_buyer FOREIGN KEY (buyer_id) REFERENCES member (id);
+
+ALTER TABLE chat_room
+    ADD CONSTRAINT fk_chat_room_seller FOREIGN KEY (seller_id) REFERENCES member (id);
+
+ALTER TABLE chat_message
+    ADD CONSTRAINT fk_chat_message_chat_room FOREIGN KEY (chat_room_id) REFERENCES chat_room (id);
+
+ALTER TABLE chat_message
+    ADD CONSTRAINT fk_chat_message_member FOREIGN KEY (member_id) REFERENCES member (id);
+
+INSERT INTO category (name)
+VALUES ('구두/로퍼'),
+       ('워커/부츠'),
+       ('샌들/슬리퍼'),
+       ('스니커즈'),
+       ('기타');
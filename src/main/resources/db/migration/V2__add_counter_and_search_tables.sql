@@ -0,0 +1,58 @@
+ALTER TABLE video
+    ADD COLUMN status varchar(255) DEFAULT 'READY' NOT NULL;
+
+CREATE TABLE video_like_counter
+(
+    id         bigint  NOT NULL AUTO_INCREMENT,
+    video_id   bigint  NOT NULL,
+    slot       integer NOT NULL,
+    like_count bigint  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE video_like_counter
+    ADD CONSTRAINT uk_video_like_counter_video_id_slot UNIQUE (video_id, slot);
+
+CREATE TABLE video_search_token
+(
+    video_id bigint       NOT NULL,
+    token    varchar(255) NOT NULL,
+    PRIMARY KEY (video_id, token)
+);
+
+CREATE INDEX idx_video_search_token_token ON video_search_token (token, video_id);
+
+ALTER TABLE video_search_token
+    ADD CONSTRAINT fk_video_search_token_video FOREIGN KEY (video_id) REFERENCES video (id);
+
+CREATE TABLE member_search_token
+(
+    member_id bigint       NOT NULL,
+    token     varchar(255) NOT NULL,
+    PRIMARY KEY (member_id, token)
+);
+
+CREATE INDEX idx_member_search_token_token ON member_search_token (token, member_id);
+
+ALTER TABLE member_search_token
+    ADD CONSTRAINT fk_member_search_token_member FOREIGN KEY (member_id) REFERENCES member (id);
+
+CREATE TABLE member_stats
+(
+    member_id       bigint NOT NULL,
+    follower_count  bigint NOT NULL,
+    following_count bigint NOT NULL,
+    video_count     bigint NOT NULL,
+    PRIMARY KEY (member_id)
+);
+
+ALTER TABLE member_stats
+    ADD CONSTRAINT fk_member_stats_member FOREIGN KEY (member_id) REFERENCES member (id);
+
+CREATE INDEX idx_video_view_count_id ON video (view_count, id);
+
+CREATE INDEX idx_video_like_count_id ON video (like_count, id);
+
+CREATE INDEX idx_video_category_view_count_id ON video (category_id, view_count, id);
+
+CREATE INDEX idx_video_category_like_count_id ON video (category_id, like_count, id);
@@ -0,0 +1,28 @@
+-- 유니크 제약을 걸기 전에 중복된 팔로우와 좋아요는 가장 먼저 생긴 행만 남긴다
+DELETE
+FROM follow
+WHERE id NOT IN (SELECT keep_id
+                 FROM (SELECT MIN(id) AS keep_id FROM follow GROUP BY from_member, to_member) keep_follow);
+
+DELETE
+FROM like_video
+WHERE id NOT IN (SELECT keep_id
+                 FROM (SELECT MIN(id) AS keep_id FROM like_video GROUP BY member_id, video_id) keep_like_video);
+
+ALTER TABLE follow
+    ADD CONSTRAINT uk_follow_from_member_to_member UNIQUE (from_member, to_member);
+
+CREATE INDEX idx_follow_to_member_from_member ON follow (to_member, from_member);
+
+ALTER TABLE like_video
+    ADD CONSTRAINT uk_like_video_member_id_video_id UNIQUE (member_id, video_id);
+
+CREATE INDEX idx_chat_message_chat_room_id_id ON chat_message (chat_room_id, id);
+
+CREATE INDEX idx_chat_room_buyer_id_modified_at ON chat_room (buyer_id, modified_at);
+
+CREATE INDEX idx_chat_room_seller_id_modified_at ON chat_room (seller_id, modified_at);
+
+CREATE INDEX idx_video_member_id_id ON video (member_id, id);
+
+CREATE INDEX idx_video_status_id ON video (status, id);
@@ -0,0 +1,2 @@
+-- 홈 피드에서 팔로워가 많은 회원을 주기적으로 조회한다
+CREATE INDEX idx_member_stats_follower_count ON member_stats (follower_count);
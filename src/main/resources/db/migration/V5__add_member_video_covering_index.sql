@@ -0,0 +1,4 @@
+-- 회원별 영상 목록을 테이블 조회 없이 인덱스만으로 읽는다. 앞부분이 같은 기존 인덱스는 대체한다
+CREATE INDEX idx_video_member_id_id_status_thumbnail_url ON video (member_id, id, status, thumbnail_url);
+
+ALTER TABLE video DROP INDEX idx_video_member_id_id;
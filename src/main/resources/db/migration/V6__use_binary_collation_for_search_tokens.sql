@@ -0,0 +1,6 @@
+-- 기본 collation 은 대소문자와 악센트를 구분하지 않아 'ß'/'ss' 처럼 다른 2-gram 이 같은 키로 충돌하므로 바이트 단위로 비교한다
+ALTER TABLE video_search_token
+    MODIFY token varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL;
+
+ALTER TABLE member_search_token
+    MODIFY token varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL;
@@ -0,0 +1,2 @@
+-- 이메일 도메인의 2-gram 을 색인에서 빼므로 기존 색인을 비우고, 애플리케이션이 시작할 때 MemberSearchIndexService 가 다시 채운다
+TRUNCATE TABLE member_search_token;
@@ -0,0 +1,11 @@
+-- V3 에서 중복 좋아요를 지웠지만 영상의 좋아요 수와 카운터 슬롯은 지우기 전 값으로 남아 있으므로 like_video 기준으로 다시 계산한다
+DELETE
+FROM video_like_counter;
+
+INSERT INTO video_like_counter (video_id, slot, like_count)
+SELECT l.video_id, 0, COUNT(*)
+FROM like_video l
+GROUP BY l.video_id;
+
+UPDATE video
+SET like_count = (SELECT COUNT(*) FROM like_video l WHERE l.video_id = video.id);
@@ -0,0 +1,14 @@
+-- 정렬과 커서 비교에 COALESCE 를 쓰면 (view_count, id), (like_count, id) 인덱스를 타지 못하므로 NULL 을 0 으로 채우고 NOT NULL 로 바꾼다
+UPDATE video
+SET view_count = 0
+WHERE view_count IS NULL;
+
+UPDATE video
+SET like_count = 0
+WHERE like_count IS NULL;
+
+ALTER TABLE video
+    MODIFY view_count bigint NOT NULL DEFAULT 0;
+
+ALTER TABLE video
+    MODIFY like_count bigint NOT NULL DEFAULT 0;
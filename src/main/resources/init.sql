@@ -1,8 +1,12 @@
 DROP TABLE if EXISTS chat_message;
 DROP TABLE if EXISTS chat_room;
+DROP TABLE IF EXISTS video_like_counter;
 DROP TABLE IF EXISTS like_video;
+DROP TABLE IF EXISTS video_search_token;
 DROP TABLE IF EXISTS video;
 DROP TABLE IF EXISTS follow;
+DROP TABLE IF EXISTS member_search_token;
+DROP TABLE IF EXISTS member_stats;
 DROP TABLE IF EXISTS member;
 DROP TABLE IF EXISTS category;
 
@@ -52,6 +56,15 @@ CREATE TABLE like_video
     PRIMARY KEY (id)
 ) ENGINE = InnoDB;
 
+CREATE TABLE video_like_counter
+(
+    id         bigint  NOT NULL AUTO_INCREMENT,
+    video_id   bigint  NOT NULL,
+    slot       integer NOT NULL,
+    like_count bigint  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
 CREATE TABLE member
 (
     id                bigint      NOT NULL AUTO_INCREMENT,
@@ -68,24 +81,78 @@ CREATE TABLE member
     PRIMARY KEY (id)
 ) ENGINE = InnoDB;
 
+CREATE TABLE member_search_token
+(
+    member_id bigint       NOT NULL,
+    token     varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    PRIMARY KEY (member_id, token)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_member_search_token_token ON member_search_token (token, member_id);
+
+CREATE TABLE member_stats
+(
+    member_id       bigint NOT NULL,
+    follower_count  bigint NOT NULL,
+    following_count bigint NOT NULL,
+    video_count     bigint NOT NULL,
+    PRIMARY KEY (member_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_member_stats_follower_count ON member_stats (follower_count);
+
 CREATE TABLE video
 (
     id            bigint       not null auto_increment,
     create_at   datetime(6) DEFAULT NULL,
     modified_at datetime(6) DEFAULT NULL,
     description   varchar(255),
-    like_count    bigint,
+    like_count    bigint       not null default 0,
     price         integer      not null,
     thumbnail_url varchar(255) not null,
     title         varchar(255) not null,
     used_status   bit          not null,
     video_url     varchar(255) not null,
-    view_count    bigint,
+    view_count    bigint       not null default 0,
+    status        varchar(255) not null,
     category_id   bigint,
     member_id     bigint,
     primary key (id)
 ) ENGINE = InnoDB;
 
+CREATE TABLE video_search_token
+(
+    video_id bigint       not null,
+    token    varchar(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin not null,
+    primary key (video_id, token)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_video_search_token_token ON video_search_token (token, video_id);
+
+CREATE INDEX idx_video_view_count_id ON video (view_count, id);
+
+CREATE INDEX idx_video_like_count_id ON video (like_count, id);
+
+CREATE INDEX idx_video_category_view_count_id ON video (category_id, view_count, id);
+
+CREATE INDEX idx_video_category_like_count_id ON video (category_id, like_count, id);
+
+CREATE INDEX idx_video_member_id_id_status_thumbnail_url ON video (member_id, id, status, thumbnail_url);
+
+CREATE INDEX idx_video_status_id ON video (status, id);
+
+CREATE UNIQUE INDEX uk_follow_from_member_to_member ON follow (from_member, to_member);
+
+CREATE INDEX idx_follow_to_member_from_member ON follow (to_member, from_member);
+
+CREATE UNIQUE INDEX uk_like_video_member_id_video_id ON like_video (member_id, video_id);
+
+CREATE INDEX idx_chat_message_chat_room_id_id ON chat_message (chat_room_id, id);
+
+CREATE INDEX idx_chat_room_buyer_id_modified_at ON chat_room (buyer_id, modified_at);
+
+CREATE INDEX idx_chat_room_seller_id_modified_at ON chat_room (seller_id, modified_at);
+
 ALTER TABLE category
     ADD CONSTRAINT UNIQUE (name);
 
@@ -113,8 +180,20 @@ ALTER TABLE like_video
 ALTER TABLE like_video
     ADD CONSTRAINT FOREIGN KEY (video_id) references video (id);
 
+ALTER TABLE video_like_counter
+    ADD CONSTRAINT UNIQUE (video_id, slot);
+
 ALTER TABLE video
     ADD CONSTRAINT FOREIGN KEY (category_id) REFERENCES category (id);
 
 ALTER TABLE video
     ADD CONSTRAINT FOREIGN KEY (member_id) REFERENCES member (id);
+
+ALTER TABLE video_search_token
+    ADD CONSTRAINT FOREIGN KEY (video_id) REFERENCES video (id);
+
+ALTER TABLE member_search_token
+    ADD CONSTRAINT FOREIGN KEY (member_id) REFERENCES member (id);
+
+ALTER TABLE member_stats
+    ADD CONSTRAINT FOREIGN KEY (member_id) REFERENCES member (id);
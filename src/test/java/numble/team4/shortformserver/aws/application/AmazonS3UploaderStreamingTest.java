@@ -0,0 +1,113 @@
+package numble.team4.shortformserver.aws.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import numble.team4.shortformserver.aws.dto.S3StagedFile;
+import numble.team4.shortformserver.aws.dto.S3UploadDto;
+import numble.team4.shortformserver.testCommon.FakeAmazonS3;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class AmazonS3UploaderStreamingTest {
+
+    private static final String CLOUDFRONT_URL = "https://cdn.test/";
+    private static final long SPILL_THRESHOLD = 8 * 1024L;
+
+    @Mock
+    private AmazonS3Client amazonS3Client;
+
+    private FakeAmazonS3 fakeAmazonS3;
+    private TransferManager transferManager;
+    private S3UploadMetrics s3UploadMetrics;
+    private AmazonS3Uploader amazonS3Uploader;
+
+    @BeforeEach
+    void init() {
+        fakeAmazonS3 = new FakeAmazonS3();
+        transferManager = TransferManagerBuilder.standard()
+            .withS3Client(fakeAmazonS3)
+            .withMinimumUploadPartSize(1024L)
+            .withMultipartUploadThreshold(SPILL_THRESHOLD)
+            .withExecutorFactory(() -> Executors.newFixedThreadPool(4))
+            .build();
+        s3UploadMetrics = new S3UploadMetrics();
+
+        amazonS3Uploader = new AmazonS3Uploader(amazonS3Client, transferManager, s3UploadMetrics);
+        ReflectionTestUtils.setField(amazonS3Uploader, "cloudfrontUrl", CLOUDFRONT_URL);
+        ReflectionTestUtils.setField(amazonS3Uploader, "bucket", "bucket");
+        ReflectionTestUtils.setField(amazonS3Uploader, "spillThreshold", SPILL_THRESHOLD);
+    }
+
+    @AfterEach
+    void clear() {
+        transferManager.shutdownNow(false);
+    }
+
+    @Test
+    @DisplayName("[성공] 작은 파일은 스트림 그대로 한 번에 업로드된다")
+    void saveToS3_smallFile_streamed() {
+        //given
+        byte[] content = randomBytes(1000);
+        MockMultipartFile file = new MockMultipartFile("video", "video.mov", "video/quicktime", content);
+
+        //when
+        S3UploadDto uploadDto = amazonS3Uploader.saveToS3(file, "test");
+
+        //then
+        assertThat(uploadDto.getFileUrl()).isEqualTo(CLOUDFRONT_URL + uploadDto.getKey());
+        assertThat(fakeAmazonS3.getObjectBytes(uploadDto.getKey())).isEqualTo(content);
+        assertThat(fakeAmazonS3.getStoredMetadata(uploadDto.getKey()).getContentType()).isEqualTo("video/quicktime");
+        assertThat(fakeAmazonS3.getUploadedPartCount()).isZero();
+        assertThat(s3UploadMetrics.getBytesInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 임계치를 넘는 파일은 디스크를 거쳐 파트 단위로 업로드된다")
+    void saveToS3_largeFile_multipart() {
+        //given
+        byte[] content = randomBytes(20 * 1024);
+        MockMultipartFile file = new MockMultipartFile("video", "video.mov", "video/quicktime", content);
+
+        //when
+        S3UploadDto uploadDto = amazonS3Uploader.saveToS3(file, "test");
+
+        //then
+        assertThat(fakeAmazonS3.getObjectBytes(uploadDto.getKey())).isEqualTo(content);
+        assertThat(fakeAmazonS3.getUploadedPartCount()).isGreaterThan(1);
+        assertThat(s3UploadMetrics.getBytesInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 저장될 url 만으로 남은 임시 파일을 지울 수 있다")
+    void discardStaged_byUrl_deleted() {
+        //given
+        MockMultipartFile file = new MockMultipartFile("video", "video.mov", "video/quicktime", randomBytes(1000));
+        S3StagedFile stagedFile = amazonS3Uploader.stage(file, "test");
+
+        //when
+        amazonS3Uploader.discardStaged(stagedFile.getFileUrl());
+
+        //then
+        assertThat(Files.exists(stagedFile.getPath())).isFalse();
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -17,7 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockMultipartFile;
 
-@SpringBootTest(classes = {AmazonS3Uploader.class, AmazonS3Config.class})
+@SpringBootTest(classes = {AmazonS3Uploader.class, AmazonS3Config.class, S3UploadMetrics.class})
 class AmazonS3UploaderTest {
 
     @Autowired
@@ -0,0 +1,145 @@
+package numble.team4.shortformserver.chat.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+import java.util.Optional;
+import numble.team4.shortformserver.chat.application.dto.ChatMessageResponse;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import numble.team4.shortformserver.member.auth.application.MemberPrincipalCache;
+import numble.team4.shortformserver.member.auth.application.dto.MemberPrincipal;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRecentMessageCacheTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final int CAPACITY = 3;
+
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
+
+    private ChatRecentMessageCache chatRecentMessageCache;
+
+    @BeforeEach
+    void init() {
+        chatRecentMessageCache = new ChatRecentMessageCache(memberPrincipalCache, CAPACITY, 600_000L, 1_000_000L);
+    }
+
+    private void givenMember(Long memberId, String name) {
+        Member member = Member.builder()
+            .id(memberId)
+            .name(name)
+            .role(Role.MEMBER)
+            .build();
+        given(memberPrincipalCache.get(memberId)).willReturn(Optional.of(MemberPrincipal.from(member)));
+    }
+
+    @Test
+    @DisplayName("[성공] 보낸 메시지를 작성자 이름과 함께 최신순으로 돌려준다")
+    void getLatest_withinWindow_newestFirst() {
+        //given
+        givenMember(1L, "구매자");
+        givenMember(2L, "판매자");
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 1L, "안녕하세요"));
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 2L, "네 안녕하세요"));
+
+        //when
+        Optional<List<ChatMessageResponse>> latest = chatRecentMessageCache.getLatest(ROOM_ID, 2);
+
+        //then
+        assertThat(latest.orElseThrow())
+            .extracting("userName", "content")
+            .containsExactly(
+                tuple("판매자", "네 안녕하세요"),
+                tuple("구매자", "안녕하세요"));
+    }
+
+    @Test
+    @DisplayName("[성공] 가진 메시지보다 많이 요청하면 캐시에서 돌려주지 않는다")
+    void getLatest_beyondWindow_empty() {
+        //given
+        givenMember(1L, "구매자");
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 1L, "안녕하세요"));
+
+        //when
+        Optional<List<ChatMessageResponse>> latest = chatRecentMessageCache.getLatest(ROOM_ID, 2);
+
+        //then
+        assertThat(latest).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 버퍼가 가득 차면 가장 오래된 메시지부터 밀려난다")
+    void append_overCapacity_dropOldest() {
+        //given
+        givenMember(1L, "구매자");
+        for (int i = 1; i <= CAPACITY + 1; i++) {
+            chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 1L, "메시지" + i));
+        }
+
+        //when
+        Optional<List<ChatMessageResponse>> latest = chatRecentMessageCache.getLatest(ROOM_ID, CAPACITY);
+
+        //then
+        assertThat(latest.orElseThrow())
+            .extracting("content")
+            .containsExactly("메시지4", "메시지3", "메시지2");
+        assertThat(chatRecentMessageCache.getLatest(ROOM_ID, CAPACITY + 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 없는 회원의 메시지는 캐시에 넣지 않는다")
+    void append_notExistMember_skip() {
+        //given
+        given(memberPrincipalCache.get(404L)).willReturn(Optional.empty());
+
+        //when
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 404L, "안녕하세요"));
+
+        //then
+        assertThat(chatRecentMessageCache.getLatest(ROOM_ID, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 다른 노드의 메시지가 섞인 방은 캐시에서 돌려주지 않고, 이후 메시지도 쌓지 않는다")
+    void markRelayed_untrusted_empty() {
+        //given
+        givenMember(1L, "구매자");
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 1L, "안녕하세요"));
+
+        //when
+        chatRecentMessageCache.markRelayed(ROOM_ID);
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 1L, "네 안녕하세요"));
+
+        //then
+        assertThat(chatRecentMessageCache.getLatest(ROOM_ID, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 모든 방을 비운 뒤에는 새로 보낸 메시지부터 다시 쌓는다")
+    void invalidateAll_rebuildFromNewMessages() {
+        //given
+        givenMember(1L, "구매자");
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 1L, "안녕하세요"));
+
+        //when
+        chatRecentMessageCache.invalidateAll();
+        chatRecentMessageCache.append(PendingChatMessage.of(ROOM_ID, 1L, "네 안녕하세요"));
+
+        //then
+        assertThat(chatRecentMessageCache.getLatest(ROOM_ID, 1).orElseThrow())
+            .extracting("content")
+            .containsExactly("네 안녕하세요");
+        assertThat(chatRecentMessageCache.getLatest(ROOM_ID, 2)).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package numble.team4.shortformserver.chat.infrastructure.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.util.List;
+import numble.team4.shortformserver.chat.application.ChatMessageMetrics;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedChatMessageWriterTest {
+
+    @Mock
+    private ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    @TempDir
+    Path spillDir;
+
+    private ChatMessageSpillFile chatMessageSpillFile;
+    private ChatMessageMetrics chatMessageMetrics;
+
+    @BeforeEach
+    void init() {
+        chatMessageSpillFile = new ChatMessageSpillFile(new ObjectMapper().findAndRegisterModules(), spillDir.toString());
+        chatMessageMetrics = new ChatMessageMetrics();
+    }
+
+    private BufferedChatMessageWriter writer(int queueCapacity, int batchSize) {
+        return new BufferedChatMessageWriter(chatMessageJdbcRepository, chatMessageSpillFile, chatMessageMetrics,
+            Runnable::run, queueCapacity, batchSize, 0L, 0L);
+    }
+
+    @Test
+    @DisplayName("[성공] batch-size 만큼 쌓이면 한 번의 batch insert 로 저장한다")
+    void write_batchSizeReached_insertAll() {
+        //given
+        BufferedChatMessageWriter writer = writer(10, 2);
+        PendingChatMessage first = PendingChatMessage.of(1L, 1L, "안녕하세요");
+        PendingChatMessage second = PendingChatMessage.of(1L, 2L, "네 안녕하세요");
+
+        //when
+        writer.write(first);
+        writer.write(second);
+
+        //then
+        verify(chatMessageJdbcRepository).insertAll(List.of(first, second));
+        assertThat(chatMessageMetrics.getPersisted()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("[성공] DB 에 쓰지 못한 메시지는 파일에 남겼다가 다시 저장한다")
+    void flush_databaseDown_spillAndReplay() {
+        //given
+        BufferedChatMessageWriter writer = writer(10, 10);
+        PendingChatMessage message = PendingChatMessage.of(1L, 1L, "안녕하세요");
+        willThrow(new DataAccessResourceFailureException("down"))
+            .willDoNothing()
+            .given(chatMessageJdbcRepository).insertAll(anyList());
+
+        //when
+        writer.write(message);
+        writer.flush();
+        writer.flush();
+
+        //then
+        verify(chatMessageJdbcRepository, times(2)).insertAll(anyList());
+        assertThat(chatMessageMetrics.getSpilled()).isEqualTo(1L);
+        assertThat(chatMessageMetrics.getPersisted()).isEqualTo(1L);
+        assertThat(chatMessageSpillFile.beginReplay()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 저장할 수 없는 메시지만 버리고 나머지는 저장한다")
+    void flush_integrityViolation_dropOnlyInvalid() {
+        //given
+        BufferedChatMessageWriter writer = writer(10, 10);
+        PendingChatMessage valid = PendingChatMessage.of(1L, 1L, "안녕하세요");
+        PendingChatMessage invalid = PendingChatMessage.of(404L, 1L, "없는 방");
+        willThrow(new DataIntegrityViolationException("fk")).given(chatMessageJdbcRepository).insertAll(List.of(valid, invalid));
+        willThrow(new DataIntegrityViolationException("fk")).given(chatMessageJdbcRepository).insertAll(List.of(invalid));
+        willDoNothing().given(chatMessageJdbcRepository).insertAll(List.of(valid));
+
+        //when
+        writer.write(valid);
+        writer.write(invalid);
+        writer.flush();
+
+        //then
+        verify(chatMessageJdbcRepository).insertAll(List.of(valid));
+        assertThat(chatMessageMetrics.getPersisted()).isEqualTo(1L);
+        assertThat(chatMessageMetrics.getDropped()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 큐가 가득 차면 메시지를 파일에 남긴다")
+    void write_queueFull_spill() {
+        //given
+        BufferedChatMessageWriter writer = writer(1, 10);
+
+        //when
+        writer.write(PendingChatMessage.of(1L, 1L, "첫 메시지"));
+        writer.write(PendingChatMessage.of(1L, 1L, "넘친 메시지"));
+
+        //then
+        verify(chatMessageJdbcRepository, never()).insertAll(anyList());
+        assertThat(chatMessageMetrics.getSpilled()).isEqualTo(1L);
+        assertThat(chatMessageSpillFile.beginReplay())
+            .extracting(PendingChatMessage::getMessage)
+            .containsExactly("넘친 메시지");
+    }
+}
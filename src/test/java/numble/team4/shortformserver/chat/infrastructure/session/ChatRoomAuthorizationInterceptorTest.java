@@ -0,0 +1,184 @@
+package numble.team4.shortformserver.chat.infrastructure.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.security.Principal;
+import java.util.Optional;
+import numble.team4.shortformserver.chat.application.ChatRoomMembershipCache;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomMembers;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomRepository;
+import numble.team4.shortformserver.member.auth.exception.NotLoggedInException;
+import numble.team4.shortformserver.member.auth.util.JwtTokenProvider;
+import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomAuthorizationInterceptorTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long BUYER_ID = 10L;
+    private static final Long SELLER_ID = 20L;
+    private static final Long OTHER_ID = 30L;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+    private ChatRoomAuthorizationInterceptor interceptor;
+
+    @BeforeEach
+    void init() {
+        chatRoomMembershipCache = new ChatRoomMembershipCache(chatRoomRepository, 100L, 10_000L);
+        interceptor = new ChatRoomAuthorizationInterceptor(jwtTokenProvider, chatRoomMembershipCache);
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Nested
+    @DisplayName("CONNECT 테스트")
+    class ConnectTest {
+
+        @Test
+        @DisplayName("[성공] 토큰의 회원으로 세션 사용자를 정한다")
+        void connect_validToken_setPrincipal() {
+            //given
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+            accessor.addNativeHeader("Authorization", "Bearer token");
+            accessor.setLeaveMutable(true);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+            given(jwtTokenProvider.validateTokenSecretToken("token")).willReturn(true);
+            given(jwtTokenProvider.getUserIdFromAccessToken("token")).willReturn(BUYER_ID);
+
+            //when
+            Message<?> result = interceptor.preSend(message, null);
+
+            //then
+            Principal user = StompHeaderAccessor.wrap(result).getUser();
+            assertThat(user).isInstanceOf(ChatPrincipal.class);
+            assertThat(((ChatPrincipal) user).getMemberId()).isEqualTo(BUYER_ID);
+        }
+
+        @Test
+        @DisplayName("[실패] 토큰이 없으면 연결할 수 없다")
+        void connect_withoutToken_notLoggedIn() {
+            //given
+            Message<byte[]> message = frame(StompCommand.CONNECT, null, null);
+
+            //when, then
+            assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(NotLoggedInException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("SUBSCRIBE, SEND 테스트")
+    class AuthorizeTest {
+
+        @Test
+        @DisplayName("[성공] 채팅방의 구매자와 판매자는 구독하고 보낼 수 있고, 방 정보는 한 번만 조회한다")
+        void subscribeAndSend_member_success() {
+            //given
+            given(chatRoomRepository.findMembersById(ROOM_ID)).willReturn(Optional.of(new ChatRoomMembers(BUYER_ID, SELLER_ID)));
+
+            //when
+            interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/sub/rooms/1", new ChatPrincipal(BUYER_ID)), null);
+            interceptor.preSend(frame(StompCommand.SEND, "/pub/rooms/1", new ChatPrincipal(SELLER_ID)), null);
+
+            //then
+            verify(chatRoomRepository, times(1)).findMembersById(ROOM_ID);
+        }
+
+        @Test
+        @DisplayName("[실패] 채팅방의 회원이 아니면 메시지를 보낼 수 없다")
+        void send_notMember_noAccessPermission() {
+            //given
+            given(chatRoomRepository.findMembersById(ROOM_ID)).willReturn(Optional.of(new ChatRoomMembers(BUYER_ID, SELLER_ID)));
+            Message<byte[]> message = frame(StompCommand.SEND, "/pub/rooms/1", new ChatPrincipal(OTHER_ID));
+
+            //when, then
+            assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(NoAccessPermissionException.class);
+        }
+
+        @Test
+        @DisplayName("[실패] 채팅방이 아닌 곳은 구독할 수 없다")
+        void subscribe_notRoomDestination_noAccessPermission() {
+            //given
+            Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/sub/other", new ChatPrincipal(BUYER_ID));
+
+            //when, then
+            assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(NoAccessPermissionException.class);
+        }
+
+        @Test
+        @DisplayName("[실패] CONNECT 로 인증하지 않은 세션은 구독할 수 없다")
+        void subscribe_anonymous_notLoggedIn() {
+            //given
+            Message<byte[]> message = frame(StompCommand.SUBSCRIBE, "/sub/rooms/1", null);
+
+            //when, then
+            assertThatThrownBy(() -> interceptor.preSend(message, null))
+                .isInstanceOf(NotLoggedInException.class);
+        }
+
+        @Test
+        @DisplayName("[성공] 없는 방으로 기억된 id 는 방이 만들어지면 지워진다")
+        void evict_createdRoom_reloaded() {
+            //given
+            given(chatRoomRepository.findMaxId()).willReturn(ROOM_ID);
+            given(chatRoomRepository.findMembersById(ROOM_ID))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new ChatRoomMembers(BUYER_ID, SELLER_ID)));
+            assertThat(chatRoomMembershipCache.isMember(ROOM_ID, BUYER_ID)).isFalse();
+
+            //when
+            chatRoomMembershipCache.evict(ROOM_ID);
+
+            //then
+            interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/sub/rooms/1", new ChatPrincipal(BUYER_ID)), null);
+            verify(chatRoomRepository, times(2)).findMembersById(ROOM_ID);
+        }
+
+        @Test
+        @DisplayName("[성공] 아직 발급되지 않은 id 는 없는 방으로 기억하지 않아 다른 노드에서 만든 방을 바로 찾는다")
+        void isMember_unissuedRoom_notCached() {
+            //given
+            given(chatRoomRepository.findMaxId()).willReturn(0L);
+            given(chatRoomRepository.findMembersById(ROOM_ID))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(new ChatRoomMembers(BUYER_ID, SELLER_ID)));
+
+            //when
+            boolean beforeCreated = chatRoomMembershipCache.isMember(ROOM_ID, BUYER_ID);
+            boolean afterCreated = chatRoomMembershipCache.isMember(ROOM_ID, BUYER_ID);
+
+            //then
+            assertThat(beforeCreated).isFalse();
+            assertThat(afterCreated).isTrue();
+        }
+    }
+}
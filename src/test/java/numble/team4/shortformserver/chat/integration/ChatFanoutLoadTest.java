@@ -0,0 +1,351 @@
+package numble.team4.shortformserver.chat.integration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import numble.team4.shortformserver.chat.application.ChatRoomMembershipCache;
+import numble.team4.shortformserver.chat.application.ChatSessionMetrics;
+import numble.team4.shortformserver.chat.infrastructure.session.ChatRoomAuthorizationInterceptor;
+import numble.team4.shortformserver.common.config.WebSocketConfig;
+import numble.team4.shortformserver.member.auth.util.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+// 한 방에 구독자 수천 명을 붙이고 브로커에서 보낸 메시지가 모든 구독자에게 닿기까지의 지연을 잰다.
+// 읽기를 멈춘 구독자 하나를 함께 붙여, 그 세션만 끊기고 나머지의 지연은 유지되는지 확인한다.
+// 소켓을 많이 열기 때문에 -Dchat.load-test=true 를 줄 때만 실행한다.
+// ./gradlew test --tests '*ChatFanoutLoadTest' -Dchat.load-test=true -Dchat.load-test.subscribers=5000
+@EnabledIfSystemProperty(named = "chat.load-test", matches = "true")
+class ChatFanoutLoadTest {
+
+    private static final String DESTINATION = "/sub/rooms/1";
+    private static final String STALLED_DESTINATION = "/sub/rooms/2";
+    private static final String WARM_UP = "warm-up";
+    private static final String FILLER = "x".repeat(64 * 1024);
+    private static final int FILLER_PER_MESSAGE = 10;
+    private static final int CONNECT_BATCH_SIZE = 100;
+    private static final long SEND_INTERVAL_MS = 100L;
+
+    private static final Logger log = LoggerFactory.getLogger(ChatFanoutLoadTest.class);
+
+    private final int subscriberCount = Integer.getInteger("chat.load-test.subscribers", 2000);
+    private final int messageCount = Integer.getInteger("chat.load-test.messages", 20);
+    private final long maxP99Ms = Long.getLong("chat.load-test.max-p99-ms", 500L);
+
+    private ServletWebServerApplicationContext node;
+    private WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    @BeforeEach
+    void init() {
+        node = (ServletWebServerApplicationContext) new SpringApplicationBuilder(FanoutNodeConfig.class)
+            .web(WebApplicationType.SERVLET)
+            .bannerMode(Banner.Mode.OFF)
+            .properties("server.port=0", "server.tomcat.threads.max=200", "server.tomcat.max-connections=20000")
+            .run();
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+        node.close();
+    }
+
+    @Test
+    @DisplayName("[성공] 읽기를 멈춘 구독자만 끊기고 나머지 구독자에게는 메시지가 전달되며 p50/p99 지연을 기록한다")
+    void fanOut_thousandsOfSubscribers_latency() throws Exception {
+        //given
+        LatencyRecorder recorder = new LatencyRecorder(subscriberCount * messageCount);
+        ChatSessionMetrics metrics = node.getBean(ChatSessionMetrics.class);
+        try (StalledSubscriber ignored = StalledSubscriber.connect(node.getWebServer().getPort(),
+            DESTINATION, STALLED_DESTINATION)) {
+            List<Subscriber> subscribers = connect(recorder);
+            SimpMessageSendingOperations broker = node.getBean(SimpMessageSendingOperations.class);
+            warmUp(broker, subscribers);
+
+            //when
+            for (int i = 0; i < messageCount; i++) {
+                broker.convertAndSend(DESTINATION, String.valueOf(System.nanoTime()));
+                for (int j = 0; j < FILLER_PER_MESSAGE; j++) {
+                    broker.convertAndSend(STALLED_DESTINATION, FILLER);
+                }
+                Thread.sleep(SEND_INTERVAL_MS);
+            }
+            boolean delivered = recorder.await(60, SECONDS);
+            boolean evicted = awaitEvicted(metrics, 60, SECONDS);
+
+            //then
+            long[] latencies = recorder.sorted();
+            log.info("fan-out subscribers={}, messages={}, delivered={}, p50={}us, p99={}us, max={}us, evicted={}",
+                subscriberCount, messageCount, latencies.length, percentile(latencies, 50), percentile(latencies, 99),
+                percentile(latencies, 100), metrics.getEvicted());
+            assertThat(delivered).isTrue();
+            assertThat(evicted).isTrue();
+            assertThat(metrics.getEvicted()).isEqualTo(1L);
+            assertThat(percentile(latencies, 99)).isLessThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(maxP99Ms));
+        }
+    }
+
+    private List<Subscriber> connect(LatencyRecorder recorder) throws Exception {
+        String url = "ws://127.0.0.1:" + node.getWebServer().getPort() + "/ws-connection/websocket";
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer load-test");
+        List<Subscriber> subscribers = new ArrayList<>(subscriberCount);
+        for (int from = 0; from < subscriberCount; from += CONNECT_BATCH_SIZE) {
+            List<ListenableFuture<StompSession>> connecting = new ArrayList<>(CONNECT_BATCH_SIZE);
+            for (int i = from; i < Math.min(from + CONNECT_BATCH_SIZE, subscriberCount); i++) {
+                connecting.add(stompClient.connect(url, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                }));
+            }
+            for (ListenableFuture<StompSession> future : connecting) {
+                StompSession session = future.get(30, SECONDS);
+                Subscriber subscriber = new Subscriber(recorder);
+                session.subscribe(DESTINATION, subscriber);
+                sessions.add(session);
+                subscribers.add(subscriber);
+            }
+        }
+        return subscribers;
+    }
+
+    // SUBSCRIBE 는 비동기로 처리되므로 모든 구독자가 메시지를 받을 때까지 미리 보내 본다
+    private void warmUp(SimpMessageSendingOperations broker, List<Subscriber> subscribers) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+        while (!subscribers.stream().allMatch(Subscriber::isWarmedUp)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            broker.convertAndSend(DESTINATION, WARM_UP);
+            Thread.sleep(SEND_INTERVAL_MS * 2);
+        }
+        Thread.sleep(SEND_INTERVAL_MS * 5);
+    }
+
+    private static boolean awaitEvicted(ChatSessionMetrics metrics, long timeout, TimeUnit unit)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (metrics.getEvicted() == 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(SEND_INTERVAL_MS);
+        }
+        return true;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(index, 0)]);
+    }
+
+    private static class Subscriber implements StompFrameHandler {
+
+        private final LatencyRecorder recorder;
+        private volatile boolean warmedUp;
+
+        Subscriber(LatencyRecorder recorder) {
+            this.recorder = recorder;
+        }
+
+        boolean isWarmedUp() {
+            return warmedUp;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            String body = (String) payload;
+            if (WARM_UP.equals(body)) {
+                warmedUp = true;
+                return;
+            }
+            recorder.record(System.nanoTime() - Long.parseLong(body));
+        }
+    }
+
+    // 구독까지만 하고 더 이상 읽지 않는 클라이언트. 받는 버퍼를 작게 잡아 서버의 전송이 금방 막히게 한다
+    private static class StalledSubscriber implements AutoCloseable {
+
+        private static final int RECEIVE_BUFFER_SIZE = 1024;
+
+        private final Socket socket;
+        private final OutputStream out;
+        private final DataInputStream in;
+
+        private StalledSubscriber(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = socket.getOutputStream();
+            this.in = new DataInputStream(socket.getInputStream());
+        }
+
+        static StalledSubscriber connect(int port, String... destinations) throws IOException {
+            Socket socket = new Socket();
+            socket.setReceiveBufferSize(RECEIVE_BUFFER_SIZE);
+            socket.connect(new InetSocketAddress("127.0.0.1", port), 5000);
+            StalledSubscriber subscriber = new StalledSubscriber(socket);
+            subscriber.handshake(port);
+            subscriber.send("CONNECT\naccept-version:1.2\nhost:127.0.0.1\nAuthorization:Bearer load-test\n\n\0");
+            assertThat(subscriber.readFrame()).startsWith("CONNECTED");
+            for (int i = 0; i < destinations.length; i++) {
+                subscriber.send("SUBSCRIBE\nid:stalled-" + i + "\ndestination:" + destinations[i] + "\n\n\0");
+            }
+            return subscriber;
+        }
+
+        private void handshake(int port) throws IOException {
+            out.write(("GET /ws-connection/websocket HTTP/1.1\r\n"
+                + "Host: 127.0.0.1:" + port + "\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                + "Sec-WebSocket-Version: 13\r\n"
+                + "Sec-WebSocket-Protocol: v12.stomp\r\n\r\n").getBytes(UTF_8));
+            out.flush();
+
+            StringBuilder response = new StringBuilder();
+            while (response.indexOf("\r\n\r\n") < 0) {
+                response.append((char) in.readUnsignedByte());
+            }
+            assertThat(response.toString()).startsWith("HTTP/1.1 101");
+        }
+
+        // 클라이언트 프레임은 마스킹해야 하므로 마스크 키를 0 으로 두어 payload 를 그대로 보낸다
+        private void send(String stompFrame) throws IOException {
+            byte[] payload = stompFrame.getBytes(UTF_8);
+            ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            frame.write(0x81);
+            if (payload.length < 126) {
+                frame.write(0x80 | payload.length);
+            } else {
+                frame.write(0x80 | 126);
+                frame.write(payload.length >>> 8);
+                frame.write(payload.length & 0xFF);
+            }
+            frame.write(new byte[4]);
+            frame.write(payload);
+            out.write(frame.toByteArray());
+            out.flush();
+        }
+
+        private String readFrame() throws IOException {
+            in.readUnsignedByte();
+            int length = in.readUnsignedByte() & 0x7F;
+            if (length == 126) {
+                length = in.readUnsignedShort();
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            return new String(payload, UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+
+    private static class LatencyRecorder {
+
+        private final long[] latencies;
+        private final AtomicInteger size = new AtomicInteger();
+        private final CountDownLatch remaining;
+
+        LatencyRecorder(int expected) {
+            this.latencies = new long[expected];
+            this.remaining = new CountDownLatch(expected);
+        }
+
+        void record(long latencyNanos) {
+            int index = size.getAndIncrement();
+            if (index < latencies.length) {
+                latencies[index] = latencyNanos;
+                remaining.countDown();
+            }
+        }
+
+        boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            return remaining.await(timeout, unit);
+        }
+
+        long[] sorted() {
+            long[] recorded = Arrays.copyOf(latencies, Math.min(size.get(), latencies.length));
+            Arrays.sort(recorded);
+            return recorded;
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebSocketServletAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+    })
+    @Import({WebSocketConfig.class, ChatSessionMetrics.class})
+    static class FanoutNodeConfig {
+
+        // 부하 측정에서는 토큰과 방 권한 확인을 모두 통과시킨다
+        @Bean
+        public ChatRoomAuthorizationInterceptor chatRoomAuthorizationInterceptor() {
+            JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+            given(jwtTokenProvider.validateTokenSecretToken(anyString())).willReturn(true);
+            given(jwtTokenProvider.getUserIdFromAccessToken(anyString())).willReturn(1L);
+            ChatRoomMembershipCache chatRoomMembershipCache = mock(ChatRoomMembershipCache.class);
+            given(chatRoomMembershipCache.isMember(anyLong(), anyLong())).willReturn(true);
+            return new ChatRoomAuthorizationInterceptor(jwtTokenProvider, chatRoomMembershipCache);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package numble.team4.shortformserver.chat.integration;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import numble.team4.shortformserver.chat.application.ChatBrokerRelay;
+import numble.team4.shortformserver.chat.application.ChatRecentMessageCache;
+import numble.team4.shortformserver.chat.application.ChatRoomMembershipCache;
+import numble.team4.shortformserver.chat.application.ChatSessionMetrics;
+import numble.team4.shortformserver.chat.domain.message.PendingChatMessage;
+import numble.team4.shortformserver.chat.infrastructure.relay.ClusterChatBrokerRelay;
+import numble.team4.shortformserver.chat.infrastructure.session.ChatRoomAuthorizationInterceptor;
+import numble.team4.shortformserver.common.config.WebSocketConfig;
+import numble.team4.shortformserver.member.auth.util.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+// 두 개의 애플리케이션 컨텍스트를 WebSocketConfig 까지 노드처럼 띄워 relay 포트로 서로 연결하고,
+// 실제 STOMP 클라이언트로 구독해 다른 노드에서 보낸 메시지를 받는지 확인한다
+class ClusterChatBrokerRelayTest {
+
+    private static final String SECRET = "relay-test-secret";
+    private static final String WARM_UP = "warm-up";
+    private static final long DELIVERY_TIMEOUT_MS = 5000L;
+
+    private int relayPortA;
+    private int relayPortB;
+    private ServletWebServerApplicationContext nodeA;
+    private ServletWebServerApplicationContext nodeB;
+    private WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    @BeforeEach
+    void init() throws IOException {
+        relayPortA = freePort();
+        relayPortB = freePort();
+        nodeA = startNode(relayPortA, relayPortB);
+        nodeB = startNode(relayPortB, relayPortA);
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new StringMessageConverter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(StompSession::disconnect);
+        stompClient.stop();
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    @DisplayName("[성공] 한 노드에서 보낸 메시지를 다른 노드의 구독자도 받고, 그 방의 최근 메시지는 DB 에서 읽게 한다")
+    void publish_deliveredToOtherNode() throws Exception {
+        //given
+        BlockingQueue<String> roomOneOnB = subscribe(nodeB, "/sub/rooms/1");
+        BlockingQueue<String> roomTwoOnA = subscribe(nodeA, "/sub/rooms/2");
+
+        //when
+        relayOf(nodeA).publish(PendingChatMessage.of(1L, 1L, "안녕하세요"));
+        relayOf(nodeB).publish(PendingChatMessage.of(2L, 2L, "네 안녕하세요"));
+
+        //then
+        assertThat(roomOneOnB.poll(DELIVERY_TIMEOUT_MS, MILLISECONDS)).isEqualTo("안녕하세요");
+        assertThat(roomTwoOnA.poll(DELIVERY_TIMEOUT_MS, MILLISECONDS)).isEqualTo("네 안녕하세요");
+        verify(recentMessagesOf(nodeB), timeout(DELIVERY_TIMEOUT_MS)).markRelayed(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 다른 노드에서 받은 메시지는 다시 돌려보내지 않는다")
+    void publish_notEchoedBack() throws Exception {
+        //given
+        BlockingQueue<String> roomOneOnA = subscribe(nodeA, "/sub/rooms/1");
+        BlockingQueue<String> roomOneOnB = subscribe(nodeB, "/sub/rooms/1");
+
+        //when
+        relayOf(nodeA).publish(PendingChatMessage.of(1L, 1L, "안녕하세요"));
+
+        //then
+        assertThat(roomOneOnB.poll(DELIVERY_TIMEOUT_MS, MILLISECONDS)).isEqualTo("안녕하세요");
+        assertThat(roomOneOnA.poll(DELIVERY_TIMEOUT_MS, MILLISECONDS)).isEqualTo("안녕하세요");
+        assertThat(roomOneOnA.poll(500L, MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 방의 메시지는 보낸 순서대로 다른 노드에 전달된다")
+    void publish_sameRoom_inOrder() throws Exception {
+        //given
+        BlockingQueue<String> roomOneOnB = subscribe(nodeB, "/sub/rooms/1");
+        List<String> messages = IntStream.rangeClosed(1, 500)
+            .mapToObj(String::valueOf)
+            .collect(Collectors.toList());
+
+        //when
+        messages.forEach(message -> {
+            relayOf(nodeA).publish(PendingChatMessage.of(1L, 1L, message));
+            relayOf(nodeA).publish(PendingChatMessage.of(2L, 1L, message));
+        });
+
+        //then
+        List<String> received = new ArrayList<>(messages.size());
+        while (received.size() < messages.size()) {
+            String message = roomOneOnB.poll(DELIVERY_TIMEOUT_MS, MILLISECONDS);
+            assertThat(message).isNotNull();
+            received.add(message);
+        }
+        assertThat(received).containsExactlyElementsOf(messages);
+    }
+
+    @Test
+    @DisplayName("[성공] relay 연결이 맺어지면 그 사이 빠진 프레임이 있을 수 있으므로 최근 메시지 캐시를 모두 비운다")
+    void connect_invalidateRecentMessages() {
+        //then
+        verify(recentMessagesOf(nodeA), timeout(DELIVERY_TIMEOUT_MS).atLeastOnce()).invalidateAll();
+        verify(recentMessagesOf(nodeB), timeout(DELIVERY_TIMEOUT_MS).atLeastOnce()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("[실패] handshake 를 통과하지 못한 연결이 보낸 프레임은 구독자와 최근 메시지 캐시에 반영되지 않는다")
+    void receive_unauthenticated_rejected() throws Exception {
+        //given
+        BlockingQueue<String> roomOneOnB = subscribe(nodeB, "/sub/rooms/1");
+        String frame = nodeB.getBean(ObjectMapper.class).writeValueAsString(PendingChatMessage.of(1L, 1L, "주입"));
+
+        //when
+        try (Socket socket = new Socket("127.0.0.1", relayPortB);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+             Writer writer = new OutputStreamWriter(socket.getOutputStream(), UTF_8)) {
+            reader.readLine();
+            writer.write(frame + "\n");
+            writer.flush();
+            assertThat(reader.readLine()).isNull();
+        }
+
+        //then
+        assertThat(roomOneOnB.poll(500L, MILLISECONDS)).isNull();
+        verify(recentMessagesOf(nodeB), after(500L).never()).markRelayed(any());
+    }
+
+    private ServletWebServerApplicationContext startNode(int relayPort, int peerRelayPort) {
+        return (ServletWebServerApplicationContext) new SpringApplicationBuilder(RelayNodeConfig.class)
+            .web(WebApplicationType.SERVLET)
+            .bannerMode(Banner.Mode.OFF)
+            .properties(
+                "server.port=0",
+                "chat.relay.cluster.enabled=true",
+                "chat.relay.cluster.bind-address=127.0.0.1",
+                "chat.relay.cluster.port=" + relayPort,
+                "chat.relay.cluster.secret=" + SECRET,
+                "chat.relay.cluster.peers=127.0.0.1:" + peerRelayPort,
+                "chat.relay.cluster.reconnect-interval-ms=50")
+            .run();
+    }
+
+    // SUBSCRIBE 는 비동기로 처리되므로 그 노드의 브로커로 미리 보내 본 뒤 받은 메시지를 비운다
+    private BlockingQueue<String> subscribe(ServletWebServerApplicationContext node, String destination) throws Exception {
+        String url = "ws://127.0.0.1:" + node.getWebServer().getPort() + "/ws-connection/websocket";
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer relay-test");
+        StompSession session = stompClient.connect(url, new WebSocketHttpHeaders(), connectHeaders,
+            new StompSessionHandlerAdapter() {
+            }).get(10, SECONDS);
+        sessions.add(session);
+
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return String.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((String) payload);
+            }
+        });
+
+        SimpMessageSendingOperations broker = node.getBean(SimpMessageSendingOperations.class);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!WARM_UP.equals(received.poll(100L, MILLISECONDS))) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            broker.convertAndSend(destination, WARM_UP);
+        }
+        Thread.sleep(200L);
+        received.clear();
+        return received;
+    }
+
+    private static ChatBrokerRelay relayOf(ServletWebServerApplicationContext node) {
+        return node.getBean(ChatBrokerRelay.class);
+    }
+
+    private static ChatRecentMessageCache recentMessagesOf(ServletWebServerApplicationContext node) {
+        return node.getBean(ChatRecentMessageCache.class);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebSocketServletAutoConfiguration.class,
+        JacksonAutoConfiguration.class
+    })
+    @Import({WebSocketConfig.class, ChatSessionMetrics.class, ClusterChatBrokerRelay.class})
+    static class RelayNodeConfig {
+
+        // relay 전달만 확인하므로 토큰과 방 권한 확인은 모두 통과시킨다
+        @Bean
+        public ChatRoomAuthorizationInterceptor chatRoomAuthorizationInterceptor() {
+            JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+            given(jwtTokenProvider.validateTokenSecretToken(anyString())).willReturn(true);
+            given(jwtTokenProvider.getUserIdFromAccessToken(anyString())).willReturn(1L);
+            ChatRoomMembershipCache chatRoomMembershipCache = mock(ChatRoomMembershipCache.class);
+            given(chatRoomMembershipCache.isMember(anyLong(), anyLong())).willReturn(true);
+            return new ChatRoomAuthorizationInterceptor(jwtTokenProvider, chatRoomMembershipCache);
+        }
+
+        @Bean
+        public ChatRecentMessageCache chatRecentMessageCache() {
+            return mock(ChatRecentMessageCache.class);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package numble.team4.shortformserver.common.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchTokenizerTest {
+
+    @Test
+    @DisplayName("단어별로 2-gram 토큰을 만든다.")
+    void tokenize() {
+        // when
+        Set<String> tokens = SearchTokenizer.tokenize("나이키 Air", "공통");
+
+        // then
+        assertThat(tokens).containsExactly("나이", "이키", "ai", "ir", "공통");
+    }
+
+    @Test
+    @DisplayName("검색어의 토큰은 검색어를 포함하는 본문의 토큰에 모두 포함된다.")
+    void tokenize_keywordSubset() {
+        // when
+        Set<String> textTokens = SearchTokenizer.tokenize("발렌시아가 스니커즈", "공통 설명");
+        Set<String> keywordTokens = SearchTokenizer.tokenize("렌시아");
+
+        // then
+        assertThat(textTokens).containsAll(keywordTokens);
+    }
+
+    @Test
+    @DisplayName("한 글자 단어와 null은 토큰을 만들지 않는다.")
+    void tokenize_shortWord() {
+        // when
+        Set<String> tokens = SearchTokenizer.tokenize("발", null);
+
+        // then
+        assertThat(tokens).isEmpty();
+    }
+}
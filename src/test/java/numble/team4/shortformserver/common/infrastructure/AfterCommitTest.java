@@ -0,0 +1,86 @@
+package numble.team4.shortformserver.common.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class AfterCommitTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 밖에서는 바로 실행한다")
+    void run_withoutTransaction_immediately() {
+        //when
+        AfterCommit.run(() -> events.add("commit"), () -> events.add("rollback"));
+
+        //then
+        assertThat(events).containsExactly("commit");
+    }
+
+    @Test
+    @DisplayName("[성공] 트랜잭션 안에서는 커밋된 뒤에 실행한다")
+    void run_inTransaction_afterCommit() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        AfterCommit.run(() -> events.add("commit"), () -> events.add("rollback"));
+        List<String> beforeCommit = List.copyOf(events);
+        complete(STATUS_COMMITTED);
+
+        //then
+        assertThat(beforeCommit).isEmpty();
+        assertThat(events).containsExactly("commit");
+    }
+
+    @Test
+    @DisplayName("[성공] 롤백되면 커밋 후 작업 대신 롤백 작업을 실행한다")
+    void run_rolledBack_onRollback() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        AfterCommit.run(() -> events.add("commit"), () -> events.add("rollback"));
+        complete(STATUS_ROLLED_BACK);
+
+        //then
+        assertThat(events).containsExactly("rollback");
+    }
+
+    @Test
+    @DisplayName("[성공] 바로 실행하고 커밋된 뒤에 한 번 더 실행한다")
+    void runNowAndAfterCommit_twice() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        AfterCommit.runNowAndAfterCommit(() -> events.add("evict"));
+        complete(STATUS_COMMITTED);
+
+        //then
+        assertThat(events).containsExactly("evict", "evict");
+    }
+
+    private void complete(int status) {
+        if (status == STATUS_COMMITTED) {
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        }
+        TransactionSynchronizationUtils.triggerAfterCompletion(status);
+    }
+}
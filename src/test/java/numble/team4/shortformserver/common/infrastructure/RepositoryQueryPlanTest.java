@@ -0,0 +1,276 @@
+package numble.team4.shortformserver.common.infrastructure;
+
+import static numble.team4.shortformserver.testCommon.QueryPlanAssert.assertIndexOrdered;
+import static numble.team4.shortformserver.testCommon.QueryPlanAssert.assertNoFullScan;
+
+import numble.team4.shortformserver.chat.domain.message.ChatMessage;
+import numble.team4.shortformserver.chat.domain.message.ChatMessageRepository;
+import numble.team4.shortformserver.chat.domain.room.ChatRoom;
+import numble.team4.shortformserver.chat.domain.room.ChatRoomRepository;
+import numble.team4.shortformserver.common.domain.SearchTokenizer;
+import numble.team4.shortformserver.follow.domain.Follow;
+import numble.team4.shortformserver.follow.domain.FollowRepository;
+import numble.team4.shortformserver.likevideo.domain.LikeVideo;
+import numble.team4.shortformserver.likevideo.domain.LikeVideoRepository;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.MemberRepository;
+import numble.team4.shortformserver.member.member.domain.Role;
+import numble.team4.shortformserver.testCommon.BaseIntegrationTest;
+import numble.team4.shortformserver.video.category.domain.Category;
+import numble.team4.shortformserver.video.category.domain.CategoryRepository;
+import numble.team4.shortformserver.video.category.exception.NotFoundCategoryException;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@BaseIntegrationTest
+@TestPropertySource(properties = "spring.datasource.url=jdbc:mysql://localhost:3306/testdb?useSSL=false&useUnicode=true"
+    + "&serverTimezone=Asia/Seoul&allowPublicKeyRetrieval=true"
+    + "&queryInterceptors=numble.team4.shortformserver.testCommon.ExplainQueryInterceptor")
+class RepositoryQueryPlanTest {
+
+    private static final int SEED_MEMBERS = 200;
+    private static final int SEED_VIDEOS = 2000;
+    private static final int SEED_ROOMS = 200;
+    private static final int MESSAGES_PER_ROOM = 10;
+    private static final int RELATIONS_PER_MEMBER = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private LikeVideoRepository likeVideoRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    private Member buyer, seller;
+    private Category category;
+    private Video video;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    void setUp() {
+        buyer = memberRepository.save(createMember("buyer", "buyer@email.com"));
+        seller = memberRepository.save(createMember("seller", "seller@email.com"));
+        category = categoryRepository.findByName("기타")
+            .orElseThrow(NotFoundCategoryException::new);
+
+        video = videoRepository.save(Video.builder()
+            .member(seller)
+            .category(category)
+            .title("나이키 덩크로우")
+            .description("나이키 신발")
+            .videoUrl("VIDEO_URL")
+            .thumbnailUrl("THUMBNAIL_URL")
+            .price(1000)
+            .usedStatus(true)
+            .likeCount(0L)
+            .viewCount(0L)
+            .build());
+        likeVideoRepository.save(LikeVideo.fromMemberAndVideo(buyer, video));
+        followRepository.save(Follow.fromMembers(buyer, seller));
+
+        chatRoom = chatRoomRepository.save(ChatRoom.of(buyer, seller));
+        chatMessageRepository.save(ChatMessage.of(buyer, chatRoom, "안녕하세요"));
+        seed();
+    }
+
+    // 행이 몇 개뿐이면 옵티마이저가 인덱스보다 풀 스캔을 고르므로 실제와 비슷한 양과 분포로 채운다
+    private void seed() {
+        Random random = new Random(42L);
+        List<Long> categoryIds = categoryRepository.findAll().stream()
+            .map(Category::getId)
+            .collect(Collectors.toList());
+        long firstMemberId = nextId("member");
+        long firstVideoId = nextId("video");
+        long firstRoomId = nextId("chat_room");
+
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> memberTokens = new ArrayList<>();
+        List<Object[]> memberStats = new ArrayList<>();
+        for (int i = 0; i < SEED_MEMBERS; i++) {
+            long id = firstMemberId + i;
+            String name = "member" + i;
+            String email = "member" + i + "@email.com";
+            members.add(new Object[]{id, name, email});
+            SearchTokenizer.tokenize(Member.localPartOf(email), name)
+                .forEach(token -> memberTokens.add(new Object[]{id, token}));
+            memberStats.add(new Object[]{id});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (id, name, email, email_verified, role, provider) "
+            + "VALUES (?, ?, ?, 1, 'MEMBER', 'KAKAO')", members);
+        jdbcTemplate.batchUpdate("INSERT INTO member_search_token (member_id, token) VALUES (?, ?)", memberTokens);
+        jdbcTemplate.batchUpdate("INSERT INTO member_stats (member_id, follower_count, following_count, video_count) "
+            + "VALUES (?, 0, 0, 0)", memberStats);
+
+        List<Object[]> videos = new ArrayList<>();
+        List<Object[]> videoTokens = new ArrayList<>();
+        for (int i = 0; i < SEED_VIDEOS; i++) {
+            long id = firstVideoId + i;
+            String title = "상품 " + i;
+            String description = "설명 " + random.nextInt(SEED_VIDEOS);
+            videos.add(new Object[]{id, title, description, random.nextInt(10_000), random.nextInt(1_000),
+                categoryIds.get(i % categoryIds.size()), firstMemberId + random.nextInt(SEED_MEMBERS)});
+            SearchTokenizer.tokenize(title, description)
+                .forEach(token -> videoTokens.add(new Object[]{id, token}));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO video (id, title, description, thumbnail_url, video_url, used_status, price, "
+            + "view_count, like_count, status, category_id, member_id) "
+            + "VALUES (?, ?, ?, 'THUMBNAIL_URL', 'VIDEO_URL', 1, 1000, ?, ?, 'READY', ?, ?)", videos);
+        jdbcTemplate.batchUpdate("INSERT INTO video_search_token (video_id, token) VALUES (?, ?)", videoTokens);
+
+        List<Object[]> likes = new ArrayList<>();
+        List<Object[]> follows = new ArrayList<>();
+        for (int i = 0; i < SEED_MEMBERS; i++) {
+            for (int k = 0; k < RELATIONS_PER_MEMBER; k++) {
+                likes.add(new Object[]{firstMemberId + i, firstVideoId + (i * RELATIONS_PER_MEMBER + k) % SEED_VIDEOS});
+                follows.add(new Object[]{firstMemberId + i, firstMemberId + (i + k + 1) % SEED_MEMBERS});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO like_video (member_id, video_id) VALUES (?, ?)", likes);
+        jdbcTemplate.batchUpdate("INSERT INTO follow (from_member, to_member) VALUES (?, ?)", follows);
+
+        List<Object[]> rooms = new ArrayList<>();
+        List<Object[]> messages = new ArrayList<>();
+        for (int i = 0; i < SEED_ROOMS; i++) {
+            long roomId = firstRoomId + i;
+            long buyerId = firstMemberId + i % SEED_MEMBERS;
+            rooms.add(new Object[]{roomId, buyerId, firstMemberId + (i + 1) % SEED_MEMBERS});
+            for (int k = 0; k < MESSAGES_PER_ROOM; k++) {
+                messages.add(new Object[]{"메시지 " + k, roomId, buyerId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO chat_room (id, buyer_id, seller_id, create_at, modified_at) "
+            + "VALUES (?, ?, ?, NOW(6), NOW(6))", rooms);
+        jdbcTemplate.batchUpdate("INSERT INTO chat_message (message, chat_room_id, member_id, create_at, modified_at) "
+            + "VALUES (?, ?, ?, NOW(6), NOW(6))", messages);
+    }
+
+    private long nextId(String table) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+    }
+
+    private Member createMember(String name, String email) {
+        return Member.builder()
+            .name(name)
+            .email(email)
+            .role(Role.MEMBER)
+            .emailVerified(true)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("영상 조회 쿼리")
+    class VideoQueryPlanTest {
+
+        @Test
+        @DisplayName("[성공] 키워드 검색은 인덱스를 사용한다")
+        void searchVideoByKeyword_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> videoRepository.searchVideoByKeyword("나이키", VideoSort.HITS, null));
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = VideoSort.class, names = {"HITS", "LIKES"})
+        @DisplayName("[성공] 전체와 카테고리별 인기 영상은 첫 페이지와 다음 페이지 모두 정렬 없이 인덱스 순서로 읽는다")
+        void getTopVideos_indexOrdered(VideoSort sort) {
+            for (Long categoryId : Arrays.asList(null, category.getId())) {
+                List<Video> firstPage = assertIndexOrdered(jdbcTemplate,
+                    () -> videoRepository.getTopVideos(sort, categoryId, null, 10));
+                VideoCursor cursor = VideoCursor.of(firstPage.get(firstPage.size() - 1), sort);
+                assertIndexOrdered(jdbcTemplate, () -> videoRepository.getTopVideos(sort, categoryId, cursor, 10));
+            }
+        }
+
+        @Test
+        @DisplayName("[성공] 커서 조회와 피드 조회는 인덱스를 사용한다")
+        void findFeed_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> videoRepository.findCursor(video.getId(), VideoSort.HITS));
+            assertIndexOrdered(jdbcTemplate, () -> videoRepository.findFeed(VideoCursor.ofId(video.getId() + 1), 10));
+        }
+
+        @Test
+        @DisplayName("[성공] 회원의 영상과 좋아요한 영상 조회는 인덱스를 사용한다")
+        void findAllByMember_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> videoRepository.findAllByMemberAndMaxVideoId(seller.getId(), null, 10));
+            assertNoFullScan(jdbcTemplate, () -> videoRepository.findAllLikeVideoByMemberAndMaxVideoId(buyer, null, 10));
+        }
+
+        @Test
+        @DisplayName("[성공] 영상 상세와 회원별 관리자 목록 조회는 인덱스를 사용한다")
+        void findReadyVideoResponse_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> videoRepository.findReadyVideoResponse(video.getId()));
+            assertNoFullScan(jdbcTemplate, () -> videoRepository.getAllVideos(PageRequest.of(0, 10), seller.getId(),
+                () -> videoRepository.countVideos(seller.getId())).getContent());
+        }
+    }
+
+    @Nested
+    @DisplayName("회원, 팔로우 조회 쿼리")
+    class MemberQueryPlanTest {
+
+        @Test
+        @DisplayName("[성공] 회원 키워드 검색과 회원 정보 조회는 인덱스를 사용한다")
+        void findAllMembersByKeyword_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> memberRepository.findAllMembersByKeyword("seller", PageRequest.of(0, 10)).getTotalElements());
+            assertNoFullScan(jdbcTemplate, () -> memberRepository.findMemberInfo(seller.getId()));
+        }
+
+        @Test
+        @DisplayName("[성공] 팔로워, 팔로잉 목록 조회는 인덱스를 사용한다")
+        void getFollowers_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> followRepository.getFollowersByMemberId(seller.getId()));
+            assertNoFullScan(jdbcTemplate, () -> followRepository.getFollowingsByMemberId(buyer.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("채팅 조회 쿼리")
+    class ChatQueryPlanTest {
+
+        @Test
+        @DisplayName("[성공] 내 채팅방 목록과 채팅방 조회는 인덱스를 사용한다")
+        void findMyRooms_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> chatRoomRepository.findMyRooms(buyer, PageRequest.of(0, 10)).getTotalElements());
+            assertNoFullScan(jdbcTemplate, () -> chatRoomRepository.findExactlyMatchRoom(buyer, seller));
+            assertNoFullScan(jdbcTemplate, () -> chatRoomRepository.findMembersById(chatRoom.getId()));
+        }
+
+        @Test
+        @DisplayName("[성공] 채팅 메시지 조회는 인덱스를 사용한다")
+        void searchLastMessages_indexed() {
+            assertNoFullScan(jdbcTemplate, () -> chatMessageRepository.searchLastMessages(null, chatRoom.getId(), PageRequest.of(0, 20)));
+        }
+    }
+}
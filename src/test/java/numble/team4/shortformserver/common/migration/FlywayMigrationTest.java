@@ -0,0 +1,60 @@
+package numble.team4.shortformserver.common.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class FlywayMigrationTest {
+
+    @Test
+    @DisplayName("[성공] 빈 데이터베이스에 모든 마이그레이션이 순서대로 적용된다")
+    void migrate_emptyDatabase_success() {
+        //given
+        Flyway flyway = Flyway.configure()
+            .dataSource("jdbc:h2:mem:migration;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "")
+            .locations("classpath:db/migration")
+            .load();
+
+        //when
+        MigrateResult result = flyway.migrate();
+
+        //then
+        assertThat(result.success).isTrue();
+        assertThat(result.migrationsExecuted).isEqualTo(9);
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("[성공] 중복 좋아요를 지운 뒤 영상의 좋아요 수와 카운터 슬롯을 like_video 기준으로 다시 계산한다")
+    void migrate_duplicatedLikes_recountLikeCounts() {
+        //given
+        Flyway beforeDedup = Flyway.configure()
+            .dataSource("jdbc:h2:mem:migration-like;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "")
+            .locations("classpath:db/migration")
+            .target("2")
+            .load();
+        beforeDedup.migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(beforeDedup.getConfiguration().getDataSource());
+        jdbcTemplate.update("INSERT INTO member (id, email_verified) VALUES (1, 1)");
+        jdbcTemplate.update("INSERT INTO video (id, like_count, price, thumbnail_url, title, used_status, video_url, member_id) "
+            + "VALUES (1, 2, 1000, 'thumbnail', 'title', 1, 'video', 1)");
+        jdbcTemplate.update("INSERT INTO like_video (member_id, video_id) VALUES (1, 1), (1, 1)");
+        jdbcTemplate.update("INSERT INTO video_like_counter (video_id, slot, like_count) VALUES (1, 0, 1), (1, 3, 1)");
+
+        //when
+        Flyway.configure()
+            .dataSource("jdbc:h2:mem:migration-like;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "")
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+
+        //then
+        assertThat(jdbcTemplate.queryForObject("SELECT like_count FROM video WHERE id = 1", Long.class)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(like_count) FROM video_like_counter WHERE video_id = 1", Long.class))
+            .isEqualTo(1L);
+    }
+}
@@ -86,4 +86,17 @@ class FollowRepositoryTest {
         //then
         assertThat(followRepository.findAll()).hasSize(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[성공] 이미 팔로우 중이면 다시 저장하지 않고 false 를 반환한다")
+    void insertIfAbsent_duplicate_false() {
+        //when
+        boolean first = followRepository.insertIfAbsent(fromUser.getId(), toUser.getId());
+        boolean second = followRepository.insertIfAbsent(fromUser.getId(), toUser.getId());
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(followRepository.count()).isEqualTo(1);
+    }
+}
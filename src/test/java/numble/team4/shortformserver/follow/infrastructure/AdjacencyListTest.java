@@ -0,0 +1,62 @@
+package numble.team4.shortformserver.follow.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdjacencyListTest {
+
+    @Test
+    @DisplayName("[성공] 적재한 id 는 중복 없이 오름차순으로 정렬된다")
+    void of_sortedDistinct_success() {
+        //when
+        AdjacencyList list = AdjacencyList.of(new long[]{5L, 1L, 3L, 5L, 0L}, 4);
+
+        //then
+        assertThat(list.after(0L, 10)).containsExactly(1L, 3L, 5L);
+        assertThat(list.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("[성공] 추가, 삭제한 id 가 커서 페이지에 반영된다")
+    void after_withDelta_success() {
+        //given
+        AdjacencyList list = AdjacencyList.of(new long[]{2L, 4L, 6L, 8L}, 4);
+
+        //when
+        AdjacencyList changed = list.add(5L).remove(4L).add(9L).remove(9L).add(4L).remove(6L);
+
+        //then
+        assertThat(changed.after(0L, 10)).containsExactly(2L, 4L, 5L, 8L);
+        assertThat(changed.after(4L, 2)).containsExactly(5L, 8L);
+        assertThat(changed.contains(6L)).isFalse();
+        assertThat(list.after(0L, 10)).containsExactly(2L, 4L, 6L, 8L);
+    }
+
+    @Test
+    @DisplayName("[성공] 변경분이 많이 쌓이면 합쳐도 순서와 내용이 유지된다")
+    void add_compact_success() {
+        //given
+        AdjacencyList list = AdjacencyList.EMPTY;
+
+        //when
+        for (long id = 1000L; id > 0L; id--) {
+            list = list.add(id);
+        }
+        for (long id = 2L; id <= 1000L; id += 2) {
+            list = list.remove(id);
+        }
+
+        //then
+        List<Long> odd = LongStream.rangeClosed(1L, 1000L)
+            .filter(id -> id % 2 == 1)
+            .boxed()
+            .collect(Collectors.toList());
+        assertThat(list.after(0L, 1000)).isEqualTo(odd);
+        assertThat(list.size()).isEqualTo(500);
+    }
+}
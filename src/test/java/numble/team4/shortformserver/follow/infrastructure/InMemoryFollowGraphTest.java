@@ -0,0 +1,95 @@
+package numble.team4.shortformserver.follow.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import numble.team4.shortformserver.follow.domain.FollowEdge;
+import numble.team4.shortformserver.follow.domain.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryFollowGraphTest {
+
+    @Mock
+    private FollowRepository followRepository;
+
+    private InMemoryFollowGraph followGraph;
+
+    @BeforeEach
+    void init() {
+        followGraph = new InMemoryFollowGraph(followRepository, 2);
+        given(followRepository.findEdgesAfter(eq(0L), any(Pageable.class)))
+            .willReturn(List.of(edge(1L, 1L, 2L), edge(2L, 2L, 1L)));
+        given(followRepository.findEdgesAfter(eq(2L), any(Pageable.class)))
+            .willReturn(List.of(edge(3L, 1L, 3L), edge(4L, 3L, 4L)));
+        given(followRepository.findEdgesAfter(eq(4L), any(Pageable.class)))
+            .willReturn(List.of(edge(5L, 2L, 4L)));
+        followGraph.reload();
+    }
+
+    private FollowEdge edge(Long id, Long fromMemberId, Long toMemberId) {
+        return new FollowEdge() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getFromMemberId() {
+                return fromMemberId;
+            }
+
+            @Override
+            public Long getToMemberId() {
+                return toMemberId;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("[성공] 적재한 팔로우 관계를 DB 조회 없이 커서 페이지로 반환한다")
+    void getFollowingIds_cursorPage_success() {
+        //when
+        List<Long> first = followGraph.getFollowingIds(1L, null, 1);
+        List<Long> next = followGraph.getFollowingIds(1L, first.get(0), 1);
+
+        //then
+        assertThat(first).containsExactly(2L);
+        assertThat(next).containsExactly(3L);
+        assertThat(followGraph.getFollowerIds(4L, null, 10)).containsExactly(2L, 3L);
+        verify(followRepository, never()).findFollowingIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("[성공] 맞팔로우 여부와 내가 팔로우하는 사람 중 팔로워를 계산한다")
+    void isMutual_knownFollowers_success() {
+        //when, then
+        assertThat(followGraph.isMutual(1L, 2L)).isTrue();
+        assertThat(followGraph.isMutual(1L, 3L)).isFalse();
+        assertThat(followGraph.getKnownFollowerIds(1L, 4L, 10)).containsExactly(2L, 3L);
+        assertThat(followGraph.countKnownFollowers(1L, 4L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("[성공] 팔로우, 언팔로우가 그래프에 바로 반영된다")
+    void follow_unfollow_applied() {
+        //when
+        followGraph.follow(4L, 1L);
+        followGraph.unfollow(2L, 1L);
+
+        //then
+        assertThat(followGraph.getFollowerIds(1L, null, 10)).containsExactly(4L);
+        assertThat(followGraph.isMutual(1L, 2L)).isFalse();
+    }
+}
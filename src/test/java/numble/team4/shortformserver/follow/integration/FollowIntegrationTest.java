@@ -1,5 +1,6 @@
 package numble.team4.shortformserver.follow.integration;
 
+import numble.team4.shortformserver.common.exception.TooManyIdsException;
 import numble.team4.shortformserver.follow.domain.Follow;
 import numble.team4.shortformserver.follow.domain.FollowRepository;
 import numble.team4.shortformserver.follow.exception.AlreadyExistFollowException;
@@ -8,8 +9,10 @@ import numble.team4.shortformserver.follow.exception.NotFollowingException;
 import numble.team4.shortformserver.follow.exception.NotSelfFollowableException;
 import numble.team4.shortformserver.follow.ui.FollowController;
 import numble.team4.shortformserver.follow.ui.dto.FollowExistResponse;
+import numble.team4.shortformserver.follow.ui.dto.FollowStateResponse;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
+import numble.team4.shortformserver.member.member.domain.MemberStatsRepository;
 import numble.team4.shortformserver.member.member.domain.Role;
 import numble.team4.shortformserver.member.member.exception.NotExistMemberException;
 import numble.team4.shortformserver.testCommon.BaseIntegrationTest;
@@ -21,6 +24,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import javax.persistence.EntityManager;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.from;
@@ -38,6 +44,9 @@ public class FollowIntegrationTest {
     @Autowired
     private FollowRepository followRepository;
 
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -86,6 +95,41 @@ public class FollowIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("여러 사용자 팔로우 여부 일괄 확인 테스트")
+    class GetFollowStatesTest {
+
+        @Test
+        @DisplayName("[성공] 요청한 사용자마다 팔로우 여부를 순서대로 반환한다")
+        void getFollowStates_eachMember_success() {
+            //given
+            Follow follow = followRepository.save(Follow.fromMembers(fromMember, toMember));
+            Long notFollowingId = 2309489023L;
+
+            //when
+            List<FollowStateResponse> states = followController
+                    .getFollowStates(fromMember, List.of(toMember.getId(), notFollowingId, toMember.getId()))
+                    .getData();
+
+            //then
+            assertThat(states).hasSize(2);
+            assertTrue(states.get(0).isExistFollow());
+            assertThat(states.get(0).getFollowId()).isEqualTo(follow.getId());
+            assertThat(states.get(1).getToMemberId()).isEqualTo(notFollowingId);
+            assertFalse(states.get(1).isExistFollow());
+        }
+
+        @Test
+        @DisplayName("[실패] 한 번에 조회할 수 있는 개수를 넘기면 예외가 발생한다")
+        void getFollowStates_tooManyIdsException_fail() {
+            //given
+            List<Long> ids = LongStream.rangeClosed(1, 101).boxed().collect(Collectors.toList());
+
+            //when, then
+            assertThrows(TooManyIdsException.class, () -> followController.getFollowStates(fromMember, ids));
+        }
+    }
+
     @Nested
     @DisplayName("팔로우 생성 테스트")
     class SaveFollowTest {
@@ -100,6 +144,20 @@ public class FollowIntegrationTest {
             assertThat(followRepository.count()).isEqualTo(1L);
         }
 
+        @Test
+        @DisplayName("[성공] 팔로우하면 팔로잉 수와 팔로워 수가 함께 늘어난다")
+        void createFollow_increaseMemberStats_success() {
+            //when
+            followController.createFollow(fromMember, toMember.getId());
+            entityManager.clear();
+
+            //then
+            assertThat(memberStatsRepository.findById(fromMember.getId()))
+                    .hasValueSatisfying(stats -> assertThat(stats.getFollowingCount()).isEqualTo(1L));
+            assertThat(memberStatsRepository.findById(toMember.getId()))
+                    .hasValueSatisfying(stats -> assertThat(stats.getFollowerCount()).isEqualTo(1L));
+        }
+
         @Test
         @DisplayName("[실패] 본인을 팔로우하도록 요청")
         void createFollow_notSelfFollowableException_fail() {
@@ -142,6 +200,25 @@ public class FollowIntegrationTest {
             assertThat(followRepository.count()).isEqualTo(0);
         }
 
+        @Test
+        @DisplayName("[성공] 팔로우를 취소하면 팔로잉 수와 팔로워 수가 함께 줄어든다")
+        void deleteFollow_decreaseMemberStats_success() {
+            //given
+            followController.createFollow(fromMember, toMember.getId());
+            Long followId = followRepository.findIdByFromMemberIdAndToMemberId(fromMember, toMember.getId())
+                    .orElseThrow();
+
+            //when
+            followController.deleteFollow(fromMember, followId);
+            entityManager.clear();
+
+            //then
+            assertThat(memberStatsRepository.findById(fromMember.getId()))
+                    .hasValueSatisfying(stats -> assertThat(stats.getFollowingCount()).isZero());
+            assertThat(memberStatsRepository.findById(toMember.getId()))
+                    .hasValueSatisfying(stats -> assertThat(stats.getFollowerCount()).isZero());
+        }
+
         @Test
         @DisplayName("[실패] 존재하지 않는 팔로우에 대해 취소 요청")
         void deleteFollow_notExistMemberException_fail() {
@@ -0,0 +1,154 @@
+package numble.team4.shortformserver.likevideo.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import numble.team4.shortformserver.likevideo.domain.LikeVideo;
+import numble.team4.shortformserver.likevideo.domain.LikeVideoRepository;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.MemberRepository;
+import numble.team4.shortformserver.member.member.domain.Role;
+import numble.team4.shortformserver.video.category.domain.Category;
+import numble.team4.shortformserver.video.category.domain.CategoryRepository;
+import numble.team4.shortformserver.video.category.exception.NotFoundCategoryException;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+// 기본으로 2000명이 동시에 좋아요를 누르고, 더 큰 규모는 -Dlikevideo.load-test.likers=10000 처럼 늘려 돌린다
+@SpringBootTest(properties = "likevideo.counter.reconcile-chunk-size=1")
+@ActiveProfiles("local")
+class LikeCounterConcurrencyTest {
+
+    private static final int LIKE_COUNT = Integer.getInteger("likevideo.load-test.likers", 2000);
+
+    @Autowired
+    private LikeVideoService likeVideoService;
+
+    @Autowired
+    private LikeCounter likeCounter;
+
+    @Autowired
+    private LikeVideoRepository likeVideoRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Member member;
+    private List<Member> likers;
+    private Video video;
+
+    @BeforeEach
+    void init() {
+        Category category = categoryRepository.findByName("기타")
+            .orElseThrow(NotFoundCategoryException::new);
+
+        member = memberRepository.save(Member.builder()
+            .role(Role.MEMBER)
+            .emailVerified(true)
+            .build());
+
+        video = videoRepository.save(Video.builder()
+            .member(member)
+            .videoUrl("http://videourl.com")
+            .thumbnailUrl("http://url.com")
+            .title("title")
+            .description("description")
+            .price(100000)
+            .usedStatus(true)
+            .category(category)
+            .likeCount(0L)
+            .viewCount(0L)
+            .build());
+
+        likers = memberRepository.saveAll(IntStream.range(0, LIKE_COUNT)
+            .mapToObj(i -> Member.builder()
+                .role(Role.MEMBER)
+                .emailVerified(true)
+                .build())
+            .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    void clear() {
+        List<LikeVideo> likes = likeVideoRepository.findAll().stream()
+            .filter(likeVideo -> likeVideo.getVideo().getId().equals(video.getId()))
+            .collect(Collectors.toList());
+        likeVideoRepository.deleteAllInBatch(likes);
+        likeCounter.remove(video.getId());
+        videoRepository.deleteById(video.getId());
+        memberRepository.deleteAllInBatch(likers);
+        memberRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("[성공] 동시에 좋아요를 등록해도 좋아요 수가 정확히 집계된다")
+    void saveLikeVideo_concurrently_success() throws InterruptedException {
+        //given
+        Long videoId = video.getId();
+
+        //when
+        likeConcurrently(videoId);
+        long shardedCount = likeCounter.getCount(videoId);
+        likeCounter.compact();
+
+        //then
+        assertThat(shardedCount).isEqualTo(LIKE_COUNT);
+        assertThat(likeCounter.getCount(videoId)).isEqualTo(LIKE_COUNT);
+        assertThat(videoRepository.findById(videoId).orElseThrow().getLikeCount())
+            .isEqualTo(LIKE_COUNT);
+    }
+
+    @Test
+    @DisplayName("[성공] 영상 id 구간별로 나눠 재계산해도 좋아요 수가 like_video 와 같아진다")
+    void reconcile_inChunks_success() throws InterruptedException {
+        //given
+        Long videoId = video.getId();
+        likeConcurrently(videoId);
+        long shardedCount = likeCounter.getCount(videoId);
+
+        //when
+        likeCounter.reconcile();
+
+        //then
+        assertThat(shardedCount).isEqualTo(LIKE_COUNT);
+        assertThat(likeCounter.getCount(videoId)).isEqualTo(LIKE_COUNT);
+        assertThat(videoRepository.findById(videoId).orElseThrow().getLikeCount())
+            .isEqualTo(LIKE_COUNT);
+    }
+
+    private void likeConcurrently(Long videoId) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(LIKE_COUNT);
+        for (Member liker : likers) {
+            executorService.execute(() -> {
+                try {
+                    likeVideoService.saveLikeVideo(liker, videoId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        boolean completed = latch.await(120, TimeUnit.SECONDS);
+        executorService.shutdown();
+        assertThat(completed).isTrue();
+    }
+}
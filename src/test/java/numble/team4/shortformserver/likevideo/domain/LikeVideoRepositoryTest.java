@@ -84,4 +84,17 @@ class LikeVideoRepositoryTest {
         List<LikeVideo> list = likeVideoRepository.findAll();
         assertThat(list).hasSize(0);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[성공] 이미 좋아요한 영상은 다시 저장하지 않고 false 를 반환한다")
+    void insertIfAbsent_duplicate_false() {
+        //when
+        boolean first = likeVideoRepository.insertIfAbsent(member.getId(), video.getId());
+        boolean second = likeVideoRepository.insertIfAbsent(member.getId(), video.getId());
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(likeVideoRepository.count()).isEqualTo(1);
+    }
+}
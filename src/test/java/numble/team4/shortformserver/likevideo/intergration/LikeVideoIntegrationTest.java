@@ -3,6 +3,7 @@ package numble.team4.shortformserver.likevideo.intergration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import javax.persistence.EntityManager;
 import numble.team4.shortformserver.common.dto.CommonResponse;
 import numble.team4.shortformserver.likevideo.domain.LikeVideo;
@@ -12,6 +13,7 @@ import numble.team4.shortformserver.likevideo.exception.NotExistLikeVideoExcepti
 import numble.team4.shortformserver.likevideo.exception.NotMemberOfLikeVideoException;
 import numble.team4.shortformserver.likevideo.ui.LikeVideoController;
 import numble.team4.shortformserver.likevideo.ui.dto.LikeVideoExistResponse;
+import numble.team4.shortformserver.likevideo.ui.dto.LikeVideoStateResponse;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.Role;
 import numble.team4.shortformserver.testCommon.BaseIntegrationTest;
@@ -102,6 +104,31 @@ public class LikeVideoIntegrationTest {
 
     }
 
+    @Nested
+    @DisplayName("여러 동영상 좋아요 등록 여부 일괄 확인 테스트")
+    class GetLikeVideoStatesTest {
+
+        @Test
+        @DisplayName("[성공] 요청한 동영상마다 좋아요 여부를 순서대로 반환한다")
+        void getLikeVideoStates_eachVideo_success() {
+            //given
+            LikeVideo likeVideo = likeVideoRepository.save(LikeVideo.fromMemberAndVideo(member, video));
+            Long notLikedId = 19823012L;
+
+            //when
+            List<LikeVideoStateResponse> states = likeVideoController
+                    .getLikeVideoStates(member, List.of(video.getId(), notLikedId))
+                    .getData();
+
+            //then
+            assertThat(states).hasSize(2);
+            assertThat(states.get(0).isExistLikeVideo()).isTrue();
+            assertThat(states.get(0).getLikesId()).isEqualTo(likeVideo.getId());
+            assertThat(states.get(1).getVideoId()).isEqualTo(notLikedId);
+            assertThat(states.get(1).isExistLikeVideo()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("동영상 좋아요 등록 테스트")
     class SaveLikeVideoTest {
@@ -1,8 +1,8 @@
 package numble.team4.shortformserver.member.auth.application;
 
+import numble.team4.shortformserver.member.auth.application.dto.MemberPrincipal;
 import numble.team4.shortformserver.member.auth.exception.EmailEmptyException;
 import numble.team4.shortformserver.member.member.domain.Member;
-import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +18,7 @@ import java.util.Optional;
 import static numble.team4.shortformserver.member.auth.domain.OauthProvider.KAKAO;
 import static numble.team4.shortformserver.member.member.domain.Role.MEMBER;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CustomUserDetailServiceTest {
@@ -26,17 +27,21 @@ class CustomUserDetailServiceTest {
     private CustomUserDetailService userDetailService;
 
     @Mock
-    private MemberRepository memberRepository;
+    private MemberPrincipalCache memberPrincipalCache;
+
+    @Mock
+    private LastLoginRecorder lastLoginRecorder;
 
     @DisplayName("유저 이메일로 해당 유저가 존재하는지 조회한 후 있으면 기존 유저를, 없으면 새로운 유저를 등록해서 반환")
     @Test
     void loadUserByUsernameTest() {
         Member member = new Member(1234L, "numble@numble.com", "numble", MEMBER, KAKAO, true);
         ReflectionTestUtils.setField(member, "id", 1L);
-        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(memberPrincipalCache.get(1L)).willReturn(Optional.of(MemberPrincipal.from(member)));
 
         UserDetails userDetails = userDetailService.loadUserByUsername(String.valueOf(1L));
         Assertions.assertThat(userDetails.getUsername()).isEqualTo("1");
+        verify(lastLoginRecorder).record(1L);
     }
 
     @DisplayName("유저 이메일이 없으면 예외 발생")
@@ -44,7 +49,7 @@ class CustomUserDetailServiceTest {
     void loadUserByUsernameTestFail() {
         Member member = new Member(1234L, null, "numble", MEMBER, KAKAO, false);
         ReflectionTestUtils.setField(member, "id", 1L);
-        given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+        given(memberPrincipalCache.get(1L)).willReturn(Optional.of(MemberPrincipal.from(member)));
         Assertions.assertThatThrownBy(() -> userDetailService.loadUserByUsername(String.valueOf(1L)))
                 .isInstanceOf(EmailEmptyException.class);
     }
@@ -0,0 +1,77 @@
+package numble.team4.shortformserver.member.auth.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import numble.team4.shortformserver.member.member.infrastructure.MemberLoginJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginRecorderTest {
+
+    @Mock
+    private MemberLoginJdbcRepository memberLoginJdbcRepository;
+
+    private LastLoginRecorder lastLoginRecorder;
+
+    @BeforeEach
+    void init() {
+        lastLoginRecorder = new LastLoginRecorder(memberLoginJdbcRepository, 60000, 1000);
+    }
+
+    @Test
+    @DisplayName("[성공] 같은 회원의 로그인은 기간 내에 한 번만 반영된다")
+    void record_coalescedWithinWindow_success() {
+        //given
+        lastLoginRecorder.record(1L);
+        lastLoginRecorder.record(1L);
+        lastLoginRecorder.record(2L);
+
+        //when
+        lastLoginRecorder.flush();
+        lastLoginRecorder.record(1L);
+        lastLoginRecorder.flush();
+
+        //then
+        ArgumentCaptor<Map<Long, LocalDateTime>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(memberLoginJdbcRepository, times(1)).updateLastLoginDates(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("[성공] 반영할 로그인이 없으면 쿼리를 실행하지 않는다")
+    void flush_empty_success() {
+        //when
+        lastLoginRecorder.flush();
+
+        //then
+        verify(memberLoginJdbcRepository, never()).updateLastLoginDates(anyMap());
+    }
+
+    @Test
+    @DisplayName("[성공] 반영에 실패하면 다음 주기에 다시 반영한다")
+    void flush_failure_retried() {
+        //given
+        lastLoginRecorder.record(1L);
+        willThrow(new RuntimeException()).given(memberLoginJdbcRepository).updateLastLoginDates(anyMap());
+        lastLoginRecorder.flush();
+
+        //when
+        lastLoginRecorder.flush();
+
+        //then
+        verify(memberLoginJdbcRepository, times(2)).updateLastLoginDates(anyMap());
+    }
+}
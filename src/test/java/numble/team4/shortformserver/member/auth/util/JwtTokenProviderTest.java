@@ -1,23 +1,21 @@
 package numble.team4.shortformserver.member.auth.util;
 
 import numble.team4.shortformserver.member.auth.application.CustomUserDetailService;
+import numble.team4.shortformserver.member.auth.domain.MemberAdapter;
 import numble.team4.shortformserver.member.auth.util.dto.JwtTokenDto;
 import numble.team4.shortformserver.member.member.domain.Member;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Collections;
-import java.util.Set;
-
 import static numble.team4.shortformserver.member.auth.domain.OauthProvider.KAKAO;
 import static numble.team4.shortformserver.member.member.domain.Role.MEMBER;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,7 +24,6 @@ import static org.mockito.BDDMockito.given;
 @ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
 
-    @InjectMocks
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
@@ -38,8 +35,7 @@ class JwtTokenProviderTest {
     void init() {
         member = new Member(1234L, "numble@numble.com", "numble", MEMBER, KAKAO, true);
         ReflectionTestUtils.setField(member, "id", 1L);
-        ReflectionTestUtils.setField(jwtTokenProvider, "SECRET_KEY", "test");
-        ReflectionTestUtils.setField(jwtTokenProvider, "REFRESH_KEY", "test123");
+        jwtTokenProvider = new JwtTokenProvider(customUserDetailService, "test", "test123", 100);
     }
 
     @DisplayName("토큰 생성 및 토큰으로부터 유저 아이디 추출 테스트")
@@ -58,6 +54,19 @@ class JwtTokenProviderTest {
         assertThat(jwtTokenProvider.validateTokenRefreshToken(tokens.getRefreshToken())).isTrue();
     }
 
+    @DisplayName("검증된 토큰을 재사용해도 다른 키로 서명된 토큰은 거부하는 기능 테스트")
+    @Test
+    void validateCachedTokenTest() {
+        JwtTokenProvider otherProvider = new JwtTokenProvider(customUserDetailService, "other", "other123", 100);
+        String accessToken = jwtTokenProvider.createTokens(member).getAccessToken();
+        String forgedToken = otherProvider.createTokens(member).getAccessToken();
+
+        assertThat(jwtTokenProvider.validateTokenSecretToken(accessToken)).isTrue();
+        assertThat(jwtTokenProvider.validateTokenSecretToken(accessToken)).isTrue();
+        assertThat(jwtTokenProvider.validateTokenSecretToken(forgedToken)).isFalse();
+        assertThat(jwtTokenProvider.validateTokenSecretToken(accessToken + "x")).isFalse();
+    }
+
     @DisplayName("request로부터 토큰 추출 테스트")
     @Test
     void extractTokenTest() {
@@ -70,11 +79,12 @@ class JwtTokenProviderTest {
     @DisplayName("토큰으로부터 유저의 권한을 추출하는 기능 테스트")
     @Test
     void getAuthenticationTest() {
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("회원"));
-        given(customUserDetailService.loadUserByUsername("1"))
-                .willReturn(new User("numble@numble.com", "", authorities));
+        given(customUserDetailService.loadUserByToken(1L, true))
+                .willReturn(new MemberAdapter(member));
         String accessToken = jwtTokenProvider.createTokens(member).getAccessToken();
-        User user = (User) jwtTokenProvider.getAuthentication(accessToken).getPrincipal();
-        assertThat(user.getUsername()).isEqualTo("numble@numble.com");
+        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
+        assertThat(((User) authentication.getPrincipal()).getUsername()).isEqualTo("1");
+        assertThat(authentication.getAuthorities())
+                .containsExactly(new SimpleGrantedAuthority(MEMBER.getSecurityRole()));
     }
 }
\ No newline at end of file
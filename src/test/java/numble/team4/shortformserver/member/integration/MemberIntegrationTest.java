@@ -1,21 +1,28 @@
 package numble.team4.shortformserver.member.integration;
 
 import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
+import numble.team4.shortformserver.common.dto.PageInfo;
+import numble.team4.shortformserver.follow.application.FollowService;
 import numble.team4.shortformserver.likevideo.domain.LikeVideo;
 import numble.team4.shortformserver.likevideo.domain.LikeVideoRepository;
+import numble.team4.shortformserver.member.member.application.MemberSearchIndexService;
+import numble.team4.shortformserver.member.member.application.MemberStatsCounter;
 import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponseForAdmin;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import numble.team4.shortformserver.member.member.domain.Role;
 import numble.team4.shortformserver.member.member.exception.NotExistMemberException;
+import numble.team4.shortformserver.member.member.infrastructure.MemberLoginJdbcRepository;
 import numble.team4.shortformserver.member.member.ui.MemberController;
 import numble.team4.shortformserver.member.member.ui.dto.AllMemberInfoRequest;
 import numble.team4.shortformserver.member.member.ui.dto.MemberEmailRequest;
 import numble.team4.shortformserver.member.member.application.dto.MemberInfoResponse;
 import numble.team4.shortformserver.member.member.ui.dto.MemberNameUpdateRequest;
 import numble.team4.shortformserver.testCommon.BaseIntegrationTest;
+import numble.team4.shortformserver.testCommon.QueryCounter;
 import numble.team4.shortformserver.video.domain.Video;
 import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoStatus;
 import numble.team4.shortformserver.video.dto.VideosResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,7 +36,9 @@ import org.springframework.mock.web.MockMultipartFile;
 import javax.persistence.EntityManager;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static numble.team4.shortformserver.member.auth.domain.OauthProvider.KAKAO;
@@ -59,6 +68,18 @@ public class MemberIntegrationTest {
     @Autowired
     AmazonS3Uploader uploader;
 
+    @Autowired
+    MemberStatsCounter memberStatsCounter;
+
+    @Autowired
+    MemberLoginJdbcRepository memberLoginJdbcRepository;
+
+    @Autowired
+    MemberSearchIndexService memberSearchIndexService;
+
+    @Autowired
+    FollowService followService;
+
     private Member member;
 
     @BeforeEach
@@ -177,6 +198,35 @@ public class MemberIntegrationTest {
         assertThat(res.getVideos()).isNotNull();
     }
 
+    @Test
+    @DisplayName("[성공] 사용자 정보 조회 - 재계산된 통계를 한 번의 쿼리로 가져온다")
+    void getMemberInfo_reconciledStats_singleQuery() {
+        //given
+        for (VideoStatus status : List.of(VideoStatus.PENDING, VideoStatus.FAILED)) {
+            videoRepository.save(Video.builder()
+                    .member(member)
+                    .videoUrl("http://videourl.com")
+                    .thumbnailUrl("http://url.com")
+                    .title("title")
+                    .price(5000)
+                    .usedStatus(true)
+                    .status(status)
+                    .build());
+        }
+        memberStatsCounter.reconcile();
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        MemberInfoResponse res = QueryCounter.assertQueryCount(1,
+                () -> memberController.findMemberInfo(member.getId()).getData());
+
+        //then
+        assertThat(res.getVideos()).isEqualTo(20L);
+        assertThat(res.getFollowers()).isZero();
+        assertThat(res.getFollowings()).isZero();
+    }
+
 
     @Test
     @DisplayName("[성공] 사용자 프로필 이미지 등록")
@@ -194,7 +244,30 @@ public class MemberIntegrationTest {
         Member byId = memberRepository.getById(member.getId());
         assertThat(byId.getProfileImageUrl()).isNotNull();
 
-        uploader.deleteToS3(member.getProfileImageUrl());
+        uploader.deleteToS3(byId.getProfileImageUrl());
+    }
+
+    @Test
+    @DisplayName("[성공] 프로필 이미지를 등록해도 그 사이 기록된 마지막 로그인 시간을 덮어쓰지 않는다")
+    void saveProfileImage_staleLoginMember_keepLastLoginDate() throws IOException {
+        //given
+        LocalDateTime loginDate = LocalDateTime.of(2022, 6, 1, 12, 0);
+        entityManager.flush();
+        memberLoginJdbcRepository.updateLastLoginDates(Map.of(member.getId(), loginDate));
+        entityManager.clear();
+        MockMultipartFile file = new MockMultipartFile("testImage",
+                new FileInputStream("src/test/resources/spring.png"));
+
+        //when
+        memberController.updateProfileImage(member, file);
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        Member byId = memberRepository.getById(member.getId());
+        assertThat(byId.getLastLoginDate()).isEqualTo(loginDate);
+
+        uploader.deleteToS3(byId.getProfileImageUrl());
     }
 
     @Test
@@ -256,6 +329,124 @@ public class MemberIntegrationTest {
         assertThat(res).hasSize(21);
     }
 
+    @Test
+    @DisplayName("[성공] 어드민 페이지 사용자 정보 조회 - 페이지가 가득 차도 전체 개수를 정확히 센다")
+    void getAllMemberInfo_fullPage_totalElements() {
+        //when
+        PageInfo pageInfo = memberController.findAllMember(
+                new AllMemberInfoRequest("numble"),
+                PageRequest.of(0, 5)).getPageInfo();
+
+        //then
+        assertThat(pageInfo.getNumberOfElements()).isEqualTo(5);
+        assertThat(pageInfo.getTotalElements()).isEqualTo(20);
+        assertThat(pageInfo.getTotalPages()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("[성공] 어드민 페이지 사용자 정보 조회 - 이름이나 이메일의 일부로 검색한다")
+    void getAllMemberInfo_partialKeyword() {
+        //when
+        List<MemberInfoResponseForAdmin> res = memberController.findAllMember(
+                new AllMemberInfoRequest("mble1"),
+                PageRequest.of(0, 30)).getData();
+
+        //then
+        assertThat(res).hasSize(11);
+    }
+
+    @Test
+    @DisplayName("[성공] 어드민 페이지 사용자 정보 조회 - 변경된 닉네임으로 검색한다")
+    void getAllMemberInfo_updatedName() {
+        //given
+        entityManager.flush();
+        entityManager.clear();
+        memberController.updateUserName(member, new MemberNameUpdateRequest("kebin"));
+        entityManager.flush();
+
+        //when
+        List<MemberInfoResponseForAdmin> res = memberController.findAllMember(
+                new AllMemberInfoRequest("kebin"),
+                PageRequest.of(0, 30)).getData();
+
+        //then
+        assertThat(res).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 어드민 페이지 사용자 정보 조회 - 이메일 도메인으로 검색한다")
+    void getAllMemberInfo_emailDomain() {
+        //given
+        memberRepository.save(Member.builder()
+                .name("kebin").email("kebin@gmail.com").role(MEMBER).emailVerified(true)
+                .build());
+        entityManager.flush();
+
+        //when
+        List<MemberInfoResponseForAdmin> numble = memberController.findAllMember(
+                new AllMemberInfoRequest("numble.com"),
+                PageRequest.of(0, 30)).getData();
+        List<MemberInfoResponseForAdmin> gmail = memberController.findAllMember(
+                new AllMemberInfoRequest("gmail"),
+                PageRequest.of(0, 30)).getData();
+
+        //then
+        assertThat(numble).hasSize(20);
+        assertThat(gmail).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("[성공] 회원 검색 색인에는 이메일 도메인의 2-gram 을 넣지 않는다")
+    void indexSearchTokens_withoutEmailDomain() {
+        //when
+        Member found = memberRepository.findByEmail("numble1@numble.com").orElseThrow();
+
+        //then
+        assertThat(found.getSearchTokens()).doesNotContain(".c", "co", "om");
+    }
+
+    @Test
+    @DisplayName("[성공] 검색 색인이 없는 회원은 시작할 때 색인을 채워 검색된다")
+    void backfill_unindexedMembers_searchable() {
+        //given
+        entityManager.flush();
+        entityManager.createNativeQuery("DELETE FROM member_search_token").executeUpdate();
+        entityManager.clear();
+
+        //when
+        memberSearchIndexService.backfill();
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        List<MemberInfoResponseForAdmin> res = memberController.findAllMember(
+                new AllMemberInfoRequest("mble1"),
+                PageRequest.of(0, 30)).getData();
+        assertThat(res).hasSize(11);
+    }
+
+    @Test
+    @DisplayName("[성공] 회원을 삭제하면 팔로우하던 회원의 팔로워 수와 팔로워의 팔로잉 수가 줄어든다")
+    void deleteMemberById_withFollows_decreaseCounterpartStats() {
+        //given
+        Member follower = memberRepository.findByEmail("numble1@numble.com").orElseThrow();
+        Member deleted = memberRepository.findByEmail("numble2@numble.com").orElseThrow();
+        Member followee = memberRepository.findByEmail("numble3@numble.com").orElseThrow();
+        followService.createFollow(follower, deleted.getId());
+        followService.createFollow(deleted, followee.getId());
+        entityManager.flush();
+
+        //when
+        memberController.deleteMemberById(deleted.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        assertThat(memberController.findMemberInfo(follower.getId()).getData().getFollowings()).isZero();
+        assertThat(memberController.findMemberInfo(followee.getId()).getData().getFollowers()).isZero();
+        assertThat(memberRepository.existsById(deleted.getId())).isFalse();
+    }
+
     @Test
     @DisplayName("[실패] 어드민 페이지에서 사용자 정보 삭제")
     void delteMemberInfo_notException_fail() {
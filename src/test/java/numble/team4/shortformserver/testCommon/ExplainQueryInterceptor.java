@@ -0,0 +1,57 @@
+package numble.team4.shortformserver.testCommon;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+// Connector/J 에 등록되어 기록 중인 스레드가 실행한 SQL 을 바인딩된 값과 함께 모은다
+public class ExplainQueryInterceptor implements QueryInterceptor {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    public static List<String> stop() {
+        List<String> statements = STATEMENTS.get();
+        STATEMENTS.remove();
+        return (statements == null) ? List.of() : statements;
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql.get());
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery, T originalResultSet,
+        ServerSession serverSession) {
+        return null;
+    }
+}
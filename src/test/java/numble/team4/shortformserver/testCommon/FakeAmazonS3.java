@@ -0,0 +1,144 @@
+package numble.team4.shortformserver.testCommon;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.IOUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FakeAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, ObjectMetadata> metadata = new ConcurrentHashMap<>();
+    private final Map<String, InitiateMultipartUploadRequest> uploads = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> parts = new ConcurrentHashMap<>();
+    private final AtomicInteger uploadedPartCount = new AtomicInteger();
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        byte[] bytes = (request.getFile() != null)
+            ? readFile(request.getFile())
+            : readStream(request.getInputStream());
+        store(request.getKey(), bytes, request.getMetadata());
+        return new PutObjectResult();
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, request);
+        parts.put(uploadId, new ConcurrentSkipListMap<>());
+
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        byte[] bytes = (request.getFile() != null)
+            ? readFile(request.getFile(), request.getFileOffset(), request.getPartSize())
+            : readStream(request.getInputStream());
+        parts.get(request.getUploadId()).put(request.getPartNumber(), bytes);
+        uploadedPartCount.incrementAndGet();
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(String.valueOf(request.getPartNumber()));
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> uploadedParts = parts.remove(request.getUploadId());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (PartETag partETag : request.getPartETags()) {
+            outputStream.writeBytes(uploadedParts.get(partETag.getPartNumber()));
+        }
+        InitiateMultipartUploadRequest upload = uploads.remove(request.getUploadId());
+        store(request.getKey(), outputStream.toByteArray(), upload.getObjectMetadata());
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        return result;
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.getUploadId());
+        parts.remove(request.getUploadId());
+    }
+
+    @Override
+    public void deleteObject(String bucketName, String key) {
+        objects.remove(key);
+        metadata.remove(key);
+    }
+
+    public byte[] getObjectBytes(String key) {
+        return objects.get(key);
+    }
+
+    public ObjectMetadata getStoredMetadata(String key) {
+        return metadata.get(key);
+    }
+
+    public int getUploadedPartCount() {
+        return uploadedPartCount.get();
+    }
+
+    private void store(String key, byte[] bytes, ObjectMetadata objectMetadata) {
+        objects.put(key, bytes);
+        metadata.put(key, (objectMetadata == null) ? new ObjectMetadata() : objectMetadata);
+    }
+
+    private byte[] readStream(InputStream inputStream) {
+        try {
+            return IOUtils.toByteArray(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] readFile(File file) {
+        try {
+            return Files.readAllBytes(file.toPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] readFile(File file, long offset, long length) {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            byte[] bytes = new byte[(int) length];
+            randomAccessFile.seek(offset);
+            randomAccessFile.readFully(bytes);
+            return bytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package numble.team4.shortformserver.testCommon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        return sql;
+    }
+
+    public static void clear() {
+        COUNT.set(0);
+    }
+
+    public static int getCount() {
+        return COUNT.get();
+    }
+
+    // Hibernate 가 실행한 쿼리 수가 budget 을 넘으면 실패한다
+    public static <T> T assertQueryCount(int budget, Supplier<T> action) {
+        clear();
+        T result = action.get();
+        assertThat(getCount())
+            .as("실행된 쿼리 수")
+            .isLessThanOrEqualTo(budget);
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package numble.team4.shortformserver.testCommon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class QueryPlanAssert {
+
+    private static final Set<String> FULL_SCANS = Set.of("ALL", "index");
+    private static final Set<String> TABLE_SCANS = Set.of("ALL");
+    private static final List<String> SORTS = List.of("Using filesort", "Using temporary");
+
+    private QueryPlanAssert() {
+    }
+
+    // action 이 실행한 select 문을 EXPLAIN 해서 인덱스를 고르지 않았거나 테이블, 인덱스 전체를 읽는 접근이 있으면 실패한다
+    public static <T> T assertNoFullScan(JdbcTemplate jdbcTemplate, Supplier<T> action) {
+        return explain(jdbcTemplate, action, (sql, plan) -> assertIndexed(sql, plan, FULL_SCANS));
+    }
+
+    // 키셋 페이지처럼 ORDER BY ... LIMIT 로 읽는 쿼리는 인덱스 순서대로 읽다가 LIMIT 에서 멈춰야 하므로
+    // 인덱스를 처음부터 읽는 접근(type=index)은 허용하고, 테이블 풀 스캔이나 정렬, 임시 테이블이 있으면 실패한다
+    public static <T> T assertIndexOrdered(JdbcTemplate jdbcTemplate, Supplier<T> action) {
+        return explain(jdbcTemplate, action, (sql, plan) -> {
+            assertIndexed(sql, plan, TABLE_SCANS);
+            assertNotSorted(sql, plan);
+        });
+    }
+
+    private static <T> T explain(JdbcTemplate jdbcTemplate, Supplier<T> action,
+        BiConsumer<String, List<Map<String, Object>>> assertion) {
+        ExplainQueryInterceptor.start();
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            List<String> statements = ExplainQueryInterceptor.stop();
+            statements.stream()
+                .filter(QueryPlanAssert::isSelect)
+                .forEach(sql -> assertion.accept(sql, jdbcTemplate.queryForList("EXPLAIN " + sql)));
+        }
+        return result;
+    }
+
+    private static void assertIndexed(String sql, List<Map<String, Object>> plan, Set<String> fullScans) {
+        List<String> fullScanTables = plan.stream()
+            .filter(row -> Objects.nonNull(row.get("table")) && !row.get("table").toString().startsWith("<"))
+            .filter(row -> Objects.isNull(row.get("key")) || fullScans.contains(String.valueOf(row.get("type"))))
+            .map(QueryPlanAssert::describe)
+            .collect(Collectors.toList());
+
+        assertThat(fullScanTables)
+            .as("인덱스 없이 풀 스캔하는 테이블\n%s", sql)
+            .isEmpty();
+    }
+
+    private static void assertNotSorted(String sql, List<Map<String, Object>> plan) {
+        List<String> sortedTables = plan.stream()
+            .filter(row -> SORTS.stream().anyMatch(String.valueOf(row.get("Extra"))::contains))
+            .map(QueryPlanAssert::describe)
+            .collect(Collectors.toList());
+
+        assertThat(sortedTables)
+            .as("인덱스 순서로 읽지 못해 정렬하거나 임시 테이블을 만드는 테이블\n%s", sql)
+            .isEmpty();
+    }
+
+    private static String describe(Map<String, Object> row) {
+        return row.get("table") + "(type=" + row.get("type") + ", key=" + row.get("key") + ", extra=" + row.get("Extra") + ")";
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, "select".length());
+    }
+}
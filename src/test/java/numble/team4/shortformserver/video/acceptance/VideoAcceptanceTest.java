@@ -102,10 +102,9 @@ class VideoAcceptanceTest extends BaseAcceptanceTest {
 
         // then
         read.andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.view_count").value(1L))
             .andDo(print());
 
-        assertThat(video.getViewCount()).isEqualTo(1L);
-
         amazonS3Uploader.deleteToS3(video.getVideoUrl());
         amazonS3Uploader.deleteToS3(video.getThumbnailUrl());
     }
@@ -0,0 +1,110 @@
+package numble.team4.shortformserver.video.application;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.function.Consumer;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.dto.VideoFeedFormat;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import numble.team4.shortformserver.video.dto.VideosResponse;
+import numble.team4.shortformserver.video.infrastructure.VideoFeedJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoFeedServiceTest {
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private VideoFeedJdbcRepository videoFeedJdbcRepository;
+
+    private VideoFeedService videoFeedService;
+
+    @BeforeEach
+    void init() {
+        videoFeedService = new VideoFeedService(videoRepository, videoFeedJdbcRepository, new ObjectMapper(), 2, 10);
+    }
+
+    @Test
+    @DisplayName("[성공] 페이지가 가득 차면 마지막 영상으로 다음 커서를 만든다")
+    void getFeed_fullPage_nextCursor() {
+        //given
+        given(videoRepository.findFeed(null, 2))
+            .willReturn(List.of(VideosResponse.of(5L, "url5"), VideosResponse.of(4L, "url4")));
+
+        //when
+        VideoSliceResponse feed = videoFeedService.getFeed(null, null);
+
+        //then
+        assertThat(feed.getVideos()).extracting("id").containsExactly(5L, 4L);
+        assertThat(feed.getNextCursor()).isEqualTo(VideoCursor.ofId(4L).encode());
+    }
+
+    @Test
+    @DisplayName("[성공] 마지막 페이지에는 다음 커서가 없다")
+    void getFeed_lastPage_noCursor() {
+        //given
+        String cursor = VideoCursor.ofId(4L).encode();
+        given(videoRepository.findFeed(VideoCursor.ofId(4L), 10))
+            .willReturn(List.of(VideosResponse.of(3L, "url3")));
+
+        //when
+        VideoSliceResponse feed = videoFeedService.getFeed(cursor, 100);
+
+        //then
+        assertThat(feed.getVideos()).extracting("id").containsExactly(3L);
+        assertThat(feed.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 스트리밍 조회는 영상마다 한 줄씩 NDJSON 으로 쓴다")
+    void streamFeed_ndjson_success() throws Exception {
+        //given
+        willAnswer(invocation -> {
+            Consumer<VideosResponse> consumer = invocation.getArgument(0);
+            consumer.accept(VideosResponse.of(2L, "url2"));
+            consumer.accept(VideosResponse.of(1L, "url1"));
+            return null;
+        }).given(videoFeedJdbcRepository).streamReadyVideos(any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        videoFeedService.streamFeed(outputStream, VideoFeedFormat.NDJSON);
+
+        //then
+        assertThat(outputStream.toString(UTF_8)).isEqualTo(
+            "{\"id\":2,\"thumbnail_url\":\"url2\"}\n{\"id\":1,\"thumbnail_url\":\"url1\"}");
+    }
+
+    @Test
+    @DisplayName("[성공] JSON 형식은 하나의 배열로 쓴다")
+    void streamFeed_jsonArray_success() throws Exception {
+        //given
+        willAnswer(invocation -> {
+            Consumer<VideosResponse> consumer = invocation.getArgument(0);
+            consumer.accept(VideosResponse.of(1L, "url1"));
+            return null;
+        }).given(videoFeedJdbcRepository).streamReadyVideos(any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when
+        videoFeedService.streamFeed(outputStream, VideoFeedFormat.JSON);
+
+        //then
+        assertThat(outputStream.toString(UTF_8)).isEqualTo("[{\"id\":1,\"thumbnail_url\":\"url1\"}]");
+    }
+}
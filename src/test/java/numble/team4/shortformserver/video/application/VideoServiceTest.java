@@ -5,16 +5,29 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
+import numble.team4.shortformserver.aws.dto.S3StagedFile;
 import numble.team4.shortformserver.aws.dto.S3UploadDto;
 import numble.team4.shortformserver.aws.exception.NotExistFileException;
+import numble.team4.shortformserver.common.domain.CountStrategy;
+import numble.team4.shortformserver.likevideo.application.LikeCounter;
+import numble.team4.shortformserver.member.member.application.MemberStatsCounter;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import numble.team4.shortformserver.member.member.domain.Role;
 import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
+import numble.team4.shortformserver.member.member.exception.NotExistMemberException;
 import numble.team4.shortformserver.video.category.domain.Category;
 import numble.team4.shortformserver.video.category.domain.CategoryRepository;
 import numble.team4.shortformserver.video.domain.Video;
@@ -22,15 +35,19 @@ import numble.team4.shortformserver.video.domain.VideoRepository;
 import numble.team4.shortformserver.video.dto.VideoRequest;
 import numble.team4.shortformserver.video.dto.VideoResponse;
 import numble.team4.shortformserver.video.dto.VideoUpdateRequest;
+import numble.team4.shortformserver.video.dto.VideosResponse;
 import numble.team4.shortformserver.video.exception.NotExistVideoException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +65,27 @@ class VideoServiceTest {
     @Mock
     AmazonS3Uploader amazonS3Uploader;
 
+    @Mock
+    ViewCounter viewCounter;
+
+    @Mock
+    LikeCounter likeCounter;
+
+    @Mock
+    VideoUploadPipeline videoUploadPipeline;
+
+    @Mock
+    VideoRanking videoRanking;
+
+    @Mock
+    VideoTotalCount videoTotalCount;
+
+    @Mock
+    MemberStatsCounter memberStatsCounter;
+
+    @Mock
+    MemberVideoCache memberVideoCache;
+
     @InjectMocks
     VideoService videoService;
 
@@ -58,6 +96,8 @@ class VideoServiceTest {
 
     private S3UploadDto videoDto;
     private S3UploadDto thumbnailDto;
+    private S3StagedFile videoFile;
+    private S3StagedFile thumbnailFile;
 
 
     @BeforeEach
@@ -67,6 +107,11 @@ class VideoServiceTest {
         thumbnailDto = new S3UploadDto("test.mov",
             "https://d659rm6fgd091.cloudfront.net/test.mov");
 
+        videoFile = new S3StagedFile(videoDto.getKey(), videoDto.getFileUrl(),
+            Path.of("video.tmp"), "video/quicktime", 0L);
+        thumbnailFile = new S3StagedFile(thumbnailDto.getKey(), thumbnailDto.getFileUrl(),
+            Path.of("thumbnail.tmp"), "image/png", 0L);
+
         MockMultipartFile videos = new MockMultipartFile("test", new byte[]{});
         MockMultipartFile thumbnail = new MockMultipartFile("test", new byte[]{});
 
@@ -104,8 +149,8 @@ class VideoServiceTest {
         void uploadVideo_success() throws Exception {
             // given
             given(categoryRepository.findByName(anyString())).willReturn(Optional.of(category));
-            given(amazonS3Uploader.saveToS3(videoRequest.getVideo(), "video")).willReturn(videoDto);
-            given(amazonS3Uploader.saveToS3(videoRequest.getThumbnail(), "video/thumbnail")).willReturn(thumbnailDto);
+            given(amazonS3Uploader.stage(videoRequest.getVideo(), "video")).willReturn(videoFile);
+            given(amazonS3Uploader.stage(videoRequest.getThumbnail(), "video/thumbnail")).willReturn(thumbnailFile);
             given(videoRepository.save(any(Video.class))).willReturn(video);
 
             // when
@@ -113,6 +158,7 @@ class VideoServiceTest {
 
             // then
             assertThat(VideoResponse.from(video).getId()).isEqualTo(savedVideo.getId());
+            verify(videoUploadPipeline).submitAfterCommit(member.getId(), video.getId(), videoFile, thumbnailFile);
         }
 
         @Test
@@ -120,7 +166,7 @@ class VideoServiceTest {
         void uploadVideo_notExistFile() throws Exception {
             // given
             given(categoryRepository.findByName(anyString())).willReturn(Optional.of(category));
-            given(amazonS3Uploader.saveToS3(videoRequest.getVideo(), "video")).willThrow(
+            given(amazonS3Uploader.stage(videoRequest.getVideo(), "video")).willThrow(
                 NotExistFileException.class);
 
             // then
@@ -146,7 +192,7 @@ class VideoServiceTest {
                 .used_status(true)
                 .build();
 
-            given(videoRepository.findById(video.getId())).willReturn(Optional.of(video));
+            given(videoRepository.findWithMemberById(video.getId())).willReturn(Optional.of(video));
 
             // when
             VideoResponse videoResponse = videoService.updateVideo(videoUpdateRequest, member,
@@ -177,7 +223,7 @@ class VideoServiceTest {
                 .category("기타")
                 .build();
 
-            given(videoRepository.findById(anyLong())).willReturn(Optional.of(video));
+            given(videoRepository.findWithMemberById(anyLong())).willReturn(Optional.of(video));
 
             // when, then
             assertThrows(NoAccessPermissionException.class,
@@ -207,6 +253,8 @@ class VideoServiceTest {
 
             // then
             assertThat(member.getVideos()).isEmpty();
+            verify(memberStatsCounter).decreaseVideoCount(member.getId());
+            verify(memberVideoCache).evict(member.getId());
         }
 
         @Test
@@ -235,5 +283,150 @@ class VideoServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("회원 영상 목록 조회 테스트")
+    class FindAllVideosByMemberTest {
+
+        @Test
+        @DisplayName("회원 영상 목록 조회 - 성공, 첫 페이지는 캐시를 거쳐 회원의 영상만 조회한다")
+        void findAllVideosByMember_firstPage_cached() {
+            // given
+            List<VideosResponse> videos = List.of(VideosResponse.of(video.getId(), video.getThumbnailUrl()));
+            given(memberVideoCache.getFirstPage(eq(member.getId()), any()))
+                .willAnswer(invocation -> invocation.<Supplier<List<VideosResponse>>>getArgument(1).get());
+            given(memberRepository.existsById(member.getId())).willReturn(true);
+            given(videoRepository.findAllByMemberAndMaxVideoId(member.getId(), null, 18)).willReturn(videos);
+
+            // when
+            List<VideosResponse> res = videoService.findAllVideosByMember(member.getId(), null);
+
+            // then
+            assertThat(res).isEqualTo(videos);
+        }
+
+        @Test
+        @DisplayName("회원 영상 목록 조회 - 성공, 다음 페이지는 캐시하지 않는다")
+        void findAllVideosByMember_nextPage_notCached() {
+            // given
+            given(memberRepository.existsById(member.getId())).willReturn(true);
+            given(videoRepository.findAllByMemberAndMaxVideoId(member.getId(), 5L, 18)).willReturn(List.of());
+
+            // when
+            videoService.findAllVideosByMember(member.getId(), 5L);
+
+            // then
+            verify(memberVideoCache, never()).getFirstPage(any(), any());
+        }
+
+        @Test
+        @DisplayName("회원 영상 목록 조회 - 실패, 존재하지 않는 회원")
+        void findAllVideosByMember_notExistMember() {
+            // given
+            given(memberRepository.existsById(100L)).willReturn(false);
+
+            // when, then
+            assertThrows(NotExistMemberException.class, () -> videoService.findAllVideosByMember(100L, 5L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Video 조회 테스트")
+    class FindVideoTest {
+
+        @Test
+        @DisplayName("Video 조회 - 성공, 반영되지 않은 조회 수를 합산한다")
+        void findVideoById_mergePendingViewCount() throws Exception {
+            // given
+            given(videoRepository.findReadyVideoResponse(anyLong())).willReturn(Optional.of(VideoResponse.from(video)));
+            given(viewCounter.getPendingCount(video.getId())).willReturn(3L);
+            given(likeCounter.getCount(video.getId())).willReturn(5L);
 
-}
\ No newline at end of file
+            // when
+            VideoResponse videoResponse = videoService.findVideoById(video.getId());
+
+            // then
+            verify(viewCounter).increase(video.getId());
+            verify(videoRanking).recordView(video.getId());
+            assertThat(videoResponse.getViewCount()).isEqualTo(3L);
+            assertThat(video.getViewCount()).isZero();
+            assertThat(videoResponse.getLikeCount()).isEqualTo(5L);
+        }
+
+        @Test
+        @DisplayName("Video 조회 - 실패, 업로드가 끝나지 않은 영상은 조회되지 않는다")
+        void findVideoById_pendingVideo() throws Exception {
+            // given
+            given(videoRepository.findReadyVideoResponse(anyLong())).willReturn(Optional.empty());
+
+            // when, then
+            assertThrows(NotExistVideoException.class,
+                () -> videoService.findVideoById(11L));
+            verify(viewCounter, never()).increase(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("관리자 영상 목록 조회 테스트")
+    class AdminPageVideosTest {
+
+        private final Pageable pageable = PageRequest.of(0, 10);
+        private final ArgumentCaptor<LongSupplier> total = ArgumentCaptor.forClass(LongSupplier.class);
+        private Member admin;
+
+        @BeforeEach
+        void setUp() {
+            admin = Member.builder()
+                .id(1L)
+                .role(Role.ADMIN)
+                .build();
+        }
+
+        @Test
+        @DisplayName("관리자 영상 목록 - 조건이 없으면 캐시된 전체 개수를 사용한다")
+        void getAdminPageVideos_approximate() {
+            // given
+            given(videoTotalCount.get()).willReturn(100L);
+
+            // when
+            videoService.getAdminPageVideos(pageable, admin, null, CountStrategy.APPROXIMATE);
+
+            // then
+            verify(videoRepository).getAllVideos(eq(pageable), isNull(), total.capture());
+            assertThat(total.getValue().getAsLong()).isEqualTo(100L);
+            verify(videoRepository, never()).countVideos(any());
+        }
+
+        @Test
+        @DisplayName("관리자 영상 목록 - 사용자 조건이 있으면 같은 조건으로 센다")
+        void getAdminPageVideos_filteredCount() {
+            // given
+            given(videoRepository.countVideos(member.getId())).willReturn(4L);
+
+            // when
+            videoService.getAdminPageVideos(pageable, admin, member.getId(), CountStrategy.APPROXIMATE);
+
+            // then
+            verify(videoRepository).getAllVideos(eq(pageable), eq(member.getId()), total.capture());
+            assertThat(total.getValue().getAsLong()).isEqualTo(4L);
+            verify(videoTotalCount, never()).get();
+        }
+
+        @Test
+        @DisplayName("관리자 영상 목록 - EXACT 전략은 항상 count 쿼리를 실행한다")
+        void getAdminPageVideos_exact() {
+            // when
+            videoService.getAdminPageVideos(pageable, admin, null, CountStrategy.EXACT);
+
+            // then
+            verify(videoRepository).countVideos(null);
+        }
+
+        @Test
+        @DisplayName("관리자 영상 목록 - 실패, 관리자가 아닌 경우")
+        void getAdminPageVideos_notAdmin() {
+            // when, then
+            assertThrows(NoAccessPermissionException.class,
+                () -> videoService.getAdminPageVideos(pageable, member, null, CountStrategy.LAZY));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package numble.team4.shortformserver.video.application;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Path;
+import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
+import numble.team4.shortformserver.aws.dto.S3StagedFile;
+import numble.team4.shortformserver.aws.exception.AmazonClientException;
+import numble.team4.shortformserver.member.member.application.MemberStatsCounter;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoUploadPipelineTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long VIDEO_ID = 1L;
+
+    @Mock
+    private AmazonS3Uploader amazonS3Uploader;
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private MemberVideoCache memberVideoCache;
+
+    @Mock
+    private MemberStatsCounter memberStatsCounter;
+
+    @Mock
+    private HomeTimeline homeTimeline;
+
+    private VideoUploadPipeline videoUploadPipeline;
+    private S3StagedFile videoFile;
+    private S3StagedFile thumbnailFile;
+
+    @BeforeEach
+    void init() {
+        videoUploadPipeline = new VideoUploadPipeline(amazonS3Uploader, videoRepository, memberVideoCache, memberStatsCounter,
+            homeTimeline, Runnable::run, 3, 0L);
+        videoFile = new S3StagedFile("video/test.mov", "https://cdn.test/video/test.mov",
+            Path.of("video.tmp"), "video/quicktime", 10L);
+        thumbnailFile = new S3StagedFile("video/thumbnail/test.png", "https://cdn.test/video/thumbnail/test.png",
+            Path.of("thumbnail.tmp"), "image/png", 10L);
+    }
+
+    @Test
+    @DisplayName("[성공] 영상과 썸네일이 모두 올라가면 READY 상태가 된다")
+    void submit_success() {
+        //given
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.READY)).willReturn(1);
+
+        //when
+        videoUploadPipeline.submit(MEMBER_ID, VIDEO_ID, videoFile, thumbnailFile).join();
+
+        //then
+        verify(amazonS3Uploader).saveToS3(videoFile);
+        verify(amazonS3Uploader).saveToS3(thumbnailFile);
+        verify(amazonS3Uploader).discard(videoFile);
+        verify(amazonS3Uploader).discard(thumbnailFile);
+        verify(memberStatsCounter).increaseVideoCount(MEMBER_ID);
+        verify(memberVideoCache).evict(MEMBER_ID);
+        verify(homeTimeline).publish(MEMBER_ID, VIDEO_ID);
+    }
+
+    @Test
+    @DisplayName("[성공] 일시적인 실패는 재시도 후 READY 상태가 된다")
+    void submit_retry_success() {
+        //given
+        willThrow(new AmazonClientException())
+            .willDoNothing()
+            .given(amazonS3Uploader).saveToS3(videoFile);
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.READY)).willReturn(1);
+
+        //when
+        videoUploadPipeline.submit(MEMBER_ID, VIDEO_ID, videoFile, thumbnailFile).join();
+
+        //then
+        verify(amazonS3Uploader, times(2)).saveToS3(videoFile);
+        verify(videoRepository, never()).updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("[실패] 재시도 횟수를 넘기면 FAILED 상태가 되고 올라간 파일을 정리한다")
+    void submit_exceedMaxAttempts_failed() {
+        //given
+        willThrow(new AmazonClientException()).given(amazonS3Uploader).saveToS3(videoFile);
+        willDoNothing().given(amazonS3Uploader).saveToS3(thumbnailFile);
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.FAILED)).willReturn(1);
+
+        //when
+        videoUploadPipeline.submit(MEMBER_ID, VIDEO_ID, videoFile, thumbnailFile).join();
+
+        //then
+        verify(amazonS3Uploader, times(3)).saveToS3(videoFile);
+        verify(videoRepository).updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.FAILED);
+        verify(memberStatsCounter, never()).increaseVideoCount(MEMBER_ID);
+        verify(amazonS3Uploader).deleteToS3(thumbnailFile.getFileUrl());
+        verify(amazonS3Uploader).discard(videoFile);
+    }
+
+    @Test
+    @DisplayName("[성공] 업로드 중 영상이 삭제되었으면 올라간 파일을 정리한다")
+    void submit_deletedVideo_cleanUp() {
+        //given
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.READY)).willReturn(0);
+
+        //when
+        videoUploadPipeline.submit(MEMBER_ID, VIDEO_ID, videoFile, thumbnailFile).join();
+
+        //then
+        verify(amazonS3Uploader).deleteToS3(videoFile.getFileUrl());
+        verify(amazonS3Uploader).deleteToS3(thumbnailFile.getFileUrl());
+    }
+
+    @Test
+    @DisplayName("[실패] READY 로 바꾸다 예외가 나면 FAILED 상태가 되고 올라간 파일을 정리한다")
+    void submit_completeThrows_failed() {
+        //given
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.READY)).willThrow(new IllegalStateException());
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.FAILED)).willReturn(1);
+
+        //when
+        videoUploadPipeline.submit(MEMBER_ID, VIDEO_ID, videoFile, thumbnailFile).join();
+
+        //then
+        verify(videoRepository).updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.FAILED);
+        verify(amazonS3Uploader).deleteToS3(videoFile.getFileUrl());
+        verify(amazonS3Uploader).deleteToS3(thumbnailFile.getFileUrl());
+    }
+
+    @Test
+    @DisplayName("[성공] READY 로 바꾼 뒤 후속 작업이 실패해도 READY 영상의 파일은 지우지 않는다")
+    void submit_alreadyReady_notDeleted() {
+        //given
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.READY)).willReturn(1);
+        willThrow(new IllegalStateException()).given(memberVideoCache).evict(MEMBER_ID);
+        given(videoRepository.updateStatus(VIDEO_ID, VideoStatus.PENDING, VideoStatus.FAILED)).willReturn(0);
+
+        //when
+        videoUploadPipeline.submit(MEMBER_ID, VIDEO_ID, videoFile, thumbnailFile).join();
+
+        //then
+        verify(amazonS3Uploader, never()).deleteToS3(videoFile.getFileUrl());
+        verify(amazonS3Uploader, never()).deleteToS3(thumbnailFile.getFileUrl());
+    }
+}
@@ -0,0 +1,67 @@
+package numble.team4.shortformserver.video.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class VideoUploadRecoveryTest {
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private AmazonS3Uploader amazonS3Uploader;
+
+    private VideoUploadRecovery videoUploadRecovery;
+
+    @BeforeEach
+    void init() {
+        videoUploadRecovery = new VideoUploadRecovery(videoRepository, amazonS3Uploader, 3_600_000L);
+    }
+
+    @Test
+    @DisplayName("[성공] 이번에 FAILED 로 바꾼 영상의 임시 파일만 지운다")
+    void recover_onlyFailedVideos_discarded() {
+        //given
+        Video stale = createVideo(1L, "stale");
+        Video finished = createVideo(2L, "finished");
+        given(videoRepository.findByStatusAndCreateAtBefore(any(), any())).willReturn(List.of(stale, finished));
+        given(videoRepository.updateStatus(1L, VideoStatus.PENDING, VideoStatus.FAILED)).willReturn(1);
+        given(videoRepository.updateStatus(2L, VideoStatus.PENDING, VideoStatus.FAILED)).willReturn(0);
+
+        //when
+        videoUploadRecovery.recover();
+
+        //then
+        verify(amazonS3Uploader).discardStaged(stale.getVideoUrl());
+        verify(amazonS3Uploader).discardStaged(stale.getThumbnailUrl());
+        verify(amazonS3Uploader, never()).discardStaged(finished.getVideoUrl());
+        verify(amazonS3Uploader, never()).discardStaged(finished.getThumbnailUrl());
+    }
+
+    private Video createVideo(Long id, String name) {
+        Video video = Video.builder()
+            .title(name)
+            .videoUrl("https://cdn.test/video/" + name + ".mov")
+            .thumbnailUrl("https://cdn.test/video/thumbnail/" + name + ".png")
+            .status(VideoStatus.PENDING)
+            .build();
+        ReflectionTestUtils.setField(video, "id", id);
+        return video;
+    }
+}
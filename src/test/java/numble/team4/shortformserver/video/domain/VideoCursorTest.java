@@ -0,0 +1,42 @@
+package numble.team4.shortformserver.video.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import numble.team4.shortformserver.video.exception.InvalidVideoCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VideoCursorTest {
+
+    @Test
+    @DisplayName("커서를 토큰으로 만든 뒤 다시 읽을 수 있다.")
+    void encodeAndDecode() {
+        // given
+        VideoCursor cursor = VideoCursor.of(VideoSort.HITS, 120L, 35L);
+
+        // when
+        VideoCursor decoded = VideoCursor.decode(cursor.encode(), VideoSort.HITS);
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("정렬 방식이 다른 커서는 사용할 수 없다.")
+    void decode_otherSort_fail() {
+        // given
+        String token = VideoCursor.of(VideoSort.HITS, 120L, 35L).encode();
+
+        // when, then
+        assertThatThrownBy(() -> VideoCursor.decode(token, VideoSort.LIKES))
+            .isInstanceOf(InvalidVideoCursorException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 사용할 수 없다.")
+    void decode_malformed_fail() {
+        assertThatThrownBy(() -> VideoCursor.decode("not-a-cursor!", VideoSort.HITS))
+            .isInstanceOf(InvalidVideoCursorException.class);
+    }
+}
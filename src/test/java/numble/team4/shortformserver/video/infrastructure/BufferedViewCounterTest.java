@@ -0,0 +1,117 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedViewCounterTest {
+
+    @Mock
+    private VideoCounterJdbcRepository videoCounterJdbcRepository;
+
+    private BufferedViewCounter viewCounter;
+
+    @BeforeEach
+    void init() {
+        viewCounter = new BufferedViewCounter(videoCounterJdbcRepository, Runnable::run, 10000, true);
+    }
+
+    @Test
+    @DisplayName("[성공] 반영 전 조회 수 증가분은 메모리에서 조회된다")
+    void getPendingCount_beforeFlush_success() {
+        //when
+        viewCounter.increase(1L);
+        viewCounter.increase(1L);
+        viewCounter.increase(2L);
+
+        //then
+        assertThat(viewCounter.getPendingCount(1L)).isEqualTo(2L);
+        assertThat(viewCounter.getPendingCount(2L)).isEqualTo(1L);
+        assertThat(viewCounter.getPendingCount(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 영상별 증가분을 한 번에 반영하고 버퍼를 비운다")
+    void flush_aggregatedDeltas_success() {
+        //given
+        viewCounter.increase(1L);
+        viewCounter.increase(1L);
+        viewCounter.increase(2L);
+
+        //when
+        viewCounter.flush();
+
+        //then
+        verify(videoCounterJdbcRepository).increaseViewCounts(Map.of(1L, 2L, 2L, 1L));
+        assertThat(viewCounter.getPendingCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("[성공] 증가분이 없으면 DB에 반영하지 않는다")
+    void flush_empty_success() {
+        //when
+        viewCounter.flush();
+
+        //then
+        verify(videoCounterJdbcRepository, never()).increaseViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("[성공] 반영에 실패하면 증가분을 버퍼에 되돌린다")
+    void flush_restoreOnFailure_success() {
+        //given
+        viewCounter.increase(1L);
+        willThrow(new IllegalStateException()).given(videoCounterJdbcRepository).increaseViewCounts(anyMap());
+
+        //when
+        viewCounter.flush();
+
+        //then
+        assertThat(viewCounter.getPendingCount(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 최대 대기 개수에 도달하면 flush 스레드에 반영을 맡긴다")
+    void increase_overMaxPending_flush() {
+        //given
+        BufferedViewCounter boundedCounter = new BufferedViewCounter(videoCounterJdbcRepository, Runnable::run, 2, true);
+
+        //when
+        boundedCounter.increase(1L);
+        boundedCounter.increase(2L);
+
+        //then
+        verify(videoCounterJdbcRepository).increaseViewCounts(Map.of(1L, 1L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("[성공] 동시에 증가시켜도 누락 없이 집계된다")
+    void increase_concurrently_success() throws InterruptedException {
+        //given
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+        //when
+        for (int i = 0; i < 10000; i++) {
+            executorService.execute(() -> viewCounter.increase(1L));
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        assertThat(viewCounter.getPendingCount(1L)).isEqualTo(10000L);
+    }
+}
@@ -0,0 +1,258 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import numble.team4.shortformserver.follow.application.FollowGraph;
+import numble.team4.shortformserver.follow.application.FollowingLookup;
+import numble.team4.shortformserver.follow.domain.FollowEdge;
+import numble.team4.shortformserver.follow.domain.FollowRepository;
+import numble.team4.shortformserver.follow.infrastructure.InMemoryFollowGraph;
+import numble.team4.shortformserver.member.member.domain.MemberStatsRepository;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryHomeTimelineTest {
+
+    private static final Long AUTHOR_ID = 1_000_000L;
+    private static final Long FOLLOWER_ID = 1L;
+    private static final int TIMELINE_SIZE = 3;
+    private static final int CHUNK_SIZE = 1000;
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryHomeTimelineTest.class);
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private MemberStatsRepository memberStatsRepository;
+
+    @Mock
+    private FollowGraph followGraph;
+
+    @Mock
+    private FollowingLookup followingLookup;
+
+    private InMemoryHomeTimeline homeTimeline;
+
+    @BeforeEach
+    void init() {
+        homeTimeline = new InMemoryHomeTimeline(videoRepository, memberStatsRepository, followGraph, followingLookup,
+            Runnable::run, TIMELINE_SIZE, 100L, 600L, CHUNK_SIZE, 10_000L, true);
+    }
+
+    @Test
+    @DisplayName("[성공] 업로드한 영상이 피드를 읽은 팔로워의 타임라인에 들어간다")
+    void publish_pushToFollowerTimeline_success() {
+        //given
+        given(videoRepository.findFollowingVideoIds(eq(FOLLOWER_ID), isNull(), eq(TIMELINE_SIZE)))
+            .willReturn(List.of(3L, 1L));
+        given(followGraph.getFollowerIds(AUTHOR_ID, null, CHUNK_SIZE)).willReturn(List.of(FOLLOWER_ID, 2L));
+        homeTimeline.getVideoIds(FOLLOWER_ID, null, 10);
+
+        //when
+        homeTimeline.publish(AUTHOR_ID, 5L);
+
+        //then
+        assertThat(homeTimeline.getVideoIds(FOLLOWER_ID, null, 10)).containsExactly(5L, 3L, 1L);
+        assertThat(homeTimeline.getVideoIds(FOLLOWER_ID, 3L, 10)).containsExactly(1L);
+        verify(videoRepository, times(1)).findFollowingVideoIds(eq(FOLLOWER_ID), isNull(), eq(TIMELINE_SIZE));
+    }
+
+    @Test
+    @DisplayName("[성공] 버퍼에서 밀려난 구간은 DB 에서 조회한다")
+    void getVideoIds_truncated_fallbackToDatabase() {
+        //given
+        given(videoRepository.findFollowingVideoIds(eq(FOLLOWER_ID), isNull(), eq(TIMELINE_SIZE)))
+            .willReturn(List.of(5L, 4L, 3L));
+        given(videoRepository.findFollowingVideoIds(eq(FOLLOWER_ID), any(VideoCursor.class), eq(10)))
+            .willReturn(List.of(3L, 2L, 1L));
+
+        //when
+        List<Long> videoIds = homeTimeline.getVideoIds(FOLLOWER_ID, 4L, 10);
+
+        //then
+        assertThat(videoIds).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 팔로워가 많은 회원의 영상은 밀어 넣지 않고 읽을 때 합친다")
+    void getVideoIds_pullAuthor_merged() {
+        //given
+        given(memberStatsRepository.findMemberIdsByFollowerCountGreaterThanEqual(10_000L)).willReturn(List.of(AUTHOR_ID));
+        given(videoRepository.findFollowingVideoIds(eq(FOLLOWER_ID), isNull(), eq(TIMELINE_SIZE)))
+            .willReturn(List.of(3L, 1L));
+        given(followingLookup.findFollowIds(FOLLOWER_ID, Set.of(AUTHOR_ID))).willReturn(Map.of(AUTHOR_ID, 7L));
+        given(videoRepository.findVideoIdsByMembers(Set.of(AUTHOR_ID), null, 10)).willReturn(List.of(10L, 3L, 2L));
+        homeTimeline.refreshPullAuthors();
+
+        //when
+        homeTimeline.publish(AUTHOR_ID, 10L);
+        List<Long> videoIds = homeTimeline.getVideoIds(FOLLOWER_ID, null, 10);
+
+        //then
+        assertThat(videoIds).containsExactly(10L, 3L, 2L, 1L);
+        verify(followGraph, never()).getFollowerIds(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("[성공] single-node 가 아니면 다른 노드에서 올라온 영상을 DB 에서 읽어 타임라인에 합친다")
+    void getVideoIds_notSingleNode_mergeDatabase() {
+        //given
+        InMemoryHomeTimeline clusterTimeline = new InMemoryHomeTimeline(videoRepository, memberStatsRepository,
+            followGraph, followingLookup, Runnable::run, 10, 100L, 600L, CHUNK_SIZE, 10_000L, false);
+        given(videoRepository.findFollowingVideoIds(eq(FOLLOWER_ID), isNull(), eq(10)))
+            .willReturn(List.of(3L, 1L))
+            .willReturn(List.of(7L, 3L, 1L));
+        clusterTimeline.getVideoIds(FOLLOWER_ID, null, 10);
+
+        //when
+        List<Long> firstPage = clusterTimeline.getVideoIds(FOLLOWER_ID, null, 10);
+        List<Long> nextPage = clusterTimeline.getVideoIds(FOLLOWER_ID, 3L, 10);
+
+        //then
+        assertThat(firstPage).containsExactly(7L, 3L, 1L);
+        assertThat(nextPage).containsExactly(1L);
+        verify(videoRepository, never()).findFollowingVideoIds(eq(FOLLOWER_ID), any(VideoCursor.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("[성공] single-node 가 아니고 DB 페이지가 타임라인까지 닿지 않으면 DB 페이지를 그대로 돌려준다")
+    void getVideoIds_notSingleNode_gap_database() {
+        //given
+        InMemoryHomeTimeline clusterTimeline = new InMemoryHomeTimeline(videoRepository, memberStatsRepository,
+            followGraph, followingLookup, Runnable::run, TIMELINE_SIZE, 100L, 600L, CHUNK_SIZE, 10_000L, false);
+        given(videoRepository.findFollowingVideoIds(eq(FOLLOWER_ID), isNull(), eq(TIMELINE_SIZE)))
+            .willReturn(List.of(3L, 1L));
+        given(videoRepository.findFollowingVideoIds(eq(FOLLOWER_ID), isNull(), eq(2)))
+            .willReturn(List.of(9L, 8L));
+
+        //when
+        List<Long> videoIds = clusterTimeline.getVideoIds(FOLLOWER_ID, null, 2);
+
+        //then
+        assertThat(videoIds).containsExactly(9L, 8L);
+    }
+
+    @Test
+    @DisplayName("[성공] 실제 팔로우 그래프의 팔로워 모두에게 청크로 나눠 영상이 들어간다")
+    void fanOut_graphFollowers_success() {
+        //given
+        int followerCount = CHUNK_SIZE * 2 + 1;
+        InMemoryHomeTimeline graphTimeline = timelineWithFollowers(followerCount);
+
+        //when
+        graphTimeline.fanOut(AUTHOR_ID, 1L);
+
+        //then
+        assertThat(LongStream.rangeClosed(1, followerCount)
+            .allMatch(id -> graphTimeline.getVideoIds(id, null, 1).equals(List.of(1L)))).isTrue();
+    }
+
+    // 팔로워 수에 따른 fan-out 비용을 확인하기 위해 실제 InMemoryFollowGraph 로 측정한다.
+    // 10만 명까지 채우므로 -Dvideo.home-feed.benchmark=true 를 줄 때만 실행한다
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 100_000})
+    @EnabledIfSystemProperty(named = "video.home-feed.benchmark", matches = "true")
+    @DisplayName("[성공] 팔로워 수만큼 타임라인에 영상이 들어간다")
+    void fanOut_followers_benchmark(int followerCount) {
+        //given
+        InMemoryHomeTimeline benchmarkTimeline = timelineWithFollowers(followerCount);
+        for (long videoId = 1; videoId <= WARM_UP_ROUNDS; videoId++) {
+            benchmarkTimeline.fanOut(AUTHOR_ID, videoId);
+        }
+
+        //when
+        long[] latencies = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            benchmarkTimeline.fanOut(AUTHOR_ID, (long) WARM_UP_ROUNDS + i + 1);
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+
+        //then
+        long lastVideoId = WARM_UP_ROUNDS + MEASURE_ROUNDS;
+        log.info("fan-out followers={}, p50={}us, p99={}us",
+            followerCount, percentile(latencies, 50), percentile(latencies, 99));
+        assertThat(LongStream.rangeClosed(1, followerCount)
+            .allMatch(id -> benchmarkTimeline.getVideoIds(id, null, 1).equals(List.of(lastVideoId)))).isTrue();
+    }
+
+    private InMemoryHomeTimeline timelineWithFollowers(int followerCount) {
+        FollowRepository followRepository = mock(FollowRepository.class, withSettings().stubOnly());
+        given(followRepository.findEdgesAfter(eq(0L), any(Pageable.class))).willReturn(edges(followerCount));
+        InMemoryFollowGraph graph = new InMemoryFollowGraph(followRepository, followerCount + 1);
+        graph.reload();
+
+        VideoRepository stubVideoRepository = mock(VideoRepository.class, withSettings().stubOnly());
+        given(stubVideoRepository.findFollowingVideoIds(anyLong(), isNull(), eq(TIMELINE_SIZE))).willReturn(List.of());
+        InMemoryHomeTimeline timeline = new InMemoryHomeTimeline(stubVideoRepository, memberStatsRepository,
+            graph, followingLookup, Runnable::run, TIMELINE_SIZE, followerCount * 2L, 600L, CHUNK_SIZE, Long.MAX_VALUE,
+            true);
+        LongStream.rangeClosed(1, followerCount).forEach(id -> timeline.getVideoIds(id, null, 1));
+        return timeline;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(index, 0)]);
+    }
+
+    private List<FollowEdge> edges(int followerCount) {
+        return LongStream.rangeClosed(1, followerCount)
+            .mapToObj(id -> edge(id, id, AUTHOR_ID))
+            .collect(Collectors.toList());
+    }
+
+    private FollowEdge edge(Long id, Long fromMemberId, Long toMemberId) {
+        return new FollowEdge() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getFromMemberId() {
+                return fromMemberId;
+            }
+
+            @Override
+            public Long getToMemberId() {
+                return toMemberId;
+            }
+        };
+    }
+}
@@ -4,17 +4,24 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 import numble.team4.shortformserver.likevideo.domain.LikeVideo;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import numble.team4.shortformserver.member.member.domain.Role;
 import numble.team4.shortformserver.testCommon.BaseDataJpaTest;
+import numble.team4.shortformserver.testCommon.QueryCounter;
 import numble.team4.shortformserver.video.category.domain.Category;
 import numble.team4.shortformserver.video.category.domain.CategoryRepository;
 import numble.team4.shortformserver.video.category.exception.NotFoundCategoryException;
 import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
 import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.domain.VideoStatus;
+import numble.team4.shortformserver.video.dto.VideoResponse;
+import numble.team4.shortformserver.video.dto.VideosResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -107,15 +114,14 @@ class VideoCustomRepositoryTest {
     @MethodSource("valueSources")
     void findAllByMemberAndMaxVideoId_returnListHasSizeLessThanAndEqualLimitNum_success(Long id) {
         //given
-        long count = 5;
-        if (id != null) {
-            count = videoRepository.findAll().stream().map(Video::getId)
-                .filter(x -> x < id)
-                .count();
-        }
+        long count = videoRepository.findAll().stream()
+            .filter(video -> video.getMember().getId().equals(member1.getId()))
+            .map(Video::getId)
+            .filter(x -> id == null || x < id)
+            .count();
 
         //when
-        List<Video> res = videoRepository.findAllByMemberAndMaxVideoId(member1, id, 5);
+        List<VideosResponse> res = videoRepository.findAllByMemberAndMaxVideoId(member1.getId(), id, 5);
 
         //then
         assertThat(res).hasSize((count > 5) ? 5 : (int) count);
@@ -125,6 +131,17 @@ class VideoCustomRepositoryTest {
         }
     }
 
+    @Test
+    @DisplayName("[성공] 다른 사용자의 동영상은 목록에 포함되지 않는다")
+    void findAllByMemberAndMaxVideoId_otherMemberExcluded_success() {
+        //when
+        List<VideosResponse> res = videoRepository.findAllByMemberAndMaxVideoId(member2.getId(), null, 5);
+
+        //then
+        assertThat(res).extracting(VideosResponse::getId)
+            .containsExactly(videos.get(5).getId(), videos.get(4).getId());
+    }
+
     @ParameterizedTest
     @DisplayName("[성공] 사용자가 좋아요한 동영상 목록을 조회")
     @MethodSource("valueSources")
@@ -166,10 +183,10 @@ class VideoCustomRepositoryTest {
         );
 
         // when
-        List<Video> 키워드나이키최신순_id는_421순 = videoRepository.searchVideoByKeyword(null, "나이키", null);
-        List<Video> 키워드아이폰_id는_5 = videoRepository.searchVideoByKeyword(null, "아이폰", null);
-        List<Video> 키워드신발최신순_id_321순_커서적용 = videoRepository.searchVideoByKeyword(ids.get(4), "신발",
-            "");
+        List<Video> 키워드나이키최신순_id는_421순 = videoRepository.searchVideoByKeyword("나이키", VideoSort.LATEST, null);
+        List<Video> 키워드아이폰_id는_5 = videoRepository.searchVideoByKeyword("아이폰", VideoSort.LATEST, null);
+        List<Video> 키워드신발최신순_id_321순_커서적용 = videoRepository.searchVideoByKeyword("신발", VideoSort.LATEST,
+            VideoCursor.ofId(ids.get(4)));
 
         // then
         assertThat(키워드아이폰_id는_5).hasSize(1);
@@ -207,9 +224,9 @@ class VideoCustomRepositoryTest {
             firstId + 5
         );
         // when
-        List<Video> 키워드신발조회순_id는_4321순 = videoRepository.searchVideoByKeyword(null, "신발", "hits");
-        List<Video> 키워드신발조회순_id는_321순_커서적용 = videoRepository.searchVideoByKeyword(ids.get(4), "신발",
-            "hits");
+        List<Video> 키워드신발조회순_id는_4321순 = videoRepository.searchVideoByKeyword("신발", VideoSort.HITS, null);
+        List<Video> 키워드신발조회순_id는_321순_커서적용 = videoRepository.searchVideoByKeyword("신발", VideoSort.HITS,
+            videoRepository.findCursor(ids.get(4), VideoSort.HITS).orElseThrow());
 
         // then
         assertThat(키워드신발조회순_id는_4321순)
@@ -236,7 +253,7 @@ class VideoCustomRepositoryTest {
     @DisplayName("검색 조회 - 성공, 포함된 검색어가 없는 경우")
     void findByKeyword_notIncludeKeyword() {
         // when
-        List<Video> 해당하는_검색어가_없을때_사이즈는_0 = videoRepository.searchVideoByKeyword(null, "ㅁㄴㅇㄹ", null);
+        List<Video> 해당하는_검색어가_없을때_사이즈는_0 = videoRepository.searchVideoByKeyword("ㅁㄴㅇㄹ", VideoSort.LATEST, null);
 
         // then
         assertThat(해당하는_검색어가_없을때_사이즈는_0).isEmpty();
@@ -290,8 +307,8 @@ class VideoCustomRepositoryTest {
         };
 
         // when
-        List<Video> hits = videoRepository.getTopVideos("hits", 10);
-        List<Video> likes = videoRepository.getTopVideos("likes", 10);
+        List<Video> hits = videoRepository.getTopVideos(VideoSort.HITS, null, null, 10);
+        List<Video> likes = videoRepository.getTopVideos(VideoSort.LIKES, null, null, 10);
 
         // then
         assertThat(hits)
@@ -310,8 +327,8 @@ class VideoCustomRepositoryTest {
         long total = videoRepository.count();
 
         // when
-        Page<Video> page0size3 = videoRepository.getAllVideos(PageRequest.of(0, 3), total, null);
-        Page<Video> page1size3 = videoRepository.getAllVideos(PageRequest.of(1, 3), total, null);
+        Page<VideoResponse> page0size3 = videoRepository.getAllVideos(PageRequest.of(0, 3), null, () -> total);
+        Page<VideoResponse> page1size3 = videoRepository.getAllVideos(PageRequest.of(1, 3), null, () -> total);
 
         // then
         assertThat(page0size3.getContent().get(0).getTitle()).isEqualTo("우르오스");
@@ -322,17 +339,118 @@ class VideoCustomRepositoryTest {
     @Test
     @DisplayName("admin 영상 리스트 사용자별 영상 목록 조회 테스트")
     void adminVideoByMember() {
-        // given
-        long total = videoRepository.count();
-
         // when
-        Page<Video> member1Videos = videoRepository.getAllVideos(PageRequest.of(0, 10), total,
-            member1.getId());
-        Page<Video> member2Videos = videoRepository.getAllVideos(PageRequest.of(0, 10), total,
-            member2.getId());
+        Page<VideoResponse> member1Videos = videoRepository.getAllVideos(PageRequest.of(0, 10), member1.getId(),
+            () -> videoRepository.countVideos(member1.getId()));
+        Page<VideoResponse> member2Videos = videoRepository.getAllVideos(PageRequest.of(0, 10), member2.getId(),
+            () -> videoRepository.countVideos(member2.getId()));
 
         // then
         assertThat(member1Videos.getContent()).hasSize(4);
         assertThat(member2Videos.getContent()).hasSize(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("admin 영상 리스트 - 사용자 조건과 같은 조건으로 전체 개수를 센다")
+    void adminVideoByMember_totalElements() {
+        // when
+        Page<VideoResponse> member1Videos = videoRepository.getAllVideos(PageRequest.of(0, 2), member1.getId(),
+            () -> videoRepository.countVideos(member1.getId()));
+
+        // then
+        assertThat(member1Videos.getContent()).hasSize(2);
+        assertThat(member1Videos.getTotalElements()).isEqualTo(4);
+        assertThat(member1Videos.getTotalPages()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("admin 영상 리스트 - 마지막 페이지면 count 쿼리를 실행하지 않는다")
+    void adminVideoByMember_skipCount() {
+        // given
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        Page<VideoResponse> member2Videos = QueryCounter.assertQueryCount(1,
+            () -> videoRepository.getAllVideos(PageRequest.of(0, 10), member2.getId(),
+                () -> videoRepository.countVideos(member2.getId())));
+
+        // then
+        assertThat(member2Videos.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("admin 영상 리스트 - 카테고리와 작성자 정보를 한 번의 쿼리로 가져온다")
+    void adminVideos_singleQuery() {
+        // given
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        Page<VideoResponse> page = QueryCounter.assertQueryCount(1,
+            () -> videoRepository.getAllVideos(PageRequest.of(0, 10), null, () -> videos.size()));
+
+        // then
+        assertThat(page.getContent())
+            .hasSize(videos.size())
+            .allSatisfy(video -> {
+                assertThat(video.getCategory()).isEqualTo("구두/로퍼");
+                assertThat(video.getUser().getName()).isNotNull();
+            });
+    }
+
+    @Test
+    @DisplayName("영상 상세 조회 - 업로드가 끝난 영상만 한 번의 쿼리로 가져온다")
+    void findReadyVideoResponse_singleQuery() {
+        // given
+        Video pendingVideo = videoRepository.save(Video.builder()
+            .title("업로드 중")
+            .member(member1)
+            .videoUrl("VIDEO_URL")
+            .thumbnailUrl("THUMBNAIL_URL")
+            .price(1000)
+            .usedStatus(false)
+            .status(VideoStatus.PENDING)
+            .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        Optional<VideoResponse> ready = QueryCounter.assertQueryCount(1,
+            () -> videoRepository.findReadyVideoResponse(videos.get(0).getId()));
+        Optional<VideoResponse> pending = videoRepository.findReadyVideoResponse(pendingVideo.getId());
+
+        // then
+        assertThat(ready).isPresent();
+        assertThat(ready.get().getUser().getId()).isEqualTo(member1.getId());
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("커서 조회 - 조회 수를 지정하지 않은 영상은 0 으로 저장되어 다음 페이지에 포함된다")
+    void getTopVideos_defaultSortValue_notSkipped() {
+        // given
+        Category category = categoryRepository.findByName("구두/로퍼")
+            .orElseThrow(NotFoundCategoryException::new);
+        List<Video> nullHits = videoRepository.saveAll(List.of(
+            Video.builder().title("조회 수 없음1").member(member1).category(category).videoUrl("VIDEO_URL")
+                .thumbnailUrl("THUMBNAIL_URL").price(1000).usedStatus(false).build(),
+            Video.builder().title("조회 수 없음2").member(member1).category(category).videoUrl("VIDEO_URL")
+                .thumbnailUrl("THUMBNAIL_URL").price(1000).usedStatus(false).build()));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Video last = nullHits.get(1);
+
+        // when
+        List<Video> firstPage = videoRepository.getTopVideos(VideoSort.HITS, category.getId(), null, videos.size() + 1);
+        VideoCursor cursor = videoRepository.findCursor(firstPage.get(firstPage.size() - 1).getId(), VideoSort.HITS)
+            .orElseThrow();
+        List<Video> nextPage = videoRepository.getTopVideos(VideoSort.HITS, category.getId(), cursor, 10);
+
+        // then
+        assertThat(firstPage).extracting(Video::getId).containsExactly(
+            videos.get(5).getId(), videos.get(4).getId(), videos.get(3).getId(), videos.get(2).getId(),
+            videos.get(1).getId(), videos.get(0).getId(), last.getId());
+        assertThat(nextPage).extracting(Video::getId).containsExactly(nullHits.get(0).getId());
+    }
+}
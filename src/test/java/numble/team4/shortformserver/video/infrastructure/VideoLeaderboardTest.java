@@ -0,0 +1,232 @@
+package numble.team4.shortformserver.video.infrastructure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import numble.team4.shortformserver.video.category.domain.Category;
+import numble.team4.shortformserver.video.category.domain.CategoryRepository;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import numble.team4.shortformserver.video.domain.VideoTrendingWindow;
+import numble.team4.shortformserver.video.dto.VideoSliceResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class VideoLeaderboardTest {
+
+    private static final int SIZE = 3;
+    private static final Category SHOES = new Category(1L, "신발");
+    private static final Category BAGS = new Category(2L, "가방");
+
+    @Mock
+    private VideoRepository videoRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private VideoLeaderboard leaderboard;
+    private Video first;
+    private Video second;
+    private Video third;
+
+    @BeforeEach
+    void init() {
+        leaderboard = new VideoLeaderboard(videoRepository, categoryRepository, SIZE, true);
+        first = createVideo(1L, 10L, 1L, SHOES);
+        second = createVideo(2L, 5L, 7L, BAGS);
+        third = createVideo(3L, 2L, 0L, SHOES);
+
+        given(categoryRepository.findAll()).willReturn(List.of(SHOES));
+        given(videoRepository.getTopVideos(VideoSort.HITS, null, null, SIZE)).willReturn(List.of(first, second, third));
+        given(videoRepository.getTopVideos(VideoSort.LIKES, null, null, SIZE)).willReturn(List.of(second, first));
+    }
+
+    @Test
+    @DisplayName("[성공] 순위는 DB를 다시 조회하지 않고 스냅샷에서 읽는다")
+    void getTopVideos_fromSnapshot_success() {
+        //given
+        leaderboard.reconcile();
+
+        //when
+        VideoSliceResponse hits = leaderboard.getTopVideos(VideoSort.HITS, null, null, null, 2);
+        VideoSliceResponse likes = leaderboard.getTopVideos(VideoSort.LIKES, null, null, null, 2);
+
+        //then
+        assertThat(hits.getVideos()).extracting("id").containsExactly(1L, 2L);
+        assertThat(hits.getNextCursor()).isNotNull();
+        assertThat(likes.getVideos()).extracting("id").containsExactly(2L, 1L);
+        verify(videoRepository, times(1)).getTopVideos(VideoSort.HITS, null, null, SIZE);
+    }
+
+    @Test
+    @DisplayName("[성공] 조회 수 증가분을 게시하면 순위가 다시 정렬된다")
+    void publish_reorder_success() {
+        //given
+        leaderboard.reconcile();
+        for (int i = 0; i < 6; i++) {
+            leaderboard.recordView(2L);
+        }
+
+        //when
+        leaderboard.publish();
+
+        //then
+        assertThat(leaderboard.getTopVideos(VideoSort.HITS, null, null, null, 2).getVideos())
+            .extracting("id")
+            .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("[성공] 기간별 순위는 기간 안에 기록된 증가분으로 정렬된다")
+    void getTopVideos_trending_success() {
+        //given
+        leaderboard.recordView(3L);
+        leaderboard.recordView(3L);
+        leaderboard.recordView(1L);
+        given(videoRepository.findAllById(anyList())).willReturn(List.of(first, third));
+        leaderboard.reconcile();
+
+        //when
+        VideoSliceResponse trending = leaderboard.getTopVideos(VideoSort.HITS, null, VideoTrendingWindow.DAY, null, 2);
+
+        //then
+        assertThat(trending.getVideos()).extracting("id").containsExactly(3L, 1L);
+        assertThat(trending.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 카테고리의 기간별 순위는 그 카테고리 영상의 기간 안 증가분으로만 정렬된다")
+    void getTopVideos_categoryTrending_success() {
+        //given
+        for (int i = 0; i < 3; i++) {
+            leaderboard.recordView(2L);
+        }
+        leaderboard.recordView(3L);
+        given(videoRepository.findAllById(anyList())).willReturn(List.of(second, third));
+        leaderboard.reconcile();
+
+        //when
+        VideoSliceResponse all = leaderboard.getTopVideos(VideoSort.HITS, null, VideoTrendingWindow.DAY, null, 2);
+        VideoSliceResponse shoes = leaderboard.getTopVideos(VideoSort.HITS, SHOES.getId(), VideoTrendingWindow.DAY, null, 2);
+
+        //then
+        assertThat(all.getVideos()).extracting("id").containsExactly(2L, 3L);
+        assertThat(shoes.getVideos()).extracting("id").containsExactly(3L);
+        assertThat(shoes.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("[성공] 기간별 순위를 끄면 기간별 요청도 전체 기간 순위로 대신한다")
+    void getTopVideos_trendingDisabled_allTime() {
+        //given
+        VideoLeaderboard allTimeOnly = new VideoLeaderboard(videoRepository, categoryRepository, SIZE, false);
+        allTimeOnly.recordView(3L);
+        allTimeOnly.recordView(3L);
+        allTimeOnly.reconcile();
+
+        //when
+        VideoSliceResponse trending = allTimeOnly.getTopVideos(VideoSort.HITS, null, VideoTrendingWindow.DAY, null, 2);
+
+        //then
+        assertThat(trending.getVideos()).extracting("id").containsExactly(1L, 2L);
+        verify(videoRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("[성공] 지운 영상은 다음 reconcile 을 기다리지 않고 순위에서 빠진다")
+    void remove_deletedVideo_notRanked() {
+        //given
+        leaderboard.reconcile();
+
+        //when
+        leaderboard.remove(1L);
+
+        //then
+        assertThat(leaderboard.getTopVideos(VideoSort.HITS, null, null, null, 2).getVideos())
+            .extracting("id")
+            .containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("[성공] 순위표가 끝나면 같은 (정렬 값, id) 커서로 DB 에서 이어 읽고 순위표의 영상은 다시 주지 않는다")
+    void getTopVideos_beyondBoard_continueFromDatabase() {
+        //given
+        Video fourth = createVideo(4L, 1L, 0L, SHOES);
+        leaderboard.reconcile();
+        String cursor = leaderboard.getTopVideos(VideoSort.HITS, null, null, null, 2).getNextCursor();
+        given(videoRepository.getTopVideos(VideoSort.HITS, null, VideoCursor.of(VideoSort.HITS, 2L, 3L), 1 + SIZE))
+            .willReturn(List.of(second, fourth));
+
+        //when
+        VideoSliceResponse next = leaderboard.getTopVideos(VideoSort.HITS, null, null,
+            VideoCursor.decode(cursor, VideoSort.HITS), 2);
+
+        //then
+        assertThat(next.getVideos()).extracting("id").containsExactly(3L, 4L);
+        assertThat(next.getNextCursor()).isEqualTo(VideoCursor.of(fourth, VideoSort.HITS).encode());
+    }
+
+    @Test
+    @DisplayName("[성공] 게시하는 동안 기록된 증가분도 잃지 않는다")
+    void publish_concurrentRecord_noLostDelta() throws InterruptedException {
+        //given
+        int threadCount = 4;
+        int viewsPerThread = 5000;
+        leaderboard.reconcile();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicBoolean recording = new AtomicBoolean(true);
+
+        //when
+        executorService.execute(() -> {
+            while (recording.get()) {
+                leaderboard.publish();
+            }
+        });
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < viewsPerThread; j++) {
+                    leaderboard.recordView(1L);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        recording.set(false);
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        leaderboard.publish();
+
+        //then
+        String cursor = leaderboard.getTopVideos(VideoSort.HITS, null, null, null, 1).getNextCursor();
+        assertThat(VideoCursor.decode(cursor, VideoSort.HITS).getSortValue())
+            .isEqualTo(first.getViewCount() + (long) threadCount * viewsPerThread);
+    }
+
+    private Video createVideo(Long id, Long viewCount, Long likeCount, Category category) {
+        return Video.builder()
+            .id(id)
+            .thumbnailUrl("thumbnail URL " + id)
+            .viewCount(viewCount)
+            .likeCount(likeCount)
+            .category(category)
+            .build();
+    }
+}
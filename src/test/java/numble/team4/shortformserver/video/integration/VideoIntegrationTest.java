@@ -7,6 +7,7 @@ import static numble.team4.shortformserver.video.ui.VideoResponseMessage.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.List;
 import numble.team4.shortformserver.aws.application.AmazonS3Uploader;
 import numble.team4.shortformserver.common.dto.CommonResponse;
@@ -210,13 +211,24 @@ public class VideoIntegrationTest {
         @DisplayName("모든 영상 조회")
         void getAllVideo() {
             // given
-            int size = videoRepository.findAll().size();
+            long size = videoRepository.findAll().stream()
+                .filter(Video::isReady)
+                .count();
 
             // when
-            List<VideosResponse> all = videoController.getAllVideos().getData();
+            List<VideosResponse> all = new ArrayList<>();
+            String cursor = null;
+            do {
+                CommonResponse<List<VideosResponse>> page = videoController.getAllVideos(cursor, 2);
+                all.addAll(page.getData());
+                cursor = page.getNextCursor();
+            } while (cursor != null);
 
             // then
-            assertThat(all).hasSize(size);
+            assertThat(all)
+                .hasSize((int) size)
+                .extracting("id")
+                .doesNotHaveDuplicates();
         }
     }
 
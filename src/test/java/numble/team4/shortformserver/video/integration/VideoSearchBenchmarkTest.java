@@ -0,0 +1,175 @@
+package numble.team4.shortformserver.video.integration;
+
+import static numble.team4.shortformserver.member.member.domain.Role.MEMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import numble.team4.shortformserver.common.domain.SearchTokenizer;
+import numble.team4.shortformserver.member.member.domain.Member;
+import numble.team4.shortformserver.member.member.domain.MemberRepository;
+import numble.team4.shortformserver.video.category.domain.Category;
+import numble.team4.shortformserver.video.category.domain.CategoryRepository;
+import numble.team4.shortformserver.video.category.exception.NotFoundCategoryException;
+import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+// 같은 데이터에서 기존 LIKE '%kw%' 검색과 2-gram 토큰 색인 검색의 지연을 비교한다.
+// 영상을 대량으로 넣으므로 -Dvideo.search-benchmark=true 를 줄 때만 실행한다.
+// ./gradlew test --tests '*VideoSearchBenchmarkTest' -Dvideo.search-benchmark=true -Dvideo.search-benchmark.videos=1000000
+@SpringBootTest
+@ActiveProfiles("local")
+@TestInstance(Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "video.search-benchmark", matches = "true")
+class VideoSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoSearchBenchmarkTest.class);
+
+    private static final List<String> WORDS = List.of(
+        "나이키", "아디다스", "뉴발란스", "운동화", "스니커즈", "한정판", "새상품", "중고", "정품", "사이즈",
+        "sneakers", "jordan", "yeezy", "vintage", "limited", "boost", "retro", "classic", "white", "black");
+    private static final String RARE_WORD = "골든구스";
+    private static final int RARE_EVERY = 1000;
+    private static final int WORDS_PER_VIDEO = 5;
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int LIMIT = 18;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 200;
+    private static final String LIKE_QUERY =
+        "SELECT id FROM video WHERE (description LIKE ? OR title LIKE ?) AND status = 'READY' "
+            + "ORDER BY id DESC LIMIT " + LIMIT;
+
+    private final int videoCount = Integer.getInteger("video.search-benchmark.videos", 100_000);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Member member;
+    private long firstVideoId;
+
+    // 데이터를 넣는 데 오래 걸리므로 모든 검색어가 같은 데이터를 쓴다
+    @BeforeAll
+    void init() {
+        Category category = categoryRepository.findByName("기타")
+            .orElseThrow(NotFoundCategoryException::new);
+        member = memberRepository.save(Member.builder()
+            .name("benchmark")
+            .role(MEMBER)
+            .emailVerified(true)
+            .build());
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM video", Long.class);
+        firstVideoId = maxId + 1;
+        seed(category.getId());
+        jdbcTemplate.execute("ANALYZE TABLE video, video_search_token");
+    }
+
+    @AfterAll
+    void clear() {
+        jdbcTemplate.update("DELETE FROM video_search_token WHERE video_id >= ?", firstVideoId);
+        jdbcTemplate.update("DELETE FROM video WHERE id >= ?", firstVideoId);
+        memberRepository.deleteById(member.getId());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"나이키", RARE_WORD, "jordan retro"})
+    @DisplayName("[성공] 토큰 색인 검색은 LIKE 검색과 같은 결과를 돌려주고 p50/p99 지연을 기록한다")
+    void searchVideoByKeyword_comparedToLike(String keyword) {
+        //given
+        Supplier<List<Long>> like = () -> jdbcTemplate.queryForList(LIKE_QUERY, Long.class,
+            "%" + keyword + "%", "%" + keyword + "%");
+        Supplier<List<Long>> indexed = () -> videoRepository.searchVideoByKeyword(keyword, VideoSort.LATEST, null)
+            .stream()
+            .map(Video::getId)
+            .collect(Collectors.toList());
+
+        //when
+        long[] likeLatencies = measure(like);
+        long[] indexedLatencies = measure(indexed);
+
+        //then
+        log.info("search benchmark videos={}, keyword={}, like p50={}us p99={}us, indexed p50={}us p99={}us",
+            videoCount, keyword,
+            percentile(likeLatencies, 50), percentile(likeLatencies, 99),
+            percentile(indexedLatencies, 50), percentile(indexedLatencies, 99));
+        assertThat(indexed.get()).containsExactlyElementsOf(like.get());
+    }
+
+    // 토큰은 Video.indexSearchTokens 와 같은 SearchTokenizer 로 만들어 JDBC 로 바로 넣는다
+    private void seed(Long categoryId) {
+        Random random = new Random(42L);
+        for (int from = 0; from < videoCount; from += INSERT_CHUNK_SIZE) {
+            int to = Math.min(from + INSERT_CHUNK_SIZE, videoCount);
+            List<Object[]> videos = new ArrayList<>(to - from);
+            List<Object[]> tokens = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                long id = firstVideoId + i;
+                String title = words(random, 2);
+                String description = (i % RARE_EVERY == 0) ? words(random, WORDS_PER_VIDEO - 1) + " " + RARE_WORD
+                    : words(random, WORDS_PER_VIDEO);
+                videos.add(new Object[]{id, title, description, categoryId, member.getId()});
+                SearchTokenizer.tokenize(title, description)
+                    .forEach(token -> tokens.add(new Object[]{id, token}));
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO video (id, title, description, thumbnail_url, video_url, used_status, "
+                + "price, view_count, like_count, status, category_id, member_id) "
+                + "VALUES (?, ?, ?, 'thumbnail', 'video', 1, 1000, 0, 0, 'READY', ?, ?)", videos);
+            jdbcTemplate.batchUpdate("INSERT INTO video_search_token (video_id, token) VALUES (?, ?)", tokens);
+        }
+    }
+
+    private String words(Random random, int count) {
+        return random.ints(count, 0, WORDS.size())
+            .mapToObj(WORDS::get)
+            .collect(Collectors.joining(" "));
+    }
+
+    private long[] measure(Supplier<List<Long>> search) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            search.get();
+        }
+
+        long[] latencies = new long[MEASURE_ROUNDS];
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long startedAt = System.nanoTime();
+            search.get();
+            latencies[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(index, 0)]);
+    }
+}
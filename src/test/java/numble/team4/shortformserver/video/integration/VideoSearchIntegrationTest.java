@@ -12,7 +12,9 @@ import numble.team4.shortformserver.video.category.domain.Category;
 import numble.team4.shortformserver.video.category.domain.CategoryRepository;
 import numble.team4.shortformserver.video.category.exception.NotFoundCategoryException;
 import numble.team4.shortformserver.video.domain.Video;
+import numble.team4.shortformserver.video.domain.VideoCursor;
 import numble.team4.shortformserver.video.domain.VideoRepository;
+import numble.team4.shortformserver.video.domain.VideoSort;
 import numble.team4.shortformserver.video.dto.VideoListRequest;
 import numble.team4.shortformserver.video.dto.VideosResponse;
 import numble.team4.shortformserver.video.dto.VideoSearchRequest;
@@ -112,7 +114,7 @@ class VideoSearchIntegrationTest {
 
         // when
         List<VideosResponse> res = videoController.searchVideoByKeyword(
-                new VideoSearchRequest(keyword, null), null)
+                new VideoSearchRequest(keyword, null), null, null)
             .getData();
 
         // then
@@ -122,6 +124,38 @@ class VideoSearchIntegrationTest {
             .containsExactly(values);
     }
 
+    @Test
+    @DisplayName("검색 기능 단어 일부 검색 - 성공")
+    void findByKeyword_partialWord() {
+        // given
+        String keyword = "발렌";
+
+        // when
+        List<VideosResponse> res = videoController.searchVideoByKeyword(
+            new VideoSearchRequest(keyword, null), null, null).getData();
+
+        // then
+        assertThat(res)
+            .extracting("id")
+            .containsExactly(ids.get(9), ids.get(8));
+    }
+
+    @Test
+    @DisplayName("검색 기능 한 글자 검색 - 성공")
+    void findByKeyword_singleCharacter() {
+        // given
+        String keyword = "발";
+
+        // when
+        List<VideosResponse> res = videoController.searchVideoByKeyword(
+            new VideoSearchRequest(keyword, null), null, null).getData();
+
+        // then
+        assertThat(res)
+            .extracting("id")
+            .containsExactly(ids.get(9), ids.get(8), ids.get(3));
+    }
+
     @Test
     @DisplayName("검색 기능 최신순 정렬 - 성공, 커서 기반")
     void findByKey_sortById() {
@@ -142,7 +176,7 @@ class VideoSearchIntegrationTest {
 
         // when
         List<VideosResponse> data = videoController.searchVideoByKeyword(
-            new VideoSearchRequest(keyword, null), ids.get(10)).getData();
+            new VideoSearchRequest(keyword, null), null, ids.get(10)).getData();
 
         // then
         assertThat(data)
@@ -173,7 +207,7 @@ class VideoSearchIntegrationTest {
 
         // when
         List<VideosResponse> lastId가_null = videoController.searchVideoByKeyword(
-            new VideoSearchRequest(keyword, "hits"), null).getData();
+            new VideoSearchRequest(keyword, "hits"), null, null).getData();
 
         // then
         assertThat(lastId가_null)
@@ -195,7 +229,7 @@ class VideoSearchIntegrationTest {
 
         // when
         List<VideosResponse> lastId는8 = videoController.searchVideoByKeyword(
-            new VideoSearchRequest(keyword,"hits"), ids.get(7)).getData();
+            new VideoSearchRequest(keyword,"hits"), null, ids.get(7)).getData();
 
         // then
         assertThat(lastId는8)
@@ -213,7 +247,7 @@ class VideoSearchIntegrationTest {
 
         // when
         List<VideosResponse> 정렬_순서_325 = videoController.searchVideoByKeyword(
-            new VideoSearchRequest(keyword, "hits"), null).getData();
+            new VideoSearchRequest(keyword, "hits"), null, null).getData();
 
         // then
         assertThat(정렬_순서_325)
@@ -222,6 +256,33 @@ class VideoSearchIntegrationTest {
             .containsExactly(value);
     }
 
+    @Test
+    @DisplayName("검색 기능 좋아요순 정렬 - 성공, 커서 토큰 기반")
+    void findByKeyword_sortByLikes_cursor() {
+        // given
+        String keyword = "공통";
+        String cursor = VideoCursor.of(VideoSort.LIKES, 5L, ids.get(7)).encode();
+        Object[] values = new Object[]{
+            ids.get(6),
+            ids.get(5),
+            ids.get(4),
+            ids.get(3),
+            ids.get(2),
+            ids.get(1),
+            ids.get(0)
+        };
+
+        // when
+        List<VideosResponse> res = videoController.searchVideoByKeyword(
+            new VideoSearchRequest(keyword, "likes"), cursor, null).getData();
+
+        // then
+        assertThat(res)
+            .hasSize(values.length)
+            .extracting("id")
+            .containsExactly(values);
+    }
+
     @Test
     @DisplayName("검색 페이지 top10 영상 가져오기 - 성공")
     void getVideoTop10() {
@@ -253,9 +314,9 @@ class VideoSearchIntegrationTest {
         };
 
         // when
-        List<VideosResponse> hits = videoController.getTopVideos(new VideoListRequest("hits", 10))
+        List<VideosResponse> hits = videoController.getTopVideos(new VideoListRequest("hits", 10), null, null, null)
             .getData();
-        List<VideosResponse> likes = videoController.getTopVideos(new VideoListRequest("likes", 10))
+        List<VideosResponse> likes = videoController.getTopVideos(new VideoListRequest("likes", 10), null, null, null)
             .getData();
 
         // then
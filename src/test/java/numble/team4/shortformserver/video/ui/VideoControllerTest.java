@@ -23,10 +23,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Optional;
 import numble.team4.shortformserver.common.config.SecurityConfig;
+import numble.team4.shortformserver.likevideo.application.LikeVideoService;
 import numble.team4.shortformserver.member.member.domain.Member;
 import numble.team4.shortformserver.member.member.domain.MemberRepository;
 import numble.team4.shortformserver.member.member.exception.NoAccessPermissionException;
 import numble.team4.shortformserver.testCommon.mockUser.WithMockCustomUser;
+import numble.team4.shortformserver.video.application.HomeFeedService;
+import numble.team4.shortformserver.video.application.VideoFeedService;
+import numble.team4.shortformserver.video.application.VideoSearchIndexService;
 import numble.team4.shortformserver.video.application.VideoService;
 import numble.team4.shortformserver.video.category.domain.Category;
 import numble.team4.shortformserver.video.category.domain.CategoryRepository;
@@ -81,6 +85,18 @@ class VideoControllerTest {
     @MockBean
     private VideoService videoService;
 
+    @MockBean
+    private VideoSearchIndexService videoSearchIndexService;
+
+    @MockBean
+    private VideoFeedService videoFeedService;
+
+    @MockBean
+    private LikeVideoService likeVideoService;
+
+    @MockBean
+    private HomeFeedService homeFeedService;
+
     private VideoRequest videoRequest;
     private Member member;
     private Video video;